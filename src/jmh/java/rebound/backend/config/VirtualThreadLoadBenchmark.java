@@ -0,0 +1,124 @@
+package rebound.backend.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import rebound.backend.BackendApplication;
+import rebound.backend.category.entity.SubCategory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드(톰캣 기본 풀) 와 가상 스레드 모드의 HTTP 처리량/지연 비교 부하 테스트.
+ * 실제 포트로 앱을 띄우고 클라이언트 스레드 256 개가 목록/상세 조회를 쉬지 않고 보낸다.
+ * Throughput 은 초당 요청 수, SampleTime 은 요청 지연 분포(p0.99 가 p99)를 보여준다.
+ * 톰캣 최대 스레드를 64 로 줄여 클라이언트 수가 요청 스레드보다 많은 상황을 만든다 (가상 스레드 모드에서는 무시된다).
+ * 가상 스레드 모드에서는 DB 입장 제한(db.admission)이 함께 켜진다.
+ * 실행: ./gradlew jmh -Pjmh.includes=VirtualThreadLoad (클라이언트 수는 JMH -t 로 바꿀 수 있다)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int MEMBERS = 200;
+    private static final int POSTS = 2_000;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("jmh")
+                .properties(
+                        "spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        "server.tomcat.threads.max=64",
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        // 익명 상세 응답 캐시는 스레드 모드와 무관하게 DB 를 건너뛰므로 끈다
+                        "http.precompressed-cache.enabled=false")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/posts";
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int recentList() throws IOException, InterruptedException {
+        int page = ThreadLocalRandom.current().nextInt(20);
+        return get(baseUrl + "/recent?page=" + page + "&size=20");
+    }
+
+    @Benchmark
+    public int postDetail() throws IOException, InterruptedException {
+        long postId = 1 + ThreadLocalRandom.current().nextInt(POSTS);
+        return get(baseUrl + "/" + postId);
+    }
+
+    private int get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().minusDays(60);
+        SubCategory[] subCategories = SubCategory.values();
+
+        List<Object[]> members = new ArrayList<>(MEMBERS);
+        for (long id = 1; id <= MEMBERS; id++) {
+            members.add(new Object[]{id, "회원" + id, "bench" + id, 20 + (int) (id % 20), "LOCAL_LOGIN"});
+        }
+        jdbc.batchUpdate("INSERT INTO member (member_id, nickname, login_id, age, provider) VALUES (?, ?, ?, ?, ?)", members);
+
+        List<Object[]> posts = new ArrayList<>(POSTS);
+        List<Object[]> contents = new ArrayList<>(POSTS);
+        for (long id = 1; id <= POSTS; id++) {
+            SubCategory sub = subCategories[random.nextInt(subCategories.length)];
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(id * 30));
+            posts.add(new Object[]{id, 1 + random.nextInt(MEMBERS), sub.getMainCategory().name(), sub.name(),
+                    "실패 경험 공유 " + id, random.nextInt(5) == 0, createdAt, createdAt, "PUBLIC"});
+            contents.add(new Object[]{id, id, "상황 ".repeat(80), "실패 ".repeat(80), "배움 ".repeat(80), "다음 ".repeat(80)});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO post (post_id, member_id, main_category, sub_category, title, is_anonymous,
+                                  created_at, updated_at, status, like_count, bookmark_count, comment_count, popularity_score)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0)
+                """, posts);
+        jdbc.batchUpdate("""
+                INSERT INTO post_content (content_id, post_id, situation_content, failure_content, learning_content, next_step_content)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, contents);
+    }
+}
@@ -0,0 +1,38 @@
+package rebound.backend.member.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청마다 실행되는 토큰 생성/검증 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("jmh-benchmark-secret-key-which-is-long-enough-for-hs256");
+        token = jwtUtil.createToken(12345L);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(12345L);
+    }
+
+    @Benchmark
+    public String getMemberIdFromToken() {
+        return jwtUtil.getMemberIdFromToken(token);
+    }
+
+    @Benchmark
+    public JwtUtil.TokenClaims parse() {
+        return jwtUtil.parse(token);
+    }
+}
@@ -0,0 +1,92 @@
+package rebound.backend.post.dto;
+
+import org.openjdk.jmh.annotations.*;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.member.domain.Member;
+import rebound.backend.member.domain.MemberImage;
+import rebound.backend.post.entity.*;
+import rebound.backend.tag.entity.Tag;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 (목록 한 건당 호출되는 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private Post post;
+    private Post anonymousPost;
+    private Member author;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        author = Member.builder().id(1L).nickname("실패전문가").loginId("bench").build();
+        author.setMemberImage(MemberImage.builder()
+                .imageUrl("https://bench-bucket.s3.ap-northeast-2.amazonaws.com/uuid-profile.jpg")
+                .member(author)
+                .build());
+
+        post = samplePost(1L, false);
+        anonymousPost = samplePost(2L, true);
+
+        comment = Comment.builder()
+                .commentId(1L)
+                .postId(1L)
+                .memberId(1L)
+                .content("저도 비슷한 경험이 있어서 많이 공감됩니다. 다음엔 꼭 잘 되실 거예요!")
+                .isAnonymous(true)
+                .likeCount(3)
+                .status(CommentStatus.PUBLIC)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Benchmark
+    public PostResponse postResponseFrom() {
+        return PostResponse.from(post, author, 42L, 7L, true, false, true);
+    }
+
+    @Benchmark
+    public PostResponse postResponseFromAnonymous() {
+        return PostResponse.from(anonymousPost, author, 42L, 7L, false, false, false);
+    }
+
+    @Benchmark
+    public CommentResponse commentResponseFrom() {
+        return CommentResponse.from(comment, author, author.getMemberImage());
+    }
+
+    private static Post samplePost(long id, boolean anonymous) {
+        Post post = Post.builder()
+                .postId(id)
+                .memberId(1L)
+                .mainCategory(SubCategory.BURNOUT.getMainCategory())
+                .subCategory(SubCategory.BURNOUT)
+                .title("첫 창업에서 배운 세 가지 실패 이야기")
+                .isAnonymous(anonymous)
+                .status(Post.Status.PUBLIC)
+                .createdAt(LocalDateTime.now())
+                .build();
+        post.setPostContent(PostContent.builder()
+                .post(post)
+                .situationContent("상황 ".repeat(200))
+                .failureContent("실패 ".repeat(200))
+                .learningContent("배움 ".repeat(200))
+                .nextStepContent("다음 ".repeat(200))
+                .build());
+        for (int i = 0; i < 3; i++) {
+            post.addImage(PostImage.builder()
+                    .imageUrl("https://bench-bucket.s3.ap-northeast-2.amazonaws.com/uuid-" + i + ".jpg")
+                    .imageOrder(i)
+                    .build());
+            post.getTags().add(Tag.builder().tagId((long) i).name("태그" + i).build());
+        }
+        return post;
+    }
+}
@@ -0,0 +1,138 @@
+package rebound.backend.post.feed;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import rebound.backend.BackendApplication;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.dto.PostSummary;
+import rebound.backend.post.dto.SliceResponse;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.repository.PostRepository;
+import rebound.backend.post.service.PostService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 피드 pull(관심 대분류 IN + 최신순 조회) 과 push(fan-out 버퍼 조각) 비교.
+ * 읽기: 첫 페이지와 커서로 이어 읽은 세 번째 페이지 (하이드레이션 포함)
+ * 쓰기: 공개 글 하나를 관심 회원 버퍼에 넣는 비용 (push 모드만 의미 있음)
+ * 회원 수는 현재 규모(수백)와 10 배 규모를 함께 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class HomeFeedBenchmark {
+
+    private static final int POSTS = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"pull", "push"})
+    public String mode;
+
+    @Param({"500", "5000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private HomeFeedService homeFeedService;
+    private Post samplePost;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("jmh")
+                .properties("feed.fanout.enabled=" + "push".equals(mode))
+                .run();
+        postService = context.getBean(PostService.class);
+        homeFeedService = context.getBean(HomeFeedService.class);
+        seed(context.getBean(JdbcTemplate.class), members);
+        samplePost = context.getBean(PostRepository.class).findById((long) POSTS).orElseThrow();
+
+        // push 모드: 모든 회원이 한 번씩 홈 피드를 읽어 버퍼가 활성화된 상태에서 측정
+        if (homeFeedService.enabled()) {
+            for (long id = 1; id <= members; id++) {
+                homeFeedService.slice(id, null, PAGE_SIZE);
+            }
+        }
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public SliceResponse<PostSummary> firstPage() {
+        return postService.getHomeFeedByCursor(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public SliceResponse<PostSummary> thirdPage() {
+        SliceResponse<PostSummary> page = postService.getHomeFeedByCursor(null, PAGE_SIZE);
+        page = postService.getHomeFeedByCursor(page.nextCursor(), PAGE_SIZE);
+        return postService.getHomeFeedByCursor(page.nextCursor(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public int fanOutOnePost() {
+        homeFeedService.fanOut(samplePost);
+        return homeFeedService.activeMembers();
+    }
+
+    /** 회원마다 관심 대분류 1~2 개, 게시글은 대분류 고르게 */
+    private static void seed(JdbcTemplate jdbc, int members) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().minusDays(180);
+        MainCategory[] mainCategories = MainCategory.values();
+        SubCategory[] subCategories = SubCategory.values();
+
+        List<Object[]> memberRows = new ArrayList<>(members);
+        List<Object[]> interests = new ArrayList<>(members * 2);
+        for (long id = 1; id <= members; id++) {
+            memberRows.add(new Object[]{id, "회원" + id, "bench" + id, 20 + (int) (id % 20), "LOCAL_LOGIN"});
+            int first = random.nextInt(mainCategories.length);
+            interests.add(new Object[]{id, mainCategories[first].name()});
+            if (random.nextBoolean()) {
+                interests.add(new Object[]{id, mainCategories[(first + 1) % mainCategories.length].name()});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO member (member_id, nickname, login_id, age, provider) VALUES (?, ?, ?, ?, ?)", memberRows);
+        jdbc.batchUpdate("INSERT INTO interest (member_id, main_category) VALUES (?, ?)", interests);
+
+        List<Object[]> posts = new ArrayList<>(POSTS);
+        List<Object[]> contents = new ArrayList<>(POSTS);
+        for (long id = 1; id <= POSTS; id++) {
+            SubCategory sub = subCategories[random.nextInt(subCategories.length)];
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(id * 25));
+            posts.add(new Object[]{id, 1 + random.nextInt(members), sub.getMainCategory().name(), sub.name(),
+                    "실패 경험 공유 " + id, random.nextInt(5) == 0, createdAt, createdAt,
+                    random.nextInt(20) == 0 ? "HIDDEN" : "PUBLIC"});
+            contents.add(new Object[]{id, id, "상황 ".repeat(80), "실패 ".repeat(80), "배움 ".repeat(80), "다음 ".repeat(80)});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO post (post_id, member_id, main_category, sub_category, title, is_anonymous,
+                                  created_at, updated_at, status, like_count, bookmark_count, comment_count, popularity_score)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0)
+                """, posts);
+        jdbc.batchUpdate("""
+                INSERT INTO post_content (content_id, post_id, situation_content, failure_content, learning_content, next_step_content)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, contents);
+    }
+}
@@ -0,0 +1,196 @@
+package rebound.backend.post.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import rebound.backend.BackendApplication;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.dto.PostSummary;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.repository.PostSpecification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 피드 한 페이지 비용 (id 조회 + PostSummary 카드 배치 조립)
+ * 내장 H2 에 운영과 비슷한 비율의 데이터를 채운 뒤 최신순 피드를 비로그인/로그인 사용자로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class FeedBenchmark {
+
+    private static final int MEMBERS = 500;
+    private static final int POSTS = 10_000;
+    private static final int TAGS = 50;
+    private static final int REACTIONS = 100_000;
+    private static final int BOOKMARKS = 20_000;
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("jmh")
+                .run();
+        postService = context.getBean(PostService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /** 로그인 사용자 기준 측정용 (JMH 스레드마다 SecurityContext 설정) */
+    @State(Scope.Thread)
+    public static class Viewer {
+        @Setup(Level.Trial)
+        public void login() {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        }
+
+        @TearDown(Level.Trial)
+        public void logout() {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Page<PostSummary> recentFeedAnonymous() {
+        SecurityContextHolder.clearContext();
+        return postService.getRecentPosts(PageRequest.of(3, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    @Benchmark
+    public Page<PostSummary> recentFeedLoggedIn(Viewer viewer) {
+        return postService.getRecentPosts(PageRequest.of(3, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    @Benchmark
+    public Page<PostSummary> categoryFeed() {
+        return postService.getPosts(MainCategory.ADMISSION, SubCategory.ADMISSION_STRATEGY_ERROR,
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    /** Specification 조합 + Criteria 술어 생성 (SQL 실행 제외) */
+    @Benchmark
+    public Predicate specificationPredicate() {
+        Specification<Post> spec = PostSpecification.isPublic()
+                .and(PostSpecification.hasMainCategory(MainCategory.ADMISSION))
+                .and(PostSpecification.hasSubCategory(SubCategory.ADMISSION_STRATEGY_ERROR))
+                .and(PostSpecification.searchByKeyword("실패"))
+                .and(PostSpecification.createdBefore(LocalDateTime.now(), 5_000L));
+        CriteriaBuilder cb = entityManagerFactory.getCriteriaBuilder();
+        CriteriaQuery<Post> query = cb.createQuery(Post.class);
+        Root<Post> root = query.from(Post.class);
+        return spec.toPredicate(root, query, cb);
+    }
+
+    /** JdbcTemplate 배치 INSERT 로 시드 데이터 적재 */
+    private static void seed(JdbcTemplate jdbc) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().minusDays(180);
+        SubCategory[] subCategories = SubCategory.values();
+
+        List<Object[]> members = new ArrayList<>(MEMBERS);
+        for (long id = 1; id <= MEMBERS; id++) {
+            members.add(new Object[]{id, "회원" + id, "bench" + id, 20 + (int) (id % 20), "LOCAL_LOGIN"});
+        }
+        jdbc.batchUpdate("INSERT INTO member (member_id, nickname, login_id, age, provider) VALUES (?, ?, ?, ?, ?)", members);
+
+        List<Object[]> images = new ArrayList<>();
+        for (long id = 1; id <= MEMBERS; id += 2) {
+            images.add(new Object[]{id, "https://bench-bucket.s3.ap-northeast-2.amazonaws.com/profile-" + id + ".jpg", id});
+        }
+        jdbc.batchUpdate("INSERT INTO member_image (member_image_id, image_url, member_id) VALUES (?, ?, ?)", images);
+
+        List<Object[]> tags = new ArrayList<>(TAGS);
+        for (long id = 1; id <= TAGS; id++) {
+            tags.add(new Object[]{id, "태그" + id});
+        }
+        jdbc.batchUpdate("INSERT INTO tag (tag_id, name) VALUES (?, ?)", tags);
+
+        List<Object[]> posts = new ArrayList<>(POSTS);
+        List<Object[]> contents = new ArrayList<>(POSTS);
+        List<Object[]> postTags = new ArrayList<>(POSTS * 3);
+        List<Object[]> postImages = new ArrayList<>();
+        for (long id = 1; id <= POSTS; id++) {
+            SubCategory sub = subCategories[random.nextInt(subCategories.length)];
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(id * 25));
+            posts.add(new Object[]{id, 1 + random.nextInt(MEMBERS), sub.getMainCategory().name(), sub.name(),
+                    "실패 경험 공유 " + id, random.nextInt(5) == 0, createdAt, createdAt,
+                    random.nextInt(20) == 0 ? "HIDDEN" : "PUBLIC"});
+            contents.add(new Object[]{id, id, "상황 ".repeat(80), "실패 ".repeat(80), "배움 ".repeat(80), "다음 ".repeat(80)});
+            long firstTag = 1 + random.nextInt(TAGS);
+            for (int t = 0; t < 3; t++) {
+                postTags.add(new Object[]{id, 1 + (firstTag + t * 7) % TAGS});
+            }
+            if (id % 3 == 0) {
+                postImages.add(new Object[]{id, "https://bench-bucket.s3.ap-northeast-2.amazonaws.com/post-" + id + ".jpg", 0, id});
+            }
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO post (post_id, member_id, main_category, sub_category, title, is_anonymous,
+                                  created_at, updated_at, status, like_count, bookmark_count, comment_count, popularity_score)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0)
+                """, posts);
+        jdbc.batchUpdate("""
+                INSERT INTO post_content (content_id, post_id, situation_content, failure_content, learning_content, next_step_content)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, contents);
+        jdbc.batchUpdate("INSERT INTO post_tag (post_id, tag_id) VALUES (?, ?)", postTags);
+        jdbc.batchUpdate("INSERT INTO post_image (post_image_id, image_url, image_order, post_id) VALUES (?, ?, ?, ?)",
+                postImages);
+
+        // 반응/북마크는 (post, member) 조합이 겹치지 않게 생성
+        List<Object[]> reactions = new ArrayList<>(REACTIONS);
+        for (int i = 0; i < REACTIONS; i++) {
+            reactions.add(new Object[]{1 + (i % POSTS), 1 + (i / POSTS) * 37 % MEMBERS, "HEART",
+                    Timestamp.valueOf(base.plusSeconds(i))});
+        }
+        jdbc.batchUpdate("INSERT INTO post_reaction (post_id, member_id, type, created_at) VALUES (?, ?, ?, ?)", reactions);
+
+        List<Object[]> bookmarks = new ArrayList<>(BOOKMARKS);
+        for (int i = 0; i < BOOKMARKS; i++) {
+            bookmarks.add(new Object[]{1 + (i * 7 % POSTS), 1 + (i / POSTS) * 53 % MEMBERS,
+                    Timestamp.valueOf(base.plusSeconds(i))});
+        }
+        jdbc.batchUpdate("INSERT INTO post_bookmark (post_id, member_id, created_at) VALUES (?, ?, ?)", bookmarks);
+
+        jdbc.update("""
+                UPDATE post p SET
+                    like_count = (SELECT COUNT(*) FROM post_reaction r WHERE r.post_id = p.post_id),
+                    bookmark_count = (SELECT COUNT(*) FROM post_bookmark b WHERE b.post_id = p.post_id)
+                """);
+        jdbc.update("UPDATE post SET popularity_score = like_count * 2 + bookmark_count");
+    }
+}
@@ -0,0 +1,180 @@
+package rebound.backend.post.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rebound.backend.BackendApplication;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.dto.PostImageDto;
+import rebound.backend.post.dto.PostUpdateRequest;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.entity.PostContent;
+import rebound.backend.post.entity.PostImage;
+import rebound.backend.post.repository.PostRepository;
+import rebound.backend.tag.entity.Tag;
+import rebound.backend.tag.service.TagService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 수정 한 번에 나가는 SQL 문 수와 시간.
+ * diff: 바뀐 필드/이미지/태그만 반영 (PostService.applyUpdate)
+ * rebuild: 이전 방식 (이미지/태그 컬렉션을 비우고 전부 다시 넣고, 모든 필드를 다시 설정)
+ * 시나리오마다 두 요청을 번갈아 보내 매번 실제 변경이 생기게 한다 (unchanged 는 항상 같은 요청).
+ * 문장 수는 Hibernate 통계(prepared statement 수)로 세며, statements / operations 가 수정 1회당 문장 수다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class PostUpdateBenchmark {
+
+    private static final long POST_ID = 1L;
+    private static final List<String> TAGS = List.of("태그1", "태그2", "태그3");
+    private static final List<String> IMAGES = List.of(
+            "https://bench-bucket.s3.ap-northeast-2.amazonaws.com/post-1-0.jpg",
+            "https://bench-bucket.s3.ap-northeast-2.amazonaws.com/post-1-1.jpg");
+
+    @Param({"unchanged", "title", "one-tag", "one-image"})
+    public String scenario;
+
+    @Param({"diff", "rebuild"})
+    public String variant;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostRepository postRepository;
+    private TagService tagService;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private PostUpdateRequest base;
+    private PostUpdateRequest modified;
+    private boolean flip;
+
+    /** 수정 1회당 문장 수 집계 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounter {
+        public long statements;
+        public long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            operations = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("jmh")
+                .properties("spring.jpa.properties.hibernate.generate_statistics=true")
+                .run();
+        postService = context.getBean(PostService.class);
+        postRepository = context.getBean(PostRepository.class);
+        tagService = context.getBean(TagService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        seed(context.getBean(JdbcTemplate.class));
+
+        base = request("실패 경험 공유", TAGS, IMAGES);
+        modified = switch (scenario) {
+            case "title" -> request("실패 경험 공유 (수정)", TAGS, IMAGES);
+            case "one-tag" -> request("실패 경험 공유", List.of("태그1", "태그2", "태그4"), IMAGES);
+            case "one-image" -> request("실패 경험 공유", TAGS, List.of(IMAGES.get(0), IMAGES.get(1),
+                    "https://bench-bucket.s3.ap-northeast-2.amazonaws.com/post-1-2.jpg"));
+            default -> base;
+        };
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "1", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public Boolean update(StatementCounter counter) {
+        PostUpdateRequest request = (flip = !flip) ? modified : base;
+        long before = statistics.getPrepareStatementCount();
+        Boolean changed = transactionTemplate.execute(status -> {
+            Post post = postRepository.findById(POST_ID).orElseThrow();
+            return "diff".equals(variant) ? postService.applyUpdate(post, request) : rebuild(post, request);
+        });
+        counter.statements += statistics.getPrepareStatementCount() - before;
+        counter.operations++;
+        return changed;
+    }
+
+    /** 이전 updatePost 의 반영 방식 */
+    private boolean rebuild(Post post, PostUpdateRequest request) {
+        post.getPostImages().clear();
+        for (int i = 0; i < request.postImages().size(); i++) {
+            post.addImage(PostImage.builder()
+                    .imageUrl(request.postImages().get(i).imageUrl())
+                    .imageOrder(i)
+                    .build());
+        }
+        post.setMainCategory(request.mainCategory());
+        post.setSubCategory(request.subCategory());
+        post.setTitle(request.title());
+        post.setIsAnonymous(request.isAnonymous());
+        PostContent content = post.getPostContent();
+        content.setSituationContent(request.situationContent());
+        content.setFailureContent(request.failureContent());
+        content.setLearningContent(request.learningContent());
+        content.setNextStepContent(request.nextStepContent());
+        List<Tag> tags = tagService.resolveAll(request.tags());
+        post.getTags().clear();
+        post.getTags().addAll(tags);
+        post.setStatus(request.status());
+        post.touch();
+        return true;
+    }
+
+    private static PostUpdateRequest request(String title, List<String> tags, List<String> images) {
+        return new PostUpdateRequest(MainCategory.ADMISSION, SubCategory.ADMISSION_STRATEGY_ERROR, title, false,
+                "상황 ".repeat(80), "실패 ".repeat(80), "배움 ".repeat(80), "다음 ".repeat(80),
+                tags, Post.Status.PUBLIC, images.stream().map(PostImageDto::new).toList());
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        jdbc.update("INSERT INTO member (member_id, nickname, login_id, age, provider) VALUES (1, '회원1', 'bench1', 20, 'LOCAL_LOGIN')");
+        for (long id = 1; id <= 4; id++) {
+            jdbc.update("INSERT INTO tag (tag_id, name) VALUES (?, ?)", id, "태그" + id);
+        }
+        jdbc.update("""
+                INSERT INTO post (post_id, member_id, main_category, sub_category, title, is_anonymous,
+                                  created_at, updated_at, status, like_count, bookmark_count, comment_count, popularity_score)
+                VALUES (1, 1, 'ADMISSION', 'ADMISSION_STRATEGY_ERROR', '실패 경험 공유', FALSE, ?, ?, 'PUBLIC', 0, 0, 0, 0)
+                """, createdAt, createdAt);
+        jdbc.update("""
+                INSERT INTO post_content (content_id, post_id, situation_content, failure_content, learning_content, next_step_content)
+                VALUES (1, 1, ?, ?, ?, ?)
+                """, "상황 ".repeat(80), "실패 ".repeat(80), "배움 ".repeat(80), "다음 ".repeat(80));
+        for (long tagId = 1; tagId <= 3; tagId++) {
+            jdbc.update("INSERT INTO post_tag (post_id, tag_id) VALUES (1, ?)", tagId);
+        }
+        for (int i = 0; i < IMAGES.size(); i++) {
+            jdbc.update("INSERT INTO post_image (image_url, image_order, post_id) VALUES (?, ?, 1)", IMAGES.get(i), i);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package rebound.backend.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NicknameMaskerBenchmark {
+
+    @Param({"김", "실패전문가", "아주아주긴닉네임을사용하는회원입니다"})
+    public String nickname;
+
+    @Benchmark
+    public String mask() {
+        return NicknameMasker.mask(nickname);
+    }
+}
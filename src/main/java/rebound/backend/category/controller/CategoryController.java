@@ -1,14 +1,17 @@
 package rebound.backend.category.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import rebound.backend.category.dto.CategoryDto;
 import rebound.backend.category.service.CategoryService;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/categories")
@@ -18,10 +21,15 @@ public class CategoryController {
     private final CategoryService categoryService;
 
     @GetMapping
-    public ResponseEntity<List<CategoryDto.MainCategoryResponse>> getAllCategories() {
-        List<CategoryDto.MainCategoryResponse> categories = categoryService.findAllGroupedByMainCategory();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<CategoryDto.MainCategoryResponse>> getAllCategories(WebRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+        // If-None-Match 가 같으면 본문 없이 304
+        if (request.checkNotModified(categoryService.etag())) {
+            return ResponseEntity.status(304).eTag(categoryService.etag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(categoryService.etag())
+                .cacheControl(cacheControl)
+                .body(categoryService.findAllGroupedByMainCategory());
     }
 }
-
-
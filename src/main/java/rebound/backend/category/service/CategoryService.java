@@ -1,25 +1,45 @@
 package rebound.backend.category.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import rebound.backend.category.dto.CategoryDto;
 import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class CategoryService {
 
+    // 카테고리는 Enum 이라 배포 중에는 바뀌지 않으므로 응답과 ETag 를 한 번만 만든다.
+    private final List<CategoryDto.MainCategoryResponse> categories = Arrays.stream(MainCategory.values())
+            .map(CategoryDto.MainCategoryResponse::from)
+            .toList();
+    private final String etag = computeEtag();
+
     /**
      * 모든 카테고리 정보를 대분류 기준으로 그룹화하여 반환합니다.
      * @return 대분류 목록 (각 대분류는 소분류 목록을 포함)
      */
     public List<CategoryDto.MainCategoryResponse> findAllGroupedByMainCategory() {
-        // 모든 MainCategory Enum 값을 순회하면서
-        return Arrays.stream(MainCategory.values())
-                // 각각을 MainCategoryResponse DTO로 변환합니다.
-                .map(CategoryDto.MainCategoryResponse::from)
-                .collect(Collectors.toList());
+        return categories;
+    }
+
+    /** 카테고리 코드/라벨이 바뀌면 (= 배포로 Enum 이 바뀌면) 달라지는 ETag */
+    public String etag() {
+        return etag;
+    }
+
+    private static String computeEtag() {
+        StringBuilder sb = new StringBuilder();
+        for (MainCategory main : MainCategory.values()) {
+            sb.append(main.name()).append('=').append(main.getLabel()).append('\n');
+            for (SubCategory sub : SubCategory.byMain(main)) {
+                sb.append(sub.name()).append('=').append(sub.getLabel()).append('\n');
+            }
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 }
@@ -0,0 +1,107 @@
+package rebound.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 힙 내 크기 제한).
+ * 거의 바뀌지 않는 참조 데이터(Tag, Member, MemberImage, Interest)만 리전으로 등록하고,
+ * 등록되지 않은 리전을 쓰려 하면 기동 시 실패하도록 해 캐시 대상이 코드에서 드러나게 한다.
+ * 리전별 적중률은 cache.hit.ratio{cache=리전} 게이지로 노출한다 (/actuator/metrics).
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String TAG = "tag";
+    public static final String TAG_NATURAL_ID = "tag.natural-id";
+    public static final String MEMBER = "member";
+    public static final String MEMBER_INTERESTS = "member.interests";
+    public static final String MEMBER_IMAGE = "member-image";
+    public static final String INTEREST = "interest";
+
+    // 리전별 최대 항목 수
+    private static final Map<String, Long> REGIONS = new LinkedHashMap<>();
+    static {
+        REGIONS.put(TAG, 10_000L);
+        REGIONS.put(TAG_NATURAL_ID, 10_000L);
+        REGIONS.put(MEMBER, 20_000L);
+        REGIONS.put(MEMBER_INTERESTS, 20_000L);
+        REGIONS.put(MEMBER_IMAGE, 20_000L);
+        REGIONS.put(INTEREST, 50_000L);
+    }
+
+    // JPA 를 거치지 않은 변경(수동 SQL 등)이 오래 남지 않도록 하는 상한
+    private static final long EXPIRE_AFTER_WRITE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        REGIONS.forEach((region, maxEntries) -> {
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(maxEntries));
+            config.setExpireAfterWrite(OptionalLong.of(EXPIRE_AFTER_WRITE_NANOS));
+            config.setStatisticsEnabled(true);
+            cacheManager.createCache(region, config);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+
+    /** 리전별 get/hit/miss 카운터(JCacheMetrics) + 적중률 게이지 */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            for (String region : REGIONS.keySet()) {
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region), Tags.empty());
+                Gauge.builder("cache.hit.ratio", mBeanServer, server -> hitRatio(server, region))
+                        .tag("cache", region)
+                        .description("Hibernate 2차 캐시 리전 적중률 (0~1)")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(MBeanServer server, String region) {
+        try {
+            Set<ObjectName> names = server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null);
+            if (names.isEmpty()) return Double.NaN;
+            Number percentage = (Number) server.getAttribute(names.iterator().next(), "CacheHitPercentage");
+            return percentage.doubleValue() / 100.0;
+        } catch (Exception e) {
+            log.debug("2차 캐시 통계 조회 실패. region={}", region, e);
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package rebound.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import rebound.backend.member.event.MemberChangedEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+import rebound.backend.post.event.PostLifecycleEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 사용자의 게시글 상세/카테고리 응답을 gzip 으로 압축한 바이트째 보관해 두고 그대로 내려준다.
+ * 적중하면 컨트롤러/DB/직렬화/압축을 모두 건너뛰며, If-None-Match 가 같으면 304 로 끝낸다.
+ * 게시글 수정·삭제·반응 이벤트로 해당 글 항목을 비우고, 작성자 배지처럼 이벤트로 잡히지 않는 변화는 ttl-ms 로 제한한다.
+ * 로그인 요청(Authorization 헤더)은 내 반응 여부가 본문에 들어가므로 대상이 아니다.
+ */
+@Slf4j
+@Component
+public class PrecompressedResponseCache extends OncePerRequestFilter {
+
+    private static final Pattern POST_DETAIL = Pattern.compile("^/api/v1/posts/(\\d+)$");
+    private static final String POST_DETAIL_PREFIX = "/api/v1/posts/";
+    private static final String CATEGORIES = "/api/v1/categories";
+    private static final String VARY = HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.AUTHORIZATION;
+
+    private record Entry(String etag, String contentType, String cacheControl, byte[] gzip, long expiresAtMillis) {}
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int minSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries;
+
+    PrecompressedResponseCache(@Value("${http.precompressed-cache.enabled:true}") boolean enabled,
+                               @Value("${http.precompressed-cache.ttl-ms:30000}") long ttlMillis,
+                               @Value("${http.precompressed-cache.min-size:1024}") int minSize,
+                               @Value("${http.precompressed-cache.max-entries:2000}") int maxEntries) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.minSize = minSize;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) return true;
+        if (request.getHeader(HttpHeaders.AUTHORIZATION) != null || request.getQueryString() != null) return true;
+        String uri = request.getRequestURI();
+        return !CATEGORIES.equals(uri) && !POST_DETAIL.matcher(uri).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getRequestURI();
+        boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        Entry cached = get(key);
+        if (cached != null) {
+            if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+                writeHeaders(response, cached);
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            if (acceptsGzip) {
+                writeGzip(response, cached);
+                return;
+            }
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        String etag = wrapper.getHeader(HttpHeaders.ETAG);
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || etag == null || body.length < minSize) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        Entry entry = new Entry(etag, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                gzip(body), System.currentTimeMillis() + ttlMillis);
+        put(key, entry);
+        if (acceptsGzip) {
+            writeGzip(response, entry);
+        } else {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLifecycle(PostLifecycleEvent event) {
+        evict(POST_DETAIL_PREFIX + event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        // 좋아요/북마크 수가 상세 본문에 들어간다
+        if (event.kind() != PostInteractionEvent.Kind.COMMENT) {
+            evict(POST_DETAIL_PREFIX + event.postId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        // 어느 글의 작성자인지 따로 들고 있지 않으므로 상세 항목을 모두 비운다
+        lock.lock();
+        try {
+            entries.keySet().removeIf(key -> key.startsWith(POST_DETAIL_PREFIX));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String key, Entry entry) {
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, Entry entry) {
+        response.setHeader(HttpHeaders.ETAG, entry.etag());
+        response.setHeader(HttpHeaders.VARY, VARY);
+        if (entry.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+    }
+
+    private static void writeGzip(HttpServletResponse response, Entry entry) throws IOException {
+        writeHeaders(response, entry);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        // Content-Encoding 이 이미 있으면 톰캣 커넥터 압축은 다시 압축하지 않는다
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.setContentLength(entry.gzip().length);
+        response.getOutputStream().write(entry.gzip());
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String token : acceptEncoding.split(",")) {
+            String coding = token.trim();
+            if (coding.startsWith("gzip") && !coding.replace(" ", "").endsWith(";q=0")) return true;
+        }
+        return false;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String token : ifNoneMatch.split(",")) {
+            String candidate = token.trim();
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) return true;
+        }
+        return false;
+    }
+}
@@ -37,6 +37,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/posts/**").authenticated()
 
                         .requestMatchers(HttpMethod.POST,   "/api/v1/comments/**").authenticated()
+                        .requestMatchers(HttpMethod.PUT,    "/api/v1/comments/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/comments/**").authenticated()
 
                         .requestMatchers("/api/v1/members/my/**").authenticated()
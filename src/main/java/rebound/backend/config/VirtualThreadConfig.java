@@ -0,0 +1,63 @@
+package rebound.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 실행 모드.
+ * spring.threads.virtual.enabled=true 이면 톰캣 요청 처리와 @Scheduled/@Async 실행이 가상 스레드로 바뀐다 (Spring Boot 기본 기능).
+ * 이때 요청 수만큼 스레드가 생기므로 커넥션 풀 앞에 입장 제한(AdmissionControlledDataSource)을 둔다.
+ * db.admission.enabled 로 따로 켜고 끌 수 있으며 기본값은 가상 스레드 모드 여부를 따른다.
+ * S3 업로드/이미지 변형 작업은 기존처럼 크기 제한 풀에서 돌고, 기다리는 요청 스레드만 가상 스레드가 된다.
+ * 가상 스레드 고정(pinning) 진단은 VirtualThreadPinningMonitor 참고.
+ */
+@Slf4j
+@Configuration
+public class VirtualThreadConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static 으로 두고 Environment 에서 직접 읽는다
+    @Bean
+    public static BeanPostProcessor dataSourceAdmission(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlledDataSource) return bean;
+                boolean virtualThreads = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+                if (!env.getProperty("db.admission.enabled", Boolean.class, virtualThreads)) return bean;
+
+                int poolSize = env.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrent = env.getProperty("db.admission.max-concurrent", Integer.class, poolSize);
+                int maxWaiting = env.getProperty("db.admission.max-waiting", Integer.class, 2000);
+                long timeoutMillis = env.getProperty("db.admission.acquire-timeout-ms", Long.class, 5000L);
+                log.info("DB 입장 제한 적용. bean={}, maxConcurrent={}, maxWaiting={}, timeoutMs={}",
+                        beanName, maxConcurrent, maxWaiting, timeoutMillis);
+                return new AdmissionControlledDataSource(dataSource, maxConcurrent, maxWaiting, timeoutMillis);
+            }
+        };
+    }
+
+    /** db.admission.active / waiting 게이지, rejected 카운터 (/actuator/metrics) */
+    @Bean
+    public MeterBinder dataSourceAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            if (!(dataSource instanceof AdmissionControlledDataSource admission)) return;
+            Gauge.builder("db.admission.active", admission, AdmissionControlledDataSource::active)
+                    .description("입장 허가를 받아 커넥션을 쓰고 있는 요청 수")
+                    .register(registry);
+            Gauge.builder("db.admission.waiting", admission, AdmissionControlledDataSource::waiting)
+                    .description("입장 허가를 기다리는 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("db.admission.rejected", admission, AdmissionControlledDataSource::rejected)
+                    .description("대기열 초과/대기 시간 초과로 거절된 요청 수")
+                    .register(registry);
+        };
+    }
+}
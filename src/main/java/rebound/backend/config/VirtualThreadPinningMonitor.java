@@ -0,0 +1,116 @@
+package rebound.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 진단.
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 붙잡아 처리량이 플랫폼 스레드 수준으로 떨어진다.
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독해, threshold-ms 이상 고정된 곳을 호출 위치별로 센다.
+ * 우리 코드(rebound.*)의 첫 프레임을 위치로 쓰고, 없으면(의존 라이브러리 내부) 최상단 비 JDK 프레임을 쓴다.
+ * 위치마다 처음 한 번은 스택과 함께 WARN 으로 남기고, 이후는 jvm.threads.virtual.pinned{site=...} 카운터로만 센다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled)일 때만 동작한다.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "rebound.";
+    private static final int MAX_SITES = 200;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long thresholdMillis;
+    private final Map<String, Boolean> sites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                @Value("${diagnostics.pinning.enabled:true}") boolean enabled,
+                                @Value("${diagnostics.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = virtualThreads && enabled;
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+            recording.onEvent(EVENT, this::record);
+            recording.startAsync();
+            stream = recording;
+            log.info("가상 스레드 고정 진단 시작. thresholdMs={}", thresholdMillis);
+        } catch (RuntimeException e) {
+            // JFR 을 쓸 수 없는 런타임이면 진단 없이 계속
+            log.warn("가상 스레드 고정 진단을 시작하지 못했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) recording.close();
+    }
+
+    /** 지금까지 고정이 관측된 위치 */
+    public List<String> pinnedSites() {
+        return List.copyOf(sites.keySet());
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = siteOf(frames);
+        if (sites.size() >= MAX_SITES && !sites.containsKey(site)) site = "other";
+
+        meterRegistry.counter("jvm.threads.virtual.pinned", "site", site).increment();
+        if (sites.putIfAbsent(site, Boolean.TRUE) == null) {
+            log.warn("가상 스레드 고정 감지. site={}, durationMs={}\n{}", site, event.getDuration().toMillis(),
+                    format(event.getStackTrace()));
+        }
+    }
+
+    private static String siteOf(List<RecordedFrame> frames) {
+        String firstNonJdk = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) continue;
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) return signature(frame);
+            if (firstNonJdk == null && !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                firstNonJdk = signature(frame);
+            }
+        }
+        return firstNonJdk != null ? firstNonJdk : "unknown";
+    }
+
+    private static String signature(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "";
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + signature(frame) + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
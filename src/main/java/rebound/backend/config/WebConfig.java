@@ -1,6 +1,12 @@
 package rebound.backend.config;
 
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,4 +21,20 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    /**
+     * 1KB 이상 JSON 응답 gzip 압축 (톰캣 커넥터). 이미 Content-Encoding 이 붙은 응답(PrecompressedResponseCache)은 건드리지 않는다.
+     * 톰캣은 br 인코딩을 지원하지 않으므로 gzip 만 사용한다.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> responseCompression() {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMimeTypes(new String[]{
+                    MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE, MediaType.TEXT_HTML_VALUE});
+            compression.setMinResponseSize(DataSize.ofKilobytes(1));
+            factory.setCompression(compression);
+        };
+    }
 }
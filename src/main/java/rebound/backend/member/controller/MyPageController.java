@@ -33,4 +33,13 @@ public class MyPageController {
 
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "회원 탈퇴", description = "회원 정보를 삭제합니다. 작성한 글/댓글은 알 수 없는 사용자로 남습니다. 헤더에 토큰 필요")
+    @DeleteMapping
+    public ResponseEntity<Void> withdraw() {
+        Long memberId = InteractionAuth.currentMemberId();
+        memberService.withdraw(memberId);
+
+        return ResponseEntity.noContent().build();
+    }
 }
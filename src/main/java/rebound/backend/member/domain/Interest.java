@@ -2,9 +2,14 @@ package rebound.backend.member.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import rebound.backend.category.entity.MainCategory;
+import rebound.backend.config.HibernateCacheConfig;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.INTEREST)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
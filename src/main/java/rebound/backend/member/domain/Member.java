@@ -2,12 +2,19 @@ package rebound.backend.member.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import rebound.backend.config.HibernateCacheConfig;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -38,10 +45,16 @@ public class Member {
 
     private LocalDateTime createdAt;
 
+    /** 닉네임/프로필 이미지가 바뀔 때마다 올라가는 값. 작성자 정보를 담는 응답의 ETag 에 섞는다 (인스턴스와 무관하게 DB 기준) */
+    @ColumnDefault("0")
+    @Column(name = "profile_version", nullable = false)
+    private long profileVersion;
+
     @OneToOne(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private MemberImage memberImage;
 
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_INTERESTS)
     @Builder.Default
     private List<Interest> interests = new ArrayList<>();
 
@@ -51,7 +64,14 @@ public class Member {
     }
 
     public Member updateNickname(String nickname) {
+        if (!Objects.equals(this.nickname, nickname)) {
+            touchProfile();
+        }
         this.nickname = nickname;
         return this;
     }
+
+    public void touchProfile() {
+        this.profileVersion++;
+    }
 }
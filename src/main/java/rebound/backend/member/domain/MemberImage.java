@@ -2,8 +2,14 @@ package rebound.backend.member.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import rebound.backend.config.HibernateCacheConfig;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.MEMBER_IMAGE)
 @Getter
 @Setter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -19,6 +25,11 @@ public class MemberImage {
     @Column(name = "image_url", nullable = false, length = 1000)
     private String imageUrl;
 
+    /** 변형본(thumb/card/full) 생성 완료 여부. false 면 응답의 변형본 URL 은 원본으로 대체된다 */
+    @ColumnDefault("false")
+    @Column(name = "variants_ready", nullable = false)
+    private boolean variantsReady;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id")
     private Member member;
@@ -0,0 +1,47 @@
+package rebound.backend.member.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원이 "받은" 반응 집계 (작성한 모든 게시글 기준).
+ * 게시글 카운터 flush 때 증감분이 함께 반영되고, reconcile 때 post 테이블 기준으로 다시 계산된다.
+ * 쓰기는 MemberReputationService 의 SQL 로만 하므로 엔티티는 읽기 전용으로 사용한다.
+ */
+@Entity
+@Table(name = "member_reputation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberReputation {
+
+    /** 랭크 배지 기준: 받은 좋아요 합계 */
+    public static final long RANK_BADGE_THRESHOLD = 10L;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "hearts_received", nullable = false)
+    private long heartsReceived;
+
+    @Column(name = "bookmarks_received", nullable = false)
+    private long bookmarksReceived;
+
+    @Column(name = "comments_received", nullable = false)
+    private long commentsReceived;
+
+    // 가장 좋아요를 많이 받은 게시글 하나의 좋아요 수 (감소분은 reconcile 때 반영)
+    @Column(name = "best_post_likes", nullable = false)
+    private long bestPostLikes;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public boolean hasRankBadge() {
+        return heartsReceived >= RANK_BADGE_THRESHOLD;
+    }
+}
@@ -0,0 +1,8 @@
+package rebound.backend.member.event;
+
+/**
+ * 회원 정보(닉네임/관심사/이미지 등) 변경 또는 탈퇴 이벤트.
+ * 커밋 이후 인증 캐시 등 회원 정보를 들고 있는 곳에서 해당 회원 항목을 비운다.
+ */
+public record MemberChangedEvent(Long memberId) {
+}
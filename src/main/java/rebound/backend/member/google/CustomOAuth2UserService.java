@@ -2,6 +2,7 @@ package rebound.backend.member.google;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -10,6 +11,7 @@ import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import rebound.backend.member.domain.Member;
+import rebound.backend.member.event.MemberChangedEvent;
 import rebound.backend.member.google.dtos.OAuthAttributes;
 import rebound.backend.member.repository.MemberRepository;
 
@@ -20,6 +22,7 @@ import java.util.Collections;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -49,6 +52,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 // 사용자가 없으면 DTO를 엔티티로 변환하여 새로 생성
                 .orElse(attributes.toEntity());
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        // 닉네임이 갱신되었을 수 있으므로 캐시된 인증 정보를 비운다.
+        eventPublisher.publishEvent(new MemberChangedEvent(saved.getId()));
+        return saved;
     }
 }
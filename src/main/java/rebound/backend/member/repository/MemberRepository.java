@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -24,4 +26,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Override
     Optional<Member> findById(Long aLong);
+
+    // 목록 조회용: 작성자들과 프로필 이미지를 한 번에 조회
+    @Query("""
+    SELECT m
+    FROM Member m
+    LEFT JOIN FETCH m.memberImage
+    WHERE m.id IN :memberIds
+    """)
+    List<Member> findAllWithImageByIdIn(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -0,0 +1,21 @@
+package rebound.backend.member.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rebound.backend.member.domain.MemberReputation;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberReputationRepository extends JpaRepository<MemberReputation, Long> {
+
+    // 목록 한 페이지의 작성자들 중 랭크 배지 보유자
+    @Query("""
+    SELECT r.memberId
+    FROM MemberReputation r
+    WHERE r.memberId IN :memberIds AND r.heartsReceived >= :threshold
+    """)
+    List<Long> findMemberIdsWithHeartsAtLeast(@Param("memberIds") Collection<Long> memberIds,
+                                              @Param("threshold") long threshold);
+}
@@ -0,0 +1,109 @@
+package rebound.backend.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.member.domain.MemberReputation;
+import rebound.backend.member.repository.MemberReputationRepository;
+import rebound.backend.post.event.PostLifecycleEvent;
+
+import java.util.*;
+
+/**
+ * 회원 평판(받은 좋아요/북마크/댓글, 최고 게시글 좋아요) 집계와 랭크 배지 판정.
+ * 증감은 PostCounterService 가 게시글 카운터를 flush 하는 같은 트랜잭션에서 함께 반영하므로
+ * 배지 확인은 member_reputation 한 행(목록은 IN 쿼리 한 번)만 읽으면 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberReputationService {
+
+    // 게시글별 증감분을 작성자 행에 더한다. best_post_likes 는 flush 직후의 post.like_count 와 비교해 올리기만 한다.
+    private static final String APPLY_SQL = """
+            INSERT INTO member_reputation
+                   (member_id, hearts_received, bookmarks_received, comments_received, best_post_likes, updated_at)
+            SELECT p.member_id, ?, ?, ?, p.like_count, NOW()
+              FROM post p
+             WHERE p.post_id = ?
+            ON DUPLICATE KEY UPDATE
+                   hearts_received = hearts_received + VALUES(hearts_received),
+                   bookmarks_received = bookmarks_received + VALUES(bookmarks_received),
+                   comments_received = comments_received + VALUES(comments_received),
+                   best_post_likes = GREATEST(best_post_likes, VALUES(best_post_likes)),
+                   updated_at = VALUES(updated_at)
+            """;
+
+    // post 테이블 기준 재계산. 글이 없는 회원도 0 으로 맞추도록 member 기준 LEFT JOIN
+    private static final String RECOMPUTE_SQL = """
+            INSERT INTO member_reputation
+                   (member_id, hearts_received, bookmarks_received, comments_received, best_post_likes, updated_at)
+            SELECT m.member_id,
+                   COALESCE(SUM(p.like_count), 0),
+                   COALESCE(SUM(p.bookmark_count), 0),
+                   COALESCE(SUM(p.comment_count), 0),
+                   COALESCE(MAX(p.like_count), 0),
+                   NOW()
+              FROM member m
+              LEFT JOIN post p ON p.member_id = m.member_id
+             %s
+             GROUP BY m.member_id
+            ON DUPLICATE KEY UPDATE
+                   hearts_received = VALUES(hearts_received),
+                   bookmarks_received = VALUES(bookmarks_received),
+                   comments_received = VALUES(comments_received),
+                   best_post_likes = VALUES(best_post_likes),
+                   updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MemberReputationRepository memberReputationRepository;
+
+    /**
+     * 게시글별 카운터 증감분(좋아요, 북마크, 댓글 순)을 작성자 평판에 반영한다.
+     * 호출하는 쪽의 트랜잭션 안에서 post 카운터 UPDATE 이후에 실행되어야 한다.
+     */
+    public void applyPostDeltas(Map<Long, long[]> deltasByPostId) {
+        if (deltasByPostId.isEmpty()) return;
+        List<Object[]> args = new ArrayList<>(deltasByPostId.size());
+        deltasByPostId.forEach((postId, d) -> args.add(new Object[]{d[0], d[1], d[2], postId}));
+        jdbcTemplate.batchUpdate(APPLY_SQL, args);
+    }
+
+    /** 전체 재계산 (게시글 카운터 reconcile 직후 실행) */
+    public void recomputeAll() {
+        int rows = jdbcTemplate.update(RECOMPUTE_SQL.formatted(""));
+        log.info("회원 평판 재계산 완료. rows={}", rows);
+    }
+
+    public void recompute(Long memberId) {
+        jdbcTemplate.update(RECOMPUTE_SQL.formatted("WHERE m.member_id = ?"), memberId);
+    }
+
+    /** 게시글이 삭제되면 그 글이 받은 반응이 빠지도록 작성자 평판을 다시 계산한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLifecycle(PostLifecycleEvent event) {
+        if (event.type() == PostLifecycleEvent.Type.DELETED && event.memberId() != null) {
+            recompute(event.memberId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasRankBadge(Long memberId) {
+        if (memberId == null) return false;
+        return memberReputationRepository.findById(memberId)
+                .map(MemberReputation::hasRankBadge)
+                .orElse(false);
+    }
+
+    /** 주어진 회원들 중 랭크 배지 보유자 */
+    @Transactional(readOnly = true)
+    public Set<Long> rankBadgeHolders(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return Collections.emptySet();
+        return new HashSet<>(memberReputationRepository.findMemberIdsWithHeartsAtLeast(
+                memberIds, MemberReputation.RANK_BADGE_THRESHOLD));
+    }
+}
@@ -10,17 +10,16 @@ import rebound.backend.member.dtos.responses.JoinResponse;
 import rebound.backend.member.dtos.requests.LoginRequest;
 import rebound.backend.member.dtos.responses.LoginResponse;
 import rebound.backend.member.dtos.responses.MyInfoResponse;
+import rebound.backend.member.event.MemberChangedEvent;
 import rebound.backend.member.repository.MemberImageRepository;
 import rebound.backend.member.repository.MemberRepository;
 import rebound.backend.member.util.JwtUtil;
+import rebound.backend.s3.event.ImagesAttachedEvent;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import rebound.backend.post.entity.Post;
-import rebound.backend.post.entity.PostReaction;
-import rebound.backend.post.repository.PostReactionRepository;
-import rebound.backend.post.repository.PostRepository;
 
 import java.time.LocalDateTime;
 import java.util.LinkedList;
@@ -35,8 +34,8 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final MemberImageRepository memberImageRepository;
-    private final PostReactionRepository postReactionRepository;
-    private final PostRepository postRepository;
+    private final MemberReputationService memberReputationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public JoinResponse join(JoinRequest joinRequest) {
         //loginId 중복 검사
@@ -116,19 +115,8 @@ public class MemberService {
             categories.add(interest.getMainCategory());
         }
 
-        //hasRankingBadge 추가
-        boolean hasRankingBadge = false;
-        List<Post> memberPosts = postRepository.findPostsByMemberId(member.getId());
-        if (memberPosts.isEmpty()) {
-            hasRankingBadge = false;
-        } else {
-            for (Post memberPost : memberPosts) {
-                List<PostReaction> memberPostLikes = postReactionRepository.countTotalLikeOfPost(memberPost.getPostId());
-                if (memberPostLikes.size() >= 10) {
-                    hasRankingBadge = true;
-                }
-            }
-        }
+        //hasRankingBadge: 받은 좋아요 합계 기준 (member_reputation 한 행 조회)
+        boolean hasRankingBadge = memberReputationService.hasRankBadge(member.getId());
 
         return new MyInfoResponse(member.getNickname(), member.getAge(), member.getField(),
                 imageUrl, hasRankingBadge, member.getLoginId(), categories);
@@ -143,6 +131,7 @@ public class MemberService {
         member.setNickname(request.getNickname());
         member.setAge(request.getAge());
         member.setField(request.getField());
+        member.touchProfile(); // 작성자 정보가 들어간 응답의 ETag 를 바꾼다
 
         // 3. 관심사(Interests) 수정: 기존 컬렉션을 비우고 새로 추가합니다.
         // (CascadeType.ALL, orphanRemoval=true 설정이 Member 엔티티의 interests 필드에 있어야 완벽하게 동작합니다)
@@ -164,6 +153,9 @@ public class MemberService {
 
             if (existingImage != null) {
                 // 4-1. 이미지가 이미 존재하면: URL만 업데이트합니다. (UPDATE 쿼리 발생)
+                if (!request.getImageUrl().equals(existingImage.getImageUrl())) {
+                    existingImage.setVariantsReady(false); // 새 이미지의 변형본은 커밋 후 다시 확인
+                }
                 existingImage.setImageUrl(request.getImageUrl());
             } else {
                 // 4-2. 이미지가 없으면: 새로 생성하고 관계를 설정합니다. (INSERT 쿼리 발생)
@@ -175,5 +167,24 @@ public class MemberService {
                 member.setMemberImage(newImage); // member 객체에도 관계 설정
             }
         }
+
+        if (request.getImageUrl() != null && !request.getImageUrl().isBlank()) {
+            eventPublisher.publishEvent(new ImagesAttachedEvent(List.of(request.getImageUrl())));
+        }
+
+        // 5. 캐시된 인증 정보(닉네임 등)는 커밋 후 비운다.
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+    }
+
+    /**
+     * 회원 탈퇴: 회원과 프로필 이미지/관심사를 지운다. 작성한 글/댓글은 남고 작성자는 알 수 없는 사용자로 보인다.
+     * 캐시된 인증 정보는 커밋 후 비워, 남은 토큰으로는 더 이상 인증되지 않는다.
+     */
+    public void withdraw(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 id 의 회원이 존재하지 않습니다"));
+        memberRepository.delete(member);
+
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
     }
     }
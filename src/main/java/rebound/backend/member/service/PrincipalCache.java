@@ -0,0 +1,142 @@
+package rebound.backend.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.member.event.MemberChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * JWT 인증 결과(UserDetails) 캐시.
+ * 키는 토큰 원문 대신 SHA-256 해시를 쓰고, 항목 수명은 설정 TTL 과 토큰 만료 시각 중 이른 쪽으로 제한한다.
+ * 최대 개수를 넘으면 가장 오래 쓰이지 않은 항목부터 버린다(LRU).
+ * 회원 정보가 바뀌면 MemberChangedEvent 로 해당 회원 항목을 모두 비운다.
+ * 비우는 동안 진행 중이던 조회 결과(바뀌기 전 회원 정보)가 뒤늦게 저장되지 않도록, 회원별 세대 값이 조회 도중 바뀌었으면 저장하지 않는다.
+ */
+@Component
+public class PrincipalCache {
+
+    private record CachedPrincipal(UserDetails userDetails, long memberId, long expiresAtMillis) {}
+
+    // 회원별 세대 값 (회원 id 로 나눈 고정 크기 배열, 같은 칸의 다른 회원이 바뀌면 저장을 한 번 건너뛸 뿐이다)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, CachedPrincipal> entries;
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.max-entries:10000}") int maxEntries,
+                          @Value("${auth.principal-cache.ttl-ms:300000}") long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > PrincipalCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder("auth.principal.cache")
+                .tag("result", "hit")
+                .description("JWT 인증 캐시 적중")
+                .register(meterRegistry);
+        this.misses = Counter.builder("auth.principal.cache")
+                .tag("result", "miss")
+                .description("JWT 인증 캐시 미적중 (회원 조회 발생)")
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", this, PrincipalCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환하고, 없을 때만 loader 로 회원을 조회해 저장한다.
+     * loader 는 락 밖에서 실행되므로 같은 토큰이 동시에 들어오면 조회가 중복될 수 있다(결과는 동일).
+     * 조회 도중 이 회원이 비워졌으면(evictMember) 결과는 반환만 하고 저장하지 않는다.
+     */
+    public UserDetails get(String token, long memberId, long tokenExpiresAtMillis, Supplier<UserDetails> loader) {
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        long generation;
+
+        lock.lock();
+        try {
+            generation = generations[stripe(memberId)];
+            CachedPrincipal cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAtMillis() > now) {
+                    hits.increment();
+                    return cached.userDetails();
+                }
+                entries.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        UserDetails loaded = loader.get();
+        long expiresAt = Math.min(tokenExpiresAtMillis, now + ttlMillis);
+        lock.lock();
+        try {
+            if (generations[stripe(memberId)] == generation) {
+                entries.put(key, new CachedPrincipal(loaded, memberId, expiresAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evictMember(event.memberId());
+    }
+
+    public void evictMember(long memberId) {
+        lock.lock();
+        try {
+            generations[stripe(memberId)]++;
+            entries.values().removeIf(p -> p.memberId() == memberId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(long memberId) {
+        return (int) Math.floorMod(memberId, (long) GENERATION_STRIPES);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
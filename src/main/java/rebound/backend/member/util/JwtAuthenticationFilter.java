@@ -10,6 +10,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import rebound.backend.member.service.PrincipalCache;
 import rebound.backend.member.service.UserDetailsServiceImpl;
 
 import java.io.IOException;
@@ -20,6 +21,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -27,30 +29,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String memberId = null;
+        JwtUtil.TokenClaims claims = null;
         String jwt = null;
 
-        //헤더가 존재하고, "Bearer" 로 시작하는지 확인
+        //헤더가 존재하고, "Bearer" 로 시작하는지 확인 (서명/만료 검증은 파싱 1회로 처리)
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             jwt = authorizationHeader.substring(7);
-            memberId = jwtUtil.getMemberIdFromToken(jwt);
+            claims = jwtUtil.parse(jwt);
         }
 
-        //로그인 ID가 존재하고, 현재 SecurityContext에 인증 정보가 없는 경우
-        if (memberId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        //유효한 토큰이고, 현재 SecurityContext에 인증 정보가 없는 경우
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(memberId);
+            //캐시에 없을 때만 DB 에서 회원 조회
+            String memberId = claims.memberId();
+            UserDetails userDetails = principalCache.get(jwt, Long.parseLong(memberId),
+                    claims.expiration().getTime(),
+                    () -> this.userDetailsService.loadUserByUsername(memberId));
 
-            //토큰 유효 확인
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            //인증 토큰 생성
+            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities());
 
-                //인증 토큰 생성
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-
-                //SecurityContext에 인증 정보 설정
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+            //SecurityContext에 인증 정보 설정
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
 
         filterChain.doFilter(request, response);
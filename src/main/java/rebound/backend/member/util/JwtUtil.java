@@ -1,6 +1,7 @@
 package rebound.backend.member.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -36,6 +37,29 @@ public class JwtUtil {
                 .compact();
     }
 
+    /** 서명/만료 검증을 한 번의 파싱으로 끝내고 얻은 회원 Id 와 만료 시각 */
+    public record TokenClaims(String memberId, Date expiration) {}
+
+    /**
+     * 토큰을 한 번만 파싱해 회원 Id 와 만료 시각을 함께 반환한다.
+     * 서명이 맞지 않거나 만료/형식 오류인 토큰은 null
+     */
+    public TokenClaims parse(String token) {
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(secretKey)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            return new TokenClaims(claims.getSubject(), claims.getExpiration());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     //토큰에서 회원 Id 추출
     public String getMemberIdFromToken(String token) {
         Claims claims = Jwts.parserBuilder()
@@ -47,28 +71,12 @@ public class JwtUtil {
         return claims.getSubject();
     }
 
-    // ✅ [수정] 사용자 정보를 함께 검증하는 validateToken 메서드
+    // 사용자 정보를 함께 검증하는 validateToken 메서드 (파싱 1회)
     public boolean validateToken(String token, UserDetails userDetails) {
-        try {
-            final String memberIdFromToken = getMemberIdFromToken(token);
-            // 1. 토큰의 사용자 정보와 DB에서 가져온 사용자 정보가 일치하는지 확인
-            // 2. 토큰이 만료되었는지 확인
-            return memberIdFromToken.equals(userDetails.getUsername()) && !isTokenExpired(token);
-        } catch (Exception e) {
-            // 그 외 모든 예외는 유효하지 않은 토큰으로 처리
-            return false;
-        }
-    }
-
-    // 토큰의 만료 여부만 확인하는 private 메서드
-    private boolean isTokenExpired(String token) {
-        final Date expiration = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return expiration.before(new Date());
+        TokenClaims claims = parse(token);
+        // 1. 토큰의 사용자 정보와 DB에서 가져온 사용자 정보가 일치하는지 확인
+        // 2. 만료 여부는 parse 단계에서 이미 확인됨
+        return claims != null && claims.memberId().equals(userDetails.getUsername());
     }
 
 //    public boolean validateToken(String token) {
@@ -6,9 +6,15 @@ import jakarta.validation.constraints.Positive;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import rebound.backend.post.dto.CommentResponse;
+import rebound.backend.post.dto.CommentThreadResponse;
+import rebound.backend.post.dto.SliceResponse;
 import rebound.backend.post.entity.Comment;
 import rebound.backend.post.entity.CommentStatus;
 import rebound.backend.post.service.CommentService;
@@ -23,21 +29,56 @@ import java.util.Map;
 @Validated
 public class CommentController {
 
+    // 캐시는 하되 매번 ETag 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
     private final CommentService service;
 
     @GetMapping("/posts/{postId}/comments")
-    public Map<String, Object> list(@PathVariable @Positive Long postId,
-                                    @RequestParam(defaultValue = "0") int page,
-                                    @RequestParam(defaultValue = "20") int size) {
+    public ResponseEntity<Map<String, Object>> list(@PathVariable @Positive Long postId,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "20") int size,
+                                                    WebRequest request) {
+        // 댓글이 바뀌지 않았으면 목록을 만들지 않고 304
+        String etag = service.listEtag(postId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+
         // 서비스로부터 모든 정보가 담긴 CommentResponse DTO 슬라이스를 받습니다.
         Slice<CommentResponse> slice = service.list(postId, page, size);
 
         // 더 이상 컨트롤러에서 추가적인 service 호출(N+1 유발)을 할 필요가 없습니다.
-        return Map.of(
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(Map.of(
                 "items", slice.getContent(), // DTO 리스트를 그대로 사용
                 "hasNext", slice.hasNext(),
                 "page", page
-        );
+        ));
+    }
+
+    /** 댓글 스레드 (루트 댓글 커서 페이지 + 루트별 앞쪽 대댓글). 내 하트 여부가 들어가므로 ETag 는 비로그인만 */
+    @GetMapping("/posts/{postId}/comments/thread")
+    public ResponseEntity<SliceResponse<CommentThreadResponse>> thread(@PathVariable @Positive Long postId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size,
+                                                                       @RequestParam(defaultValue = "3") int replies,
+                                                                       WebRequest request) {
+        if (request.getUserPrincipal() != null) {
+            return ResponseEntity.ok(service.thread(postId, cursor, size, replies));
+        }
+        String etag = service.listEtag(postId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(service.thread(postId, cursor, size, replies));
+    }
+
+    /** 대댓글 이어보기 (스레드 응답의 nextReplyCursor 사용) */
+    @GetMapping("/comments/{id}/replies")
+    public SliceResponse<CommentThreadResponse> replies(@PathVariable @Positive Long id,
+                                                        @RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return service.replies(id, cursor, size);
     }
 
     /** 생성 */
@@ -56,9 +97,23 @@ public class CommentController {
     /** 하트 토글 */
     @PostMapping("/comments/{id}/reactions/heart")
     public Map<String, Object> toggleHeart(@PathVariable @Positive Long id) {
-        boolean liked = service.toggleHeart(id);
-        long likeCount = service.countHearts(id); // 토글 후 최신 카운트 내려주면 프론트 반영 쉬움
-        return Map.of("liked", liked, "likeCount", likeCount);
+        return heartBody(service.toggleHeart(id));
+    }
+
+    /** 하트 켜기 (여러 번 보내도 결과 같음) */
+    @PutMapping("/comments/{id}/reactions/heart")
+    public Map<String, Object> setHeart(@PathVariable @Positive Long id) {
+        return heartBody(service.setHeart(id));
+    }
+
+    /** 하트 끄기 (여러 번 보내도 결과 같음) */
+    @DeleteMapping("/comments/{id}/reactions/heart")
+    public Map<String, Object> unsetHeart(@PathVariable @Positive Long id) {
+        return heartBody(service.unsetHeart(id));
+    }
+
+    private static Map<String, Object> heartBody(CommentService.HeartResult r) {
+        return Map.of("liked", r.liked(), "likeCount", r.likeCount()); // 최신 카운트 내려주면 프론트 반영 쉬움
     }
 
     // ===== DTO =====
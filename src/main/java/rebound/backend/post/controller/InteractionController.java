@@ -19,13 +19,40 @@ public class InteractionController {
 
     @PostMapping("/posts/{postId}/reactions/heart")
     public Map<String, Object> toggleHeart(@PathVariable @Positive Long postId) {
-        var r = service.toggleHeart(postId);
-        return Map.of("liked", r.state(), "likeCount", r.count());
+        return heartBody(service.toggleHeart(postId));
+    }
+
+    // 켜기/끄기: 여러 번 보내도(더블탭, 재시도) 결과가 같다
+    @PutMapping("/posts/{postId}/reactions/heart")
+    public Map<String, Object> setHeart(@PathVariable @Positive Long postId) {
+        return heartBody(service.setHeart(postId));
+    }
+
+    @DeleteMapping("/posts/{postId}/reactions/heart")
+    public Map<String, Object> unsetHeart(@PathVariable @Positive Long postId) {
+        return heartBody(service.unsetHeart(postId));
     }
 
     @PostMapping("/posts/{postId}/bookmarks")
     public Map<String, Object> toggleBookmark(@PathVariable @Positive Long postId) {
-        var r = service.toggleBookmark(postId);
+        return bookmarkBody(service.toggleBookmark(postId));
+    }
+
+    @PutMapping("/posts/{postId}/bookmarks")
+    public Map<String, Object> setBookmark(@PathVariable @Positive Long postId) {
+        return bookmarkBody(service.setBookmark(postId));
+    }
+
+    @DeleteMapping("/posts/{postId}/bookmarks")
+    public Map<String, Object> unsetBookmark(@PathVariable @Positive Long postId) {
+        return bookmarkBody(service.unsetBookmark(postId));
+    }
+
+    private static Map<String, Object> heartBody(InteractionService.ToggleResult r) {
+        return Map.of("liked", r.state(), "likeCount", r.count());
+    }
+
+    private static Map<String, Object> bookmarkBody(InteractionService.ToggleResult r) {
         return Map.of("bookmarked", r.state(), "bookmarkCount", r.count());
     }
 }
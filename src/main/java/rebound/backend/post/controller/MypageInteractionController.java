@@ -3,8 +3,11 @@ package rebound.backend.post.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import rebound.backend.post.dto.MyInteractionStateDto;
+import rebound.backend.post.dto.PostSummary;
 import rebound.backend.post.dto.SliceResponse;
 import rebound.backend.post.entity.ReactionType;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
 import rebound.backend.post.repository.PostBookmarkRepository;
 import rebound.backend.post.repository.PostReactionRepository;
 import rebound.backend.post.service.MypageInteractionService;
@@ -18,6 +21,7 @@ public class MypageInteractionController {
     private final MypageInteractionService service;
     private final PostReactionRepository reactionRepo;
     private final PostBookmarkRepository bookmarkRepo;
+    private final PendingInteractions pendingInteractions;
 
     // 좋아요한 글 목록 (postId만 반환)
     @GetMapping("/likes")
@@ -40,12 +44,35 @@ public class MypageInteractionController {
         return SliceResponse.of(service.myCommentedPostIds(page, size));
     }
 
+    // 좋아요한 글 목록 (게시글 카드, 좋아요한 순서)
+    @GetMapping("/likes/posts")
+    public SliceResponse<PostSummary> myLikedPostCards(@RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return SliceResponse.of(service.myLikedPosts(page, size));
+    }
+
+    // 스크랩한 글 목록 (게시글 카드, 스크랩한 순서)
+    @GetMapping("/bookmarks/posts")
+    public SliceResponse<PostSummary> myBookmarkedPostCards(@RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return SliceResponse.of(service.myBookmarkedPosts(page, size));
+    }
+
+    // 내가 댓글 단 글 목록 (게시글 카드, 최근 댓글 순서)
+    @GetMapping("/comments/posts")
+    public SliceResponse<PostSummary> myCommentedPostCards(@RequestParam(defaultValue = "0") int page,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        return SliceResponse.of(service.myCommentedPosts(page, size));
+    }
+
     // (카드에서 사용) 단일 게시글에 대한 '내 상호작용 상태' 조회
     @GetMapping("/posts/{postId}/my-interactions")
     public MyInteractionStateDto myInteractionState(@PathVariable Long postId) {
         Long me = InteractionAuth.currentMemberId();
-        boolean liked = reactionRepo.existsByPostIdAndMemberIdAndType(postId, me, ReactionType.HEART);
-        boolean bookmarked = bookmarkRepo.existsByPostIdAndMemberId(postId, me);
+        boolean liked = pendingInteractions.stateOr(InteractionKind.POST_HEART, postId, me,
+                reactionRepo.existsByPostIdAndMemberIdAndType(postId, me, ReactionType.HEART));
+        boolean bookmarked = pendingInteractions.stateOr(InteractionKind.POST_BOOKMARK, postId, me,
+                bookmarkRepo.existsByPostIdAndMemberId(postId, me));
         long likeCount = reactionRepo.countByPostIdAndType(postId, ReactionType.HEART);
         long bookmarkCount = bookmarkRepo.countByPostId(postId);
         return new MyInteractionStateDto(liked, bookmarked, likeCount, bookmarkCount);
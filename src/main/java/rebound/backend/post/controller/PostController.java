@@ -6,16 +6,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import rebound.backend.category.entity.MainCategory;
 import rebound.backend.category.entity.SubCategory;
 import rebound.backend.post.dto.PostCreateRequest;
 import rebound.backend.post.dto.PostResponse;
+import rebound.backend.post.dto.PostSummary;
 import rebound.backend.post.dto.PostUpdateRequest;
+import rebound.backend.post.dto.SliceResponse;
+import rebound.backend.post.ranking.PopularityWindow;
 import rebound.backend.post.service.PostService;
+import rebound.backend.utils.PreconditionFailedException;
+import rebound.backend.utils.StrongEtag;
 
 @RestController
 @RequestMapping("/api/v1/posts")
@@ -26,35 +34,52 @@ public class PostController {
 
     @Operation(summary = "카테고리별 게시글 목록 조회", description = "소분류(subCategory)를 기준으로 게시글 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getPosts(
+    public ResponseEntity<Page<PostSummary>> getPosts(
             @RequestParam(value = "mainCategory", required = false) MainCategory mainCategory,
             @RequestParam(value = "subCategory") SubCategory subCategory,
             @PageableDefault(size = 10) Pageable pageable) {
-        Page<PostResponse> results = postService.getPosts(mainCategory, subCategory, pageable);
+        Page<PostSummary> results = postService.getPosts(mainCategory, subCategory, pageable);
         return ResponseEntity.ok(results);
     }
 
     @Operation(summary = "최신 게시글 목록 조회", description = "최신순으로 정렬된 게시글 목록을 조회합니다.")
     @GetMapping("/recent")
-    public ResponseEntity<Page<PostResponse>> getRecentPosts(
+    public ResponseEntity<Page<PostSummary>> getRecentPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<PostResponse> results = postService.getRecentPosts(pageable);
+        Page<PostSummary> results = postService.getRecentPosts(pageable);
         return ResponseEntity.ok(results);
     }
 
     @Operation(summary = "내가 쓴 글 목록 조회", description = "현재 로그인한 사용자가 작성한 글 목록을 최신순으로 조회합니다.")
     @GetMapping("/my")
-    public ResponseEntity<Page<PostResponse>> getMyPosts(
+    public ResponseEntity<Page<PostSummary>> getMyPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<PostResponse> results = postService.getMyPosts(pageable);
+        Page<PostSummary> results = postService.getMyPosts(pageable);
         return ResponseEntity.ok(results);
     }
 
-    @Operation(summary = "게시글 상세 조회")
+    @Operation(summary = "게시글 상세 조회", description = "ETag 를 내려주며, If-None-Match 가 같으면 본문 없이 304 를 응답합니다.")
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponse> getPostDetails(@PathVariable Long postId) {
+    public ResponseEntity<PostResponse> getPostDetails(@PathVariable Long postId, WebRequest request) {
+        // 내 좋아요/북마크 여부가 본문에 들어가므로 로그인 사용자 응답은 공유 캐시에 두지 않는다
+        CacheControl cacheControl = request.getUserPrincipal() == null
+                ? CacheControl.noCache().cachePublic()
+                : CacheControl.noCache().cachePrivate();
+        String etag = postService.detailEtag(postId);
+        if (etag == null) {
+            return ResponseEntity.ok(postService.getPostDetails(postId)); // 없는 게시글: 기존 예외 응답
+        }
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.AUTHORIZATION).build();
+        }
         PostResponse response = postService.getPostDetails(postId);
-        return ResponseEntity.ok(response);
+        if (response.isDegraded()) {
+            // 기본값으로 채운 본문에 정상 ETag 를 붙이면 클라이언트/압축 캐시에 틀린 값이 고정되므로 저장하지 않게 한다
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION).body(response);
     }
 
     @Operation(summary = "게시글 생성 (JSON)", description = "게시글 데이터를 JSON 형식으로 받습니다.")
@@ -64,11 +89,13 @@ public class PostController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "게시글 수정", description = "게시글의 내용, 이미지, 상태 등을 한번에 수정합니다.")
+    @Operation(summary = "게시글 수정", description = "게시글의 내용, 이미지, 상태 등을 한번에 수정합니다. "
+            + "If-Match 에 상세 조회 ETag 를 보내면 그 사이 다른 수정이 있었을 때 412 를 응답합니다.")
     @PatchMapping(value = "/{postId}", consumes = {MediaType.APPLICATION_JSON_VALUE})
-    public ResponseEntity<PostResponse> updatePost(@PathVariable Long postId, @RequestBody PostUpdateRequest req) {
-        PostResponse response = postService.updatePost(postId, req);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PostResponse> updatePost(@PathVariable Long postId, @RequestBody PostUpdateRequest req,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PostResponse response = postService.updatePost(postId, req, expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(postService.detailEtag(postId)).body(response);
     }
 
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
@@ -80,26 +107,70 @@ public class PostController {
 
     @Operation(summary = "게시글 검색", description = "키워드를 사용하여 제목, 내용, 태그에서 게시글을 검색합니다.")
     @GetMapping("/search")
-    public ResponseEntity<Page<PostResponse>> searchPosts(
+    public ResponseEntity<Page<PostSummary>> searchPosts(
             @RequestParam(value = "keyword", required = false) String keyword,
             @PageableDefault(size = 10) Pageable pageable) {
-        Page<PostResponse> results = postService.searchPostsByKeyword(keyword, pageable);
+        Page<PostSummary> results = postService.searchPostsByKeyword(keyword, pageable);
         return ResponseEntity.ok(results);
     }
 
-    @Operation(summary = "인기순 게시글 목록 조회", description = "인기순으로 정렬된 게시글 목록을 조회합니다.")
+    @Operation(summary = "인기순 게시글 목록 조회", description = "인기순으로 정렬된 게시글 목록을 조회합니다. window: DAY(24시간), WEEK(7일), ALL(전체)")
     @GetMapping("/popular")
-    public ResponseEntity<Page<PostResponse>> getPopularPosts(
+    public ResponseEntity<Page<PostSummary>> getPopularPosts(
+            @RequestParam(value = "window", defaultValue = "ALL") PopularityWindow window,
             @PageableDefault(size = 10) Pageable pageable) {
-        Page<PostResponse> results = postService.getPopularPosts(pageable);
+        Page<PostSummary> results = postService.getPopularPosts(window, pageable);
         return ResponseEntity.ok(results);
     }
 
     @Operation(summary = "추천 실패담 목록 조회", description = "현재 로그인한 사용자의 관심사에 기반한 게시글 목록을 최신순으로 조회합니다.")
     @GetMapping("/recommendations")
-    public ResponseEntity<Page<PostResponse>> getRecommendedPosts(
+    public ResponseEntity<Page<PostSummary>> getRecommendedPosts(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<PostResponse> results = postService.getRecommendedPosts(pageable);
+        Page<PostSummary> results = postService.getRecommendedPosts(pageable);
         return ResponseEntity.ok(results);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "최신 게시글 목록 조회 (커서)", description = "응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. 전체 개수는 계산하지 않습니다.")
+    @GetMapping("/recent/cursor")
+    public ResponseEntity<SliceResponse<PostSummary>> getRecentPostsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getRecentPostsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "인기순 게시글 목록 조회 (커서)", description = "응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. window: DAY(24시간), WEEK(7일), ALL(전체)")
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<SliceResponse<PostSummary>> getPopularPostsByCursor(
+            @RequestParam(value = "window", defaultValue = "ALL") PopularityWindow window,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getPopularPostsByCursor(window, cursor, size));
+    }
+
+    @Operation(summary = "추천 실패담 목록 조회 (커서)", description = "관심사 기반 게시글을 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @GetMapping("/recommendations/cursor")
+    public ResponseEntity<SliceResponse<PostSummary>> getRecommendedPostsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getRecommendedPostsByCursor(cursor, size));
+    }
+
+    @Operation(summary = "홈 피드 조회 (커서)", description = "관심 대분류의 새 글을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. 비로그인 시 최신 글을 돌려줍니다.")
+    @GetMapping("/home/cursor")
+    public ResponseEntity<SliceResponse<PostSummary>> getHomeFeedByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getHomeFeedByCursor(cursor, size));
+    }
+
+    /** If-Match 의 버전. 없거나 "*" 이면 검사하지 않고, 알아볼 수 없는 값이면 일치하지 않는 것으로 본다. */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        Long version = StrongEtag.versionOf(ifMatch.split(",")[0]);
+        if (version == null) {
+            throw new PreconditionFailedException("If-Match 값이 올바르지 않습니다. 상세 조회의 ETag 를 보내 주세요.");
+        }
+        return version;
+    }
+}
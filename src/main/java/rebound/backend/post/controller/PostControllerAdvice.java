@@ -0,0 +1,36 @@
+package rebound.backend.post.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import rebound.backend.utils.PreconditionFailedException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice(basePackageClasses = PostController.class)
+public class PostControllerAdvice {
+
+    // If-Match 버전 불일치
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedTo412(PreconditionFailedException e) {
+        return error(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+    }
+
+    // 같은 게시글을 동시에 수정해 커밋 시 @Version 검사에 걸린 쪽
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockTo409(ObjectOptimisticLockingFailureException e) {
+        return error(HttpStatus.CONFLICT, "다른 수정과 충돌했습니다. 다시 불러온 뒤 수정해 주세요.");
+    }
+
+    private static ResponseEntity<Object> error(HttpStatus status, String message) {
+        Map<String, Object> responseEntity = new HashMap<>();
+        responseEntity.put("status", status.value());
+        responseEntity.put("error", status.getReasonPhrase());
+        responseEntity.put("message", message);
+
+        return new ResponseEntity<>(responseEntity, status);
+    }
+}
@@ -0,0 +1,32 @@
+package rebound.backend.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 댓글 keyset 페이지네이션용 불투명 커서. (createdAt, commentId) 오름차순 기준으로 다음 위치를 가리킨다.
+ */
+public record CommentCursor(Instant createdAt, long commentId) {
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + "|" + createdAt.getNano() + "|" + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) throw new IllegalArgumentException("잘못된 커서입니다.");
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new CommentCursor(createdAt, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
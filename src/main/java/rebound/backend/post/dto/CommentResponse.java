@@ -4,6 +4,7 @@ import rebound.backend.member.domain.Member;
 import rebound.backend.member.domain.MemberImage;
 import rebound.backend.post.entity.Comment;
 import rebound.backend.post.entity.CommentStatus;
+import rebound.backend.s3.dto.ImageVariantUrls;
 import rebound.backend.utils.NicknameMasker;
 
 import java.time.Instant;
@@ -23,9 +24,14 @@ public record CommentResponse(
         Instant createdAt
 ) {
 
-    public record AuthorInfo(Long memberId, String nickname, String imageUrl) {}
+    public record AuthorInfo(Long memberId, String nickname, String imageUrl, String imageThumbUrl) {}
 
     public static CommentResponse from(Comment comment, Member member, MemberImage memberImage) {
+        return from(comment, member, memberImage, comment.getLikeCount());
+    }
+
+    /** likeCount: 아직 DB 에 반영되지 않은 하트 증감까지 더한 값 */
+    public static CommentResponse from(Comment comment, Member member, MemberImage memberImage, int likeCount) {
 
         // 1. 회원 기본 정보 설정 (탈퇴 회원 등 예외 처리)
         Long authorId = comment.getMemberId();
@@ -42,7 +48,9 @@ public record CommentResponse(
         String displayName = comment.isAnonymous() ? NicknameMasker.mask(realNickname) : realNickname;
 
         // 4. DTO 생성 (memberId와 imageUrl은 항상 원본 값 사용)
-        AuthorInfo authorInfo = new AuthorInfo(authorId, displayName, imageUrl);
+        ImageVariantUrls variants = ImageVariantUrls.of(imageUrl, memberImage != null && memberImage.isVariantsReady());
+        AuthorInfo authorInfo = new AuthorInfo(authorId, displayName, imageUrl,
+                variants != null ? variants.thumb() : null);
 
         return new CommentResponse(
                 comment.getCommentId(),
@@ -51,7 +59,7 @@ public record CommentResponse(
                 comment.getContent(),
                 comment.isAnonymous(),
                 comment.getParentCommentId(),
-                comment.getLikeCount(),
+                likeCount,
                 comment.getStatus(),
                 comment.getCreatedAt()
         );
@@ -0,0 +1,19 @@
+package rebound.backend.post.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드 노드. 루트 댓글은 앞쪽 대댓글 일부와 전체 대댓글 수를 함께 담고,
+ * 남은 대댓글은 nextReplyCursor 로 이어서 조회한다. 대댓글 노드는 replies 가 비어 있다.
+ */
+public record CommentThreadResponse(
+        CommentResponse comment,
+        boolean liked,            // 로그인 사용자가 하트를 눌렀는지
+        long replyCount,
+        List<CommentThreadResponse> replies,
+        String nextReplyCursor
+) {
+    public static CommentThreadResponse leaf(CommentResponse comment, boolean liked) {
+        return new CommentThreadResponse(comment, liked, 0L, List.of(), null);
+    }
+}
@@ -0,0 +1,85 @@
+package rebound.backend.post.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 피드 keyset 페이지네이션용 불투명 커서.
+ * 최신순은 (createdAt, postId), 인기순은 (score, postId), 태그별 피드는 postId 를 seek 조건으로 사용한다.
+ * 점수 커서에는 그 점수를 만든 기준(scope: 구간, 메모리 랭킹/DB 폴백, 랭킹 세대 등)을 함께 넣어,
+ * 기준이 바뀐 뒤 다른 척도의 점수로 seek 하지 않게 한다.
+ */
+public record PostCursor(Type type, LocalDateTime createdAt, double score, long postId, String scope) {
+
+    public enum Type { TIME, SCORE, ID }
+
+    public static PostCursor ofTime(LocalDateTime createdAt, long postId) {
+        return new PostCursor(Type.TIME, createdAt, 0.0, postId, null);
+    }
+
+    public static PostCursor ofScore(double score, long postId, String scope) {
+        return new PostCursor(Type.SCORE, null, score, postId, scope);
+    }
+
+    public static PostCursor ofId(long postId) {
+        return new PostCursor(Type.ID, null, 0.0, postId, null);
+    }
+
+    public String encode() {
+        String raw = switch (type) {
+            case TIME -> "t|" + createdAt + "|" + postId;
+            case SCORE -> "s|" + Double.doubleToLongBits(score) + "|" + postId + "|" + scope;
+            case ID -> "i|-|" + postId;
+        };
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static PostCursor decode(String cursor, Type expected) {
+        if (cursor == null || cursor.isBlank()) return null;
+        PostCursor decoded = parse(cursor);
+        if (decoded == null || decoded.type() != expected) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return decoded;
+    }
+
+    /**
+     * 점수 커서 해석. 커서의 scope 가 지금 기준과 다르면(랭킹 재적재, 구간/모드 변경) null 을 돌려 첫 페이지부터 읽게 한다.
+     */
+    public static PostCursor decodeScore(String cursor, String scope) {
+        PostCursor decoded = decode(cursor, Type.SCORE);
+        return decoded == null || !scope.equals(decoded.scope()) ? null : decoded;
+    }
+
+    /**
+     * @return 커서 종류 (비어 있거나 해석할 수 없으면 null)
+     */
+    public static Type typeOf(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        PostCursor decoded = parse(cursor);
+        return decoded == null ? null : decoded.type();
+    }
+
+    private static PostCursor parse(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 && !(parts.length == 4 && "s".equals(parts[0]))) return null;
+            long postId = Long.parseLong(parts[2]);
+            return switch (parts[0]) {
+                case "t" -> ofTime(LocalDateTime.parse(parts[1]), postId);
+                // scope 가 없는 예전 점수 커서는 어떤 기준과도 맞지 않아 첫 페이지로 돌아간다
+                case "s" -> ofScore(Double.longBitsToDouble(Long.parseLong(parts[1])), postId,
+                        parts.length == 4 ? parts[3] : null);
+                case "i" -> ofId(postId);
+                default -> null;
+            };
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
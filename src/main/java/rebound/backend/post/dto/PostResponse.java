@@ -1,11 +1,15 @@
 package rebound.backend.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
 import rebound.backend.member.domain.Member;
 import rebound.backend.post.entity.Post;
 import rebound.backend.post.entity.PostContent;
 import rebound.backend.post.entity.PostImage;
+import rebound.backend.s3.dto.ImageVariantUrls;
 import rebound.backend.tag.entity.Tag;
 import rebound.backend.utils.NicknameMasker;
 
@@ -15,7 +19,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
 
     private final Long postId;
@@ -23,6 +27,7 @@ public class PostResponse {
     private final LocalDateTime createdAt;
     private final List<String> tags;
     private final List<String> imageUrls;
+    private final List<ImageVariantUrls> images; // imageUrls 와 같은 순서, 목록 화면은 thumb/card 사용
     private final CategoryDetail category;
     private final String situationContent;
     private final String failureContent;
@@ -37,13 +42,47 @@ public class PostResponse {
     private final Boolean bookmarked;
     private final Boolean isAnonymous;
 
+    @JsonIgnore
+    private final boolean degraded; // 카운터/내 반응 조회가 늦어 기본값으로 채운 응답 (ETag/캐시 대상 아님)
+
     @Getter
     @Builder
     public static class AuthorDetail {
         private final Long memberId;
         private final String nickname;
         private final String profileImage;
+        private final String profileImageThumb;
         private final boolean hasRankBadge;
+
+        /** 익명 글이면 닉네임 마스킹 + 이미지/배지 숨김, 작성자가 없으면(탈퇴) 알 수 없는 사용자 */
+        public static AuthorDetail of(Member author, boolean anonymous, boolean hasRankBadge) {
+            if (author == null) {
+                return AuthorDetail.builder()
+                        .memberId(null)
+                        .nickname("알 수 없는 사용자")
+                        .profileImage(null)
+                        .build();
+            }
+            if (anonymous) {
+                return AuthorDetail.builder()
+                        .memberId(author.getId())
+                        .nickname(NicknameMasker.mask(author.getNickname()))
+                        .profileImage(null)
+                        .build();
+            }
+            String profileImageUrl = (author.getMemberImage() != null)
+                    ? author.getMemberImage().getImageUrl()
+                    : null;
+            ImageVariantUrls profileVariants = ImageVariantUrls.of(profileImageUrl,
+                    author.getMemberImage() != null && author.getMemberImage().isVariantsReady());
+            return AuthorDetail.builder()
+                    .memberId(author.getId())
+                    .nickname(author.getNickname())
+                    .profileImage(profileImageUrl)
+                    .profileImageThumb(profileVariants != null ? profileVariants.thumb() : null)
+                    .hasRankBadge(hasRankBadge)
+                    .build();
+        }
     }
 
     @Getter
@@ -55,41 +94,21 @@ public class PostResponse {
         private final String subCategoryLabel;
 
         public static CategoryDetail from(Post post) {
+            return of(post.getMainCategory(), post.getSubCategory());
+        }
+
+        public static CategoryDetail of(MainCategory mainCategory, SubCategory subCategory) {
             return CategoryDetail.builder()
-                    .mainCategoryCode(post.getMainCategory().name())
-                    .mainCategoryLabel(post.getMainCategory().getLabel())
-                    .subCategoryCode(post.getSubCategory().name())
-                    .subCategoryLabel(post.getSubCategory().getLabel())
+                    .mainCategoryCode(mainCategory.name())
+                    .mainCategoryLabel(mainCategory.getLabel())
+                    .subCategoryCode(subCategory.name())
+                    .subCategoryLabel(subCategory.getLabel())
                     .build();
         }
     }
 
     public static PostResponse from(Post post, Member author, long likeCount, long bookmarkCount, boolean liked, boolean bookmarked, boolean hasRankBadge) {
-        AuthorDetail authorDetail;
-        if (author != null) {
-            if (post.getIsAnonymous()) {
-                authorDetail = AuthorDetail.builder()
-                        .memberId(author.getId())
-                        .nickname(NicknameMasker.mask(author.getNickname()))
-                        .profileImage(null)
-                        .build();
-            } else {
-                String profileImageUrl = (author.getMemberImage() != null)
-                        ? author.getMemberImage().getImageUrl()
-                        : null;
-                authorDetail = AuthorDetail.builder()
-                        .memberId(author.getId())
-                        .nickname(author.getNickname())
-                        .profileImage(profileImageUrl)
-                        .build();
-            }
-        } else {
-            authorDetail = AuthorDetail.builder()
-                    .memberId(null)
-                    .nickname("알 수 없는 사용자")
-                    .profileImage(null)
-                    .build();
-        }
+        AuthorDetail authorDetail = AuthorDetail.of(author, post.getIsAnonymous(), hasRankBadge);
 
         List<String> tagNames = (post.getTags() != null)
                 ? post.getTags().stream().map(Tag::getName).collect(Collectors.toList())
@@ -108,6 +127,9 @@ public class PostResponse {
                 .author(authorDetail)
                 .tags(tagNames)
                 .imageUrls(imageUrls)
+                .images(post.getPostImages() == null ? Collections.emptyList() : post.getPostImages().stream()
+                        .map(image -> ImageVariantUrls.of(image.getImageUrl(), image.isVariantsReady()))
+                        .collect(Collectors.toList()))
                 .category(CategoryDetail.from(post))
                 .situationContent(content != null ? content.getSituationContent() : null)
                 .failureContent(content != null ? content.getFailureContent() : null)
@@ -121,4 +143,9 @@ public class PostResponse {
                 .isAnonymous(post.getIsAnonymous())
                 .build();
     }
-}
\ No newline at end of file
+
+    /** 카운터/내 반응을 기본값으로 채운 응답으로 표시 */
+    public PostResponse asDegraded() {
+        return toBuilder().degraded(true).build();
+    }
+}
@@ -0,0 +1,50 @@
+package rebound.backend.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import rebound.backend.post.entity.Post;
+import rebound.backend.s3.dto.ImageVariantUrls;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 목록 화면용 게시글 카드.
+ * 본문(@Lob 4 개)은 싣지 않고 상황 본문 앞부분 excerpt 만 담는다. 전체 본문은 상세 조회(PostResponse)에서.
+ */
+@Getter
+@Builder
+public class PostSummary {
+
+    /** excerpt 최대 글자 수 (초과분은 잘라내고 … 를 붙인다) */
+    public static final int EXCERPT_LENGTH = 120;
+
+    /** DB 에서 읽어 올 본문 앞부분 길이. 연속 공백을 한 칸으로 줄인 뒤에도 EXCERPT_LENGTH 를 넘는지 판단할 수 있게 여유를 둔다 */
+    public static final int EXCERPT_HEAD_LENGTH = EXCERPT_LENGTH * 2;
+
+    private final Long postId;
+    private final String title;
+    private final String excerpt;
+    private final LocalDateTime createdAt;
+    private final List<String> tags;
+    private final ImageVariantUrls thumbnail; // 첫 번째 이미지, 없으면 null
+    private final int imageCount;
+    private final PostResponse.CategoryDetail category;
+    private final PostResponse.AuthorDetail author;
+    private final Post.Status status;
+
+    private final Long likeCount;
+    private final Long bookmarkCount;
+    private final Long commentCount;
+    private final Boolean liked;
+    private final Boolean bookmarked;
+    private final Boolean isAnonymous;
+
+    /** DB 에서 EXCERPT_HEAD_LENGTH 글자까지만 읽어 온 본문 앞부분의 공백을 정리하고 EXCERPT_LENGTH 로 자른다. */
+    public static String excerptOf(String head) {
+        if (head == null || head.isBlank()) return null;
+        String normalized = head.strip().replaceAll("\\s+", " ");
+        if (normalized.length() <= EXCERPT_LENGTH) return normalized;
+        return normalized.substring(0, EXCERPT_LENGTH) + "…";
+    }
+}
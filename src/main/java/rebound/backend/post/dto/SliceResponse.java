@@ -6,9 +6,14 @@ public record SliceResponse<T>(
         List<T> items,
         boolean hasNext,
         int page,
-        int size
+        int size,
+        String nextCursor // 커서 기반 목록에서만 사용 (다음 요청의 cursor 파라미터로 그대로 전달)
 ) {
     public static <T> SliceResponse<T> of(org.springframework.data.domain.Slice<T> s) {
-        return new SliceResponse<>(s.getContent(), s.hasNext(), s.getNumber(), s.getSize());
+        return new SliceResponse<>(s.getContent(), s.hasNext(), s.getNumber(), s.getSize(), null);
+    }
+
+    public static <T> SliceResponse<T> ofCursor(List<T> items, boolean hasNext, int size, String nextCursor) {
+        return new SliceResponse<>(items, hasNext, 0, size, hasNext ? nextCursor : null);
     }
 }
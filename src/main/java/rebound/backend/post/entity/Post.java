@@ -4,18 +4,21 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import rebound.backend.category.entity.MainCategory;
 import rebound.backend.category.entity.SubCategory;
 import rebound.backend.tag.entity.Tag;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post",
+        indexes = {
+                @Index(name = "ix_post_status_popularity", columnList = "status,popularity_score,created_at"),
+                @Index(name = "ix_post_status_created", columnList = "status,created_at,post_id")
+        })
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -60,12 +63,41 @@ public class Post {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    /** 낙관적 잠금 버전: 제목/본문/이미지/태그/상태가 바뀔 때마다 증가 (If-Match, 상세 ETag 기준) */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 10)
     @Builder.Default
     private Status status = Status.DRAFT; // 기본 초안
 
+    /**
+     * 비정규화 카운터: PostCounterService 가 write-behind 로 갱신.
+     * updatable = false: 다른 필드 수정으로 post 행이 UPDATE 될 때 읽어 둔 값으로 덮어써
+     * 그 사이 반영된 like_count = like_count + ? 증감을 잃지 않도록 엔티티에서는 쓰지 않는다.
+     */
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Builder.Default
+    private long likeCount = 0L;
+
+    @Column(name = "bookmark_count", nullable = false, updatable = false)
+    @Builder.Default
+    private long bookmarkCount = 0L;
+
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private long commentCount = 0L;
+
+    /** 인기 점수 = 좋아요*2 + 북마크 + 댓글 (인기순 정렬 인덱스용) */
+    @Column(name = "popularity_score", nullable = false, updatable = false)
+    @Builder.Default
+    private long popularityScore = 0L;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<PostImage> postImages = new ArrayList<>();
 
@@ -82,9 +114,10 @@ public class Post {
             name = "post_tag",
             joinColumns = @JoinColumn(name = "post_id", foreignKey = @ForeignKey(name="fk_post_tag_post")),
             inverseJoinColumns = @JoinColumn(name = "tag_id", foreignKey = @ForeignKey(name="fk_post_tag_tag")),
-            uniqueConstraints = @UniqueConstraint(name = "uq_post_tag", columnNames = {"post_id","tag_id"})
+            uniqueConstraints = @UniqueConstraint(name = "uq_post_tag", columnNames = {"post_id","tag_id"}),
+            indexes = @Index(name = "ix_post_tag_tag_post", columnList = "tag_id,post_id") // 태그별 피드 keyset
     )
-
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<Tag> tags = new LinkedHashSet<>();
 
@@ -107,8 +140,47 @@ public class Post {
         updatedAt = now;
     }
 
+    /** 본문/이미지만 바뀌어 post 행이 dirty 가 아니어도 수정 시각과 버전을 올린다 */
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void addImage(PostImage postImage) {
         this.postImages.add(postImage);
         postImage.setPost(this);
     }
+
+    /**
+     * 이미지 목록을 imageUrls 순서로 맞춘다. 같은 URL 의 기존 행은 그대로 두고 순서만 고치며,
+     * 새 URL 만 추가하고 빠진 URL 만 삭제한다 (orphanRemoval).
+     * @return 바뀐 것이 있으면 true
+     */
+    public boolean syncImages(List<String> imageUrls) {
+        Map<String, Deque<PostImage>> existing = new HashMap<>();
+        for (PostImage image : postImages) {
+            existing.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+        boolean changed = false;
+        List<PostImage> added = new ArrayList<>();
+        for (int order = 0; order < imageUrls.size(); order++) {
+            String url = imageUrls.get(order);
+            Deque<PostImage> sameUrl = existing.get(url);
+            PostImage image = sameUrl == null ? null : sameUrl.poll();
+            if (image == null) {
+                added.add(PostImage.builder().imageUrl(url).imageOrder(order).build());
+                changed = true;
+            } else if (image.getImageOrder() != order) {
+                image.setImageOrder(order);
+                changed = true;
+            }
+        }
+        for (Deque<PostImage> unused : existing.values()) {
+            if (!unused.isEmpty()) {
+                postImages.removeAll(unused);
+                changed = true;
+            }
+        }
+        added.forEach(this::addImage);
+        return changed;
+    }
 }
\ No newline at end of file
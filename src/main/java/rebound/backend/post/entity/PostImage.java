@@ -2,6 +2,7 @@ package rebound.backend.post.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter @Setter
@@ -21,6 +22,11 @@ public class PostImage {
     @Column(name = "image_order", nullable = false)
     private int imageOrder; // 이미지 순서 (0부터 시작)
 
+    /** 변형본(thumb/card/full) 생성 완료 여부. false 면 응답의 변형본 URL 은 원본으로 대체된다 */
+    @ColumnDefault("false")
+    @Column(name = "variants_ready", nullable = false)
+    private boolean variantsReady;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private Post post;
@@ -0,0 +1,12 @@
+package rebound.backend.post.event;
+
+/**
+ * 댓글 하트 증감 이벤트. 커밋 이후 CommentLikeCounter 가 받아 like_count 증감을 모은다.
+ *
+ * @param commentId 대상 댓글
+ * @param postId    댓글이 달린 게시글 (댓글 목록 ETag 용)
+ * @param memberId  행동한 사용자
+ * @param delta     +1(추가) / -1(취소)
+ */
+public record CommentReactionEvent(Long commentId, Long postId, Long memberId, int delta) {
+}
@@ -0,0 +1,8 @@
+package rebound.backend.post.event;
+
+/**
+ * 게시글 카운터/인기 점수 보정(PostCounterService.reconcile) 완료 이벤트.
+ * 보정된 post.popularity_score 로 메모리 랭킹을 다시 적재할 때 쓴다.
+ */
+public record PostCountersReconciledEvent() {
+}
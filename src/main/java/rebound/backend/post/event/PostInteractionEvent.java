@@ -0,0 +1,15 @@
+package rebound.backend.post.event;
+
+/**
+ * 게시글에 대한 좋아요/북마크/댓글 증감 이벤트.
+ * 트랜잭션 커밋 이후에 카운터/랭킹 등 파생 데이터가 이 이벤트를 받아 갱신한다.
+ *
+ * @param postId   대상 게시글
+ * @param memberId 행동한 사용자
+ * @param kind     반응 종류
+ * @param delta    +1(추가) / -1(취소)
+ */
+public record PostInteractionEvent(Long postId, Long memberId, Kind kind, int delta) {
+
+    public enum Kind { HEART, BOOKMARK, COMMENT }
+}
@@ -0,0 +1,12 @@
+package rebound.backend.post.event;
+
+/**
+ * 게시글 생성/수정/공개 전환/삭제 이벤트.
+ * PUBLISHED 는 비공개/임시저장 글이 수정으로 공개된 경우이며 UPDATED 대신 발행된다 (수정 리스너는 둘을 같게 처리하면 된다).
+ * 리스너는 커밋 이후 postId 로 필요한 상태를 다시 읽어 인덱스/랭킹을 갱신한다.
+ * memberId 는 작성자 (삭제 후에는 게시글을 다시 읽을 수 없으므로 함께 전달)
+ */
+public record PostLifecycleEvent(Long postId, Long memberId, Type type) {
+
+    public enum Type { CREATED, UPDATED, PUBLISHED, DELETED }
+}
@@ -0,0 +1,144 @@
+package rebound.backend.post.feed;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원 한 명의 홈 피드 링 버퍼 (고정 크기).
+ * DB 조회(pull)와 같은 (createdAt, postId) 내림차순으로 유지하므로, 버퍼를 다 읽으면 마지막 항목의 (createdAt, postId) 커서로
+ * DB 에서 빠짐/중복 없이 이어 읽을 수 있다. 가득 차면 가장 오래된 글부터 밀려난다.
+ * 새 글은 거의 항상 맨 앞에 들어가므로 O(1), 오래된 글이 뒤늦게 공개된 경우만 제자리를 찾아 끼워 넣는다.
+ */
+final class FeedBuffer {
+
+    /** 버퍼 항목 (DB 정렬 키 그대로) */
+    record Item(long postId, LocalDateTime createdAt) {}
+
+    private static final Comparator<Item> NEWEST_FIRST = Comparator.comparing(Item::createdAt)
+            .thenComparingLong(Item::postId).reversed();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] ids;
+    private final LocalDateTime[] createdAts;
+    private int head = -1; // 가장 최근 항목 위치
+    private int size = 0;
+
+    FeedBuffer(int capacity) {
+        this.ids = new long[capacity];
+        this.createdAts = new LocalDateTime[capacity];
+    }
+
+    /** 이미 들어 있거나, 가득 찬 버퍼의 가장 오래된 항목보다 오래된 글이면 무시 (그 글은 DB 에서 이어 읽힌다) */
+    void push(long postId, LocalDateTime createdAt) {
+        lock.lock();
+        try {
+            if (size == 0 || compare(createdAt, postId, 0) < 0) {
+                // 가장 최신 글: 맨 앞에 넣고 가득 찼으면 맨 뒤가 덮인다
+                head = (head + 1) % ids.length;
+                ids[head] = postId;
+                createdAts[head] = createdAt;
+                size = Math.min(size + 1, ids.length);
+                return;
+            }
+            int pos = search(createdAt, postId);
+            if (pos >= 0) return;
+            pos = -pos - 1;
+            if (pos >= ids.length) return;
+            // pos 뒤 항목을 한 칸씩 오래된 쪽으로 민다 (가득 찼으면 맨 뒤 항목은 밀려난다)
+            for (int i = Math.min(size, ids.length - 1); i > pos; i--) {
+                set(i, ids[slot(i - 1)], createdAts[slot(i - 1)]);
+            }
+            set(pos, postId, createdAt);
+            size = Math.min(size + 1, ids.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 활성화 직후 DB 에서 읽은 과거 글을 기존 항목과 합쳐 정렬 순서대로 다시 채운다.
+     */
+    void appendOlder(List<Item> recent) {
+        lock.lock();
+        try {
+            List<Item> merged = new ArrayList<>(size + recent.size());
+            for (int i = 0; i < size; i++) merged.add(new Item(ids[slot(i)], createdAts[slot(i)]));
+            merged.addAll(recent);
+            List<Item> sorted = merged.stream().distinct().sorted(NEWEST_FIRST).limit(ids.length).toList();
+            size = sorted.size();
+            head = size - 1;
+            for (int i = 0; i < size; i++) {
+                set(i, sorted.get(i).postId(), sorted.get(i).createdAt());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * (afterCreatedAt, afterPostId) 보다 오래된 항목부터 limit 개. after 가 null 이면 처음부터.
+     * @return 커서가 가득 찬 버퍼의 가장 오래된 항목보다 뒤라서 버퍼로 답할 수 없으면 null
+     */
+    List<Item> slice(LocalDateTime afterCreatedAt, Long afterPostId, int limit) {
+        lock.lock();
+        try {
+            int from = 0;
+            if (afterPostId != null) {
+                int pos = search(afterCreatedAt, afterPostId);
+                from = pos >= 0 ? pos + 1 : -pos - 1;
+                if (from >= size && size == ids.length) return null;
+            }
+            int count = Math.max(0, Math.min(limit, size - from));
+            List<Item> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(new Item(ids[slot(from + i)], createdAts[slot(from + i)]));
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 버퍼가 가득 차 있으면 더 오래된 글은 DB 에서 이어 읽어야 한다. */
+    boolean full() {
+        lock.lock();
+        try {
+            return size == ids.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 최신순 위치를 이진 탐색. 없으면 -(들어갈 위치) - 1 (락 안에서 호출) */
+    private int search(LocalDateTime createdAt, long postId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(createdAt, postId, mid);
+            if (cmp == 0) return mid;
+            if (cmp > 0) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -(low + 1);
+    }
+
+    /** 최신순 i 번째 항목과 비교. 음수면 (createdAt, postId) 가 더 최신 (락 안에서 호출) */
+    private int compare(LocalDateTime createdAt, long postId, int i) {
+        int cmp = createdAts[slot(i)].compareTo(createdAt);
+        return cmp != 0 ? cmp : Long.compare(ids[slot(i)], postId);
+    }
+
+    private void set(int i, long postId, LocalDateTime createdAt) {
+        ids[slot(i)] = postId;
+        createdAts[slot(i)] = createdAt;
+    }
+
+    /** 최신순 i 번째 항목의 실제 위치 */
+    private int slot(int i) {
+        return Math.floorMod(head - i, ids.length);
+    }
+}
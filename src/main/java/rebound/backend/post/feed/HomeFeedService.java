@@ -0,0 +1,215 @@
+package rebound.backend.post.feed;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.member.event.MemberChangedEvent;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.event.PostLifecycleEvent;
+import rebound.backend.post.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 홈 피드 사전 계산 (fan-out on write).
+ * 글이 공개되면(작성 또는 비공개/임시저장에서 공개로 전환, 단순 수정은 제외) 그 대분류에 관심이 있는 활성 회원의 FeedBuffer 에
+ * 넣어 두고, 읽을 때는 버퍼 조각 + 일괄 하이드레이션만 한다.
+ * fan-out 은 커밋 스레드가 아니라 크기가 정해진 전용 작업 풀에서 하며, 대기열이 가득 차면 커밋한 스레드가 직접 처리한다(유실 없이 속도 조절).
+ * 버퍼는 DB 조회와 같은 (createdAt, postId) 순서라 커서도 같은 시간 커서를 쓰고, 버퍼를 다 읽으면 그 커서로 DB 에서 이어 읽는다.
+ * 버퍼는 홈 피드를 읽은 회원에게만 만들고(첫 읽기 때 DB 에서 채움), inactive-after-ms 동안 읽지 않으면 버린다.
+ * 관심 회원이 max-audience 를 넘는 대분류는 fan-out 하지 않고, 그 대분류를 구독한 회원은 pull(DB 조회)로 읽는다.
+ * feed.fanout.enabled=false(기본)이면 slice() 가 항상 null 을 돌려 호출자가 pull 로 처리한다.
+ */
+@Slf4j
+@Service
+public class HomeFeedService {
+
+    /**
+     * 버퍼에서 읽은 한 페이지. exhausted 이면 버퍼 뒤쪽이 밀려나 있어 이후는 DB 에서 이어 읽어야 한다.
+     * last* 는 다음 커서 (버퍼에서 읽은 마지막 항목, 비어 있으면 null)
+     */
+    public record Slice(List<Long> postIds, boolean hasNext, boolean exhausted,
+                        LocalDateTime lastCreatedAt, Long lastPostId) {}
+
+    private static final class MemberFeed {
+        final FeedBuffer buffer;
+        final Set<MainCategory> interests;
+        volatile long lastReadAt;
+
+        MemberFeed(FeedBuffer buffer, Set<MainCategory> interests, long now) {
+            this.buffer = buffer;
+            this.interests = interests;
+            this.lastReadAt = now;
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int capacity;
+    private final int maxAudience;
+    private final long inactiveAfterMillis;
+    private final ThreadPoolExecutor fanOutWorkers;
+
+    private final Map<Long, MemberFeed> feeds = new ConcurrentHashMap<>();
+    private final Map<MainCategory, Set<Long>> audiences = new EnumMap<>(MainCategory.class);
+
+    HomeFeedService(PostRepository postRepository,
+                    JdbcTemplate jdbcTemplate,
+                    @Value("${feed.fanout.enabled:false}") boolean enabled,
+                    @Value("${feed.fanout.capacity:300}") int capacity,
+                    @Value("${feed.fanout.max-audience:20000}") int maxAudience,
+                    @Value("${feed.fanout.inactive-after-ms:604800000}") long inactiveAfterMillis,
+                    @Value("${feed.fanout.concurrency:1}") int concurrency,
+                    @Value("${feed.fanout.queue-capacity:1000}") int queueCapacity) {
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.maxAudience = maxAudience;
+        this.inactiveAfterMillis = inactiveAfterMillis;
+        for (MainCategory category : MainCategory.values()) {
+            audiences.put(category, ConcurrentHashMap.newKeySet());
+        }
+        this.fanOutWorkers = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "home-feed-fanout");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.fanOutWorkers.allowCoreThreadTimeOut(true);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * (afterCreatedAt, afterPostId) 다음부터 limit 개 (최신 먼저, DB 조회와 같은 순서).
+     * @return pull 로 읽어야 하면 null (비활성화, 관심사 없음, 대형 대분류 구독, 커서가 버퍼보다 오래됨)
+     */
+    public Slice slice(long memberId, LocalDateTime afterCreatedAt, Long afterPostId, int limit) {
+        if (!enabled) return null;
+        MemberFeed feed = feeds.get(memberId);
+        if (feed == null) {
+            feed = activate(memberId);
+            if (feed == null) return null;
+        }
+        if (feed.interests.stream().anyMatch(this::pullOnly)) return null;
+        feed.lastReadAt = System.currentTimeMillis();
+
+        List<FeedBuffer.Item> items = feed.buffer.slice(afterCreatedAt, afterPostId, limit + 1);
+        if (items == null) return null;
+        boolean hasNext = items.size() > limit;
+        List<FeedBuffer.Item> page = hasNext ? items.subList(0, limit) : items;
+        // 버퍼 끝까지 읽었는데 버퍼가 가득 차 있었다면 더 오래된 글이 DB 에 남아 있다
+        boolean exhausted = !hasNext && feed.buffer.full();
+        FeedBuffer.Item last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return new Slice(page.stream().map(FeedBuffer.Item::postId).toList(), hasNext || exhausted, exhausted,
+                last == null ? null : last.createdAt(), last == null ? null : last.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLifecycle(PostLifecycleEvent event) {
+        // 수정은 순서를 바꾸지 않는다. 삭제/비공개 전환된 글은 버퍼에 남아도 읽을 때 걸러진다
+        if (!enabled || (event.type() != PostLifecycleEvent.Type.CREATED
+                && event.type() != PostLifecycleEvent.Type.PUBLISHED)) return;
+        postRepository.findById(event.postId())
+                .filter(post -> post.getStatus() == Post.Status.PUBLIC)
+                .ifPresent(post -> fanOutWorkers.execute(() -> fanOut(post)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        // 관심사가 바뀌었을 수 있으므로 다음 읽기 때 다시 채운다
+        deactivate(event.memberId());
+    }
+
+    /** 오래 읽지 않은 회원의 버퍼는 버리고 pull 대상으로 되돌린다 */
+    @Scheduled(fixedDelayString = "${feed.fanout.sweep-interval-ms:600000}")
+    public void evictInactive() {
+        if (!enabled) return;
+        long threshold = System.currentTimeMillis() - inactiveAfterMillis;
+        List<Long> inactive = feeds.entrySet().stream()
+                .filter(e -> e.getValue().lastReadAt < threshold)
+                .map(Map.Entry::getKey)
+                .toList();
+        inactive.forEach(this::deactivate);
+        if (!inactive.isEmpty()) {
+            log.debug("비활성 홈 피드 버퍼 정리. evicted={}, active={}", inactive.size(), feeds.size());
+        }
+    }
+
+    int activeMembers() {
+        return feeds.size();
+    }
+
+    void fanOut(Post post) {
+        MainCategory category = post.getMainCategory();
+        if (category == null || pullOnly(category)) return;
+        long postId = post.getPostId();
+        LocalDateTime createdAt = post.getCreatedAt();
+        for (Long memberId : audiences.get(category)) {
+            if (memberId.equals(post.getMemberId())) continue;
+            MemberFeed feed = feeds.get(memberId);
+            if (feed != null) feed.buffer.push(postId, createdAt);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOutWorkers.shutdown();
+    }
+
+    private boolean pullOnly(MainCategory category) {
+        return audiences.get(category).size() > maxAudience;
+    }
+
+    /**
+     * 버퍼를 먼저 등록해 채우는 동안 공개된 글도 받도록 하고, 그 뒤 DB 의 최근 글로 나머지를 채운다.
+     */
+    private MemberFeed activate(long memberId) {
+        Set<MainCategory> interests = EnumSet.noneOf(MainCategory.class);
+        jdbcTemplate.queryForList("SELECT main_category FROM interest WHERE member_id = ?", String.class, memberId)
+                .forEach(name -> interests.add(MainCategory.valueOf(name)));
+        if (interests.isEmpty()) return null;
+
+        MemberFeed feed = new MemberFeed(new FeedBuffer(capacity), interests, System.currentTimeMillis());
+        MemberFeed existing = feeds.putIfAbsent(memberId, feed);
+        if (existing != null) return existing;
+        interests.forEach(category -> audiences.get(category).add(memberId));
+
+        String placeholders = String.join(",", Collections.nCopies(interests.size(), "?"));
+        List<Object> args = new ArrayList<>();
+        interests.forEach(category -> args.add(category.name()));
+        args.add(memberId);
+        args.add(capacity);
+        List<FeedBuffer.Item> recent = jdbcTemplate.query("""
+                SELECT post_id, created_at FROM post
+                WHERE status = 'PUBLIC' AND main_category IN (%s) AND member_id <> ?
+                ORDER BY created_at DESC, post_id DESC
+                LIMIT ?
+                """.formatted(placeholders),
+                (rs, rowNum) -> new FeedBuffer.Item(rs.getLong("post_id"), rs.getObject("created_at", LocalDateTime.class)),
+                args.toArray());
+        feed.buffer.appendOlder(recent);
+        return feed;
+    }
+
+    private void deactivate(long memberId) {
+        MemberFeed feed = feeds.remove(memberId);
+        if (feed != null) {
+            feed.interests.forEach(category -> audiences.get(category).remove(memberId));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package rebound.backend.post.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * 하트/북마크/댓글 하트 기록용 메모리 매핑 저널.
+ * 파일 하나를 고정 크기(capacity 칸) 링으로 쓰며, 기록 seq 는 (seq % capacity) 칸에 32 바이트로 들어간다.
+ * 헤더에는 DB 에 반영이 끝난 마지막 seq(applied)가 있고, 반영되지 않은 칸은 덮어쓰지 않는다(가득 차면 append 가 -1).
+ * 기록은 페이지 캐시에 바로 쓰이므로 프로세스가 죽어도 남는다. OS 장애까지 견디려면 sync=true (기록마다 force).
+ * 재기동 시 applied 다음 seq 부터 칸의 seq/CRC 가 맞는 동안 읽어 미반영 기록을 돌려준다.
+ */
+public class InteractionJournal implements Closeable {
+
+    private static final int MAGIC = 0x52424A4E; // "RBJN"
+    private static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    private static final int APPLIED_OFFSET = 16;
+    static final int RECORD_SIZE = 32;
+    private static final int CRC_OFFSET = 28;
+
+    /** 기록 한 건. state 는 반영 후 최종 상태(true=켜짐) */
+    public record Entry(long seq, InteractionKind kind, long targetId, long memberId, boolean state) {}
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean sync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Entry> recovered;
+    private long appliedSeq;
+    private volatile long lastSeq;
+
+    public InteractionJournal(Path file, int capacity, boolean sync) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다.");
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        boolean exists = Files.exists(file) && Files.size(file) >= HEADER_SIZE;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        int size = capacity;
+        if (exists) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                channel.close();
+                throw new IOException("알 수 없는 저널 형식: " + file);
+            }
+            size = header.getInt(8); // 기존 파일의 칸 수를 따른다
+        }
+        this.capacity = size;
+        this.sync = sync;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) size * RECORD_SIZE);
+        if (!exists) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, size);
+            buffer.putLong(APPLIED_OFFSET, 0L);
+            buffer.force();
+        }
+        this.appliedSeq = buffer.getLong(APPLIED_OFFSET);
+        this.recovered = scan(appliedSeq + 1);
+        this.lastSeq = appliedSeq + recovered.size();
+    }
+
+    /** 기동 시 남아 있던 미반영 기록 */
+    public List<Entry> recovered() {
+        return recovered;
+    }
+
+    /**
+     * 기록을 추가하고 seq 를 돌려준다. 미반영 기록이 capacity 만큼 차 있으면 -1.
+     */
+    public long append(InteractionKind kind, long targetId, long memberId, boolean state) {
+        lock.lock();
+        try {
+            long seq = lastSeq + 1;
+            if (seq - appliedSeq > capacity) return -1L;
+            int offset = offsetOf(seq);
+            buffer.putLong(offset, seq);
+            buffer.putLong(offset + 8, targetId);
+            buffer.putLong(offset + 16, memberId);
+            buffer.put(offset + 24, (byte) kind.ordinal());
+            buffer.put(offset + 25, (byte) (state ? 1 : 0));
+            buffer.putShort(offset + 26, (short) 0);
+            buffer.putInt(offset + CRC_OFFSET, crcOf(offset));
+            if (sync) buffer.force(offset, RECORD_SIZE);
+            lastSeq = seq;
+            return seq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** applied 다음부터 최대 max 건 */
+    public List<Entry> readPending(int max) {
+        lock.lock();
+        try {
+            long to = Math.min(lastSeq, appliedSeq + max);
+            List<Entry> entries = new ArrayList<>((int) (to - appliedSeq));
+            for (long seq = appliedSeq + 1; seq <= to; seq++) {
+                entries.add(read(offsetOf(seq)));
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** seq 까지 DB 반영 완료. 이 칸들은 이후 다시 쓰인다. */
+    public void markApplied(long seq) {
+        lock.lock();
+        try {
+            if (seq <= appliedSeq) return;
+            appliedSeq = seq;
+            buffer.putLong(APPLIED_OFFSET, seq);
+            if (sync) buffer.force(0, HEADER_SIZE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 미반영 기록 수 */
+    public long backlog() {
+        lock.lock();
+        try {
+            return lastSeq - appliedSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Entry> scan(long fromSeq) {
+        List<Entry> entries = new ArrayList<>();
+        for (long seq = fromSeq; seq < fromSeq + capacity; seq++) {
+            int offset = offsetOf(seq);
+            // 이전 바퀴의 칸이거나 쓰다 만 칸이면 거기까지
+            if (buffer.getLong(offset) != seq || buffer.getInt(offset + CRC_OFFSET) != crcOf(offset)) break;
+            entries.add(read(offset));
+        }
+        return entries;
+    }
+
+    private Entry read(int offset) {
+        return new Entry(buffer.getLong(offset),
+                InteractionKind.values()[buffer.get(offset + 24)],
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.get(offset + 25) == 1);
+    }
+
+    private int offsetOf(long seq) {
+        return HEADER_SIZE + (int) (seq % capacity) * RECORD_SIZE;
+    }
+
+    private int crcOf(int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+}
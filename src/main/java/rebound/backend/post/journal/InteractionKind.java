@@ -0,0 +1,10 @@
+package rebound.backend.post.journal;
+
+/**
+ * 저널에 기록되는 반응 종류. 저널에는 ordinal 로 저장되므로 순서를 바꾸지 말고 뒤에만 추가한다.
+ */
+public enum InteractionKind {
+    POST_HEART,
+    POST_BOOKMARK,
+    COMMENT_HEART
+}
@@ -0,0 +1,336 @@
+package rebound.backend.post.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import rebound.backend.post.event.CommentReactionEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 하트/북마크/댓글 하트 write-behind.
+ * interaction.journal.enabled=true 이면 요청은 DB 에 쓰지 않고 InteractionJournal 에 최종 상태 한 건을 기록한 뒤 바로 응답한다.
+ * 백그라운드 소비자가 flush-interval-ms 마다 미반영 기록을 batch-size 씩 읽어, 같은 (종류, 대상, 회원) 은 마지막 상태만 남기고
+ * post_reaction / post_bookmark / comment_reaction 에 INSERT IGNORE ... SELECT(대상이 남아 있을 때만) / DELETE 배치로 반영한다.
+ * 반영 전 상태는 overlay 에 남아 있어 본인 조회(상세/목록/댓글/ETag)에 그대로 보이고, 그만큼의 카운트 차이도 pendingDelta 로 더해 보인다.
+ * 카운터 증감 이벤트는 소비자가 반영 트랜잭션 안에서 실제로 바뀐 행(영향 행 1)에 대해서만 발행하므로,
+ * 재생으로 같은 기록을 다시 반영하거나 대상이 지워져 버린 기록도 카운터(PostCounterService, CommentLikeCounter)를 어긋나게 하지 않는다.
+ * 재기동 시 남은 기록은 overlay 로 되살리고, 이벤트 리스너가 등록된 뒤 첫 반영 주기에 반영한다.
+ * 꺼져 있어도 저널 파일이 남아 있으면 열어서 비운다.
+ */
+@Slf4j
+@Service
+public class PendingInteractions {
+
+    private static final int LOCK_STRIPES = 64;
+
+    // 대상 게시글/댓글이 그 사이 지워졌으면 SELECT 가 비어 아무 행도 쓰지 않는다 (영향 행 0 → 증감 없음). 인자는 (회원, 대상) 순
+    private static final String INSERT_POST_HEART = """
+            INSERT IGNORE INTO post_reaction (post_id, member_id, type, created_at)
+            SELECT post_id, ?, 'HEART', CURRENT_TIMESTAMP(6) FROM post WHERE post_id = ?
+            """;
+    private static final String DELETE_POST_HEART = "DELETE FROM post_reaction WHERE member_id = ? AND post_id = ? AND type = 'HEART'";
+    private static final String INSERT_BOOKMARK = """
+            INSERT IGNORE INTO post_bookmark (post_id, member_id, created_at)
+            SELECT post_id, ?, CURRENT_TIMESTAMP(6) FROM post WHERE post_id = ?
+            """;
+    private static final String DELETE_BOOKMARK = "DELETE FROM post_bookmark WHERE member_id = ? AND post_id = ?";
+    private static final String INSERT_COMMENT_HEART = """
+            INSERT IGNORE INTO comment_reaction (comment_id, member_id, type, created_at)
+            SELECT comment_id, ?, 'HEART', CURRENT_TIMESTAMP(6) FROM comment WHERE comment_id = ?
+            """;
+    private static final String DELETE_COMMENT_HEART = "DELETE FROM comment_reaction WHERE member_id = ? AND comment_id = ? AND type = 'HEART'";
+
+    /** 기록 결과: 최종 상태와 응답에 더해 보여 줄 증감(-1/0/+1). 카운터에는 반영 시점에 들어간다. */
+    public record Change(boolean state, int delta) {}
+
+    private record Key(InteractionKind kind, long targetId, long memberId) {}
+
+    /** base 는 이 키의 기록이 처음 쌓일 때(또는 앞선 기록이 반영된 뒤)의 DB 상태 */
+    private record Pending(long seq, boolean state, boolean base) {}
+
+    private record Target(InteractionKind kind, long targetId) {}
+
+    private record Settled(boolean state, long settledAt) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+    private final boolean enabled;
+    private final Path file;
+    private final int capacity;
+    private final boolean sync;
+    private final int batchSize;
+    private final long settledRetentionMs;
+    private final Map<Key, Pending> overlay = new ConcurrentHashMap<>();
+    // 대상별로 반영 대기 중인 기록이 카운트를 얼마나 바꾸는지 (키 잠금 안에서만 갱신)
+    private final Map<Target, Long> netDeltas = new ConcurrentHashMap<>();
+    // 최근 반영된 최종 상태. 요청 트랜잭션의 스냅샷이 반영 커밋보다 먼저 잡혔으면 DB 조회가 옛 값을 보므로 이 값을 먼저 쓴다
+    private final Map<Key, Settled> settled = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final ReentrantLock applyLock = new ReentrantLock();
+    private volatile InteractionJournal journal;
+
+    PendingInteractions(JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${interaction.journal.enabled:false}") boolean enabled,
+                        @Value("${interaction.journal.file:./data/interaction-journal.dat}") String file,
+                        @Value("${interaction.journal.capacity:262144}") int capacity,
+                        @Value("${interaction.journal.sync:false}") boolean sync,
+                        @Value("${interaction.journal.batch-size:1000}") int batchSize,
+                        @Value("${interaction.journal.settled-retention-ms:60000}") long settledRetentionMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        // 요청 스레드가 저널이 가득 차 직접 비울 때도 호출자 트랜잭션과 섞이지 않게 새 트랜잭션으로
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.file = Path.of(file);
+        this.capacity = capacity;
+        this.sync = sync;
+        this.batchSize = batchSize;
+        this.settledRetentionMs = settledRetentionMs;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    void open() {
+        if (!enabled && !Files.exists(file)) return;
+        try {
+            journal = new InteractionJournal(file, capacity, sync);
+        } catch (IOException | RuntimeException e) {
+            if (enabled) throw new IllegalStateException("반응 저널을 열 수 없습니다: " + file, e);
+            log.warn("남아 있는 반응 저널을 열 수 없어 건너뜁니다. file={}", file, e);
+            return;
+        }
+        List<InteractionJournal.Entry> recovered = journal.recovered();
+        if (recovered.isEmpty()) return;
+
+        // 이벤트 리스너가 아직 등록되지 않았으므로 여기서는 overlay 만 되살리고 반영은 첫 주기에 한다.
+        // 기록 전 DB 상태를 모르므로 카운트 차이는 반영될 때 이벤트로만 더한다
+        recovered.forEach(e -> overlay.put(keyOf(e), new Pending(e.seq(), e.state(), e.state())));
+        log.info("반응 저널 재생 대기. pending={}", recovered.size());
+    }
+
+    /** 새 반응을 저널로 받는지 여부. false 면 호출 측이 기존처럼 바로 DB 에 쓴다. */
+    public boolean enabled() {
+        return enabled && journal != null;
+    }
+
+    /** 반영 대기 중인 기록이 하나라도 있는지 (없으면 조회 측 보정을 건너뛴다) */
+    public boolean hasPending() {
+        return !overlay.isEmpty();
+    }
+
+    /**
+     * 최종 상태를 정해 저널에 기록한다.
+     * desired 가 null 이면 토글. 현재 상태는 반영 대기 중인 기록, 최근(settled-retention-ms 안에) 반영된 상태, persisted(DB 조회) 순으로 판단한다.
+     * persisted 는 호출자 트랜잭션의 스냅샷(REPEATABLE READ)으로 읽히므로 방금 반영된 기록을 못 볼 수 있다.
+     * 저널 모드에서는 이 반응 행을 저널 소비자만 쓰므로 최근 반영 상태가 곧 DB 상태다. 새 트랜잭션으로 다시 읽으면 요청마다 커넥션을 두 개씩 잡게 된다.
+     * 같은 (종류, 대상, 회원) 은 줄을 세워 처리하고, 저널 기록과 overlay 갱신도 그 잠금 안에서 하므로
+     * 소비자가 방금 쓴 기록을 반영하고 overlay 에서 빼는 일과 엇갈리지 않는다.
+     */
+    public Change record(InteractionKind kind, long targetId, long memberId, Boolean desired, BooleanSupplier persisted) {
+        Key key = new Key(kind, targetId, memberId);
+        ReentrantLock lock = lockOf(key);
+        for (boolean drained = false; ; drained = true) {
+            lock.lock();
+            try {
+                Pending current = overlay.get(key);
+                boolean before = current != null ? current.state() : settledOr(key, persisted);
+                boolean after = desired != null ? desired : !before;
+                if (after == before) return new Change(after, 0);
+
+                long seq = journal.append(key.kind(), key.targetId(), key.memberId(), after);
+                if (seq >= 0) {
+                    Pending next = new Pending(seq, after, current != null ? current.base() : before);
+                    overlay.put(key, next);
+                    adjust(key, contribution(next) - contribution(current));
+                    return new Change(after, after ? 1 : -1);
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (drained) {
+                throw new IllegalStateException("반응 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            // 미반영 기록이 capacity 만큼 쌓였으면 잠금을 놓고 직접 비운 뒤 처음부터 한 번 더 (반영 중 overlay 정리가 이 잠금을 잡는다)
+            apply();
+        }
+    }
+
+    private boolean settledOr(Key key, BooleanSupplier persisted) {
+        Settled recent = settled.get(key);
+        return recent != null ? recent.state() : persisted.getAsBoolean();
+    }
+
+    /** 반영 대기 중인 기록이 대상 카운트(좋아요/북마크/댓글 하트 수)를 DB 값에서 얼마나 바꾸는지 */
+    public long pendingDelta(InteractionKind kind, long targetId) {
+        if (overlay.isEmpty()) return 0L;
+        return netDeltas.getOrDefault(new Target(kind, targetId), 0L);
+    }
+
+    /** 반영 대기 중인 상태가 있으면 그것, 없으면 persisted */
+    public boolean stateOr(InteractionKind kind, long targetId, Long memberId, boolean persisted) {
+        if (memberId == null || overlay.isEmpty()) return persisted;
+        Pending pending = overlay.get(new Key(kind, targetId, memberId));
+        return pending != null ? pending.state() : persisted;
+    }
+
+    /** 대상 목록 중 memberId 가 켠 것(persisted)에 반영 대기 상태를 덧씌운다 */
+    public Set<Long> overlayIds(InteractionKind kind, Long memberId, Collection<Long> targetIds, Set<Long> persisted) {
+        if (memberId == null || overlay.isEmpty()) return persisted;
+        Set<Long> result = new HashSet<>(persisted);
+        for (Long targetId : targetIds) {
+            Pending pending = overlay.get(new Key(kind, targetId, memberId));
+            if (pending == null) continue;
+            if (pending.state()) result.add(targetId);
+            else result.remove(targetId);
+        }
+        return result;
+    }
+
+    /**
+     * 미반영 기록을 batch-size 씩 DB 에 반영한다. 반영이 끝난 기록만 저널에서 applied 로 표시하고 overlay 에서 뺀다.
+     * 실제로 행이 바뀐 기록만 같은 트랜잭션에서 카운터 증감 이벤트를 발행한다 (커밋 후 누산기에 들어간다).
+     * DB 오류면 그대로 두고 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${interaction.journal.flush-interval-ms:50}")
+    public void apply() {
+        InteractionJournal j = journal;
+        if (j == null) return;
+        applyLock.lock();
+        try {
+            if (!settled.isEmpty()) {
+                long expired = System.currentTimeMillis() - settledRetentionMs;
+                settled.values().removeIf(recent -> recent.settledAt() < expired);
+            }
+            List<InteractionJournal.Entry> entries;
+            do {
+                entries = j.readPending(batchSize);
+                if (entries.isEmpty()) return;
+                Map<Key, InteractionJournal.Entry> latest = new LinkedHashMap<>();
+                entries.forEach(e -> latest.put(keyOf(e), e));
+
+                tx.executeWithoutResult(status -> write(latest.values()));
+                j.markApplied(entries.get(entries.size() - 1).seq());
+                latest.forEach(this::settle);
+            } while (entries.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("반응 저널 반영 실패, 다음 주기에 재시도합니다. backlog={}", j.backlog(), e);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        InteractionJournal j = journal;
+        if (j == null) return;
+        apply();
+        j.close();
+    }
+
+    /**
+     * 반영한 기록이 아직 overlay 의 최신 상태면 빼고, 그 뒤에 새 기록이 쌓였으면 반영된 상태를 기준(base)으로 다시 잡는다.
+     * record 와 같은 잠금 안에서 하므로 그 사이 새로 들어온 기록을 지우지 않는다.
+     */
+    private void settle(Key key, InteractionJournal.Entry e) {
+        ReentrantLock lock = lockOf(key);
+        lock.lock();
+        try {
+            Pending current = overlay.get(key);
+            if (current == null) return;
+            Pending next = current.seq() == e.seq() ? null : new Pending(current.seq(), current.state(), e.state());
+            settled.put(key, new Settled(e.state(), System.currentTimeMillis()));
+            if (next == null) overlay.remove(key);
+            else overlay.put(key, next);
+            adjust(key, contribution(next) - contribution(current));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(Key key, long delta) {
+        if (delta == 0) return;
+        netDeltas.compute(new Target(key.kind(), key.targetId()), (t, v) -> {
+            long sum = (v == null ? 0L : v) + delta;
+            return sum == 0 ? null : sum;
+        });
+    }
+
+    private static int contribution(Pending pending) {
+        if (pending == null || pending.state() == pending.base()) return 0;
+        return pending.state() ? 1 : -1;
+    }
+
+    /** 기록마다 영향 행 수를 보고 실제로 켜지거나 꺼진 것만 증감을 발행한다 (INSERT IGNORE 중복/지워진 대상/없는 행 DELETE 는 0) */
+    private void write(Collection<InteractionJournal.Entry> entries) {
+        List<InteractionJournal.Entry> changed = new ArrayList<>();
+        for (InteractionJournal.Entry e : entries) {
+            if (jdbcTemplate.update(sqlOf(e), e.memberId(), e.targetId()) > 0) changed.add(e);
+        }
+        publish(changed);
+    }
+
+    private void publish(List<InteractionJournal.Entry> changed) {
+        if (changed.isEmpty()) return;
+        List<Long> commentIds = changed.stream()
+                .filter(e -> e.kind() == InteractionKind.COMMENT_HEART).map(InteractionJournal.Entry::targetId).distinct().toList();
+        Map<Long, Long> postIdByComment = postIdsOf(commentIds);
+        for (InteractionJournal.Entry e : changed) {
+            int delta = e.state() ? 1 : -1;
+            switch (e.kind()) {
+                case POST_HEART -> eventPublisher.publishEvent(
+                        new PostInteractionEvent(e.targetId(), e.memberId(), PostInteractionEvent.Kind.HEART, delta));
+                case POST_BOOKMARK -> eventPublisher.publishEvent(
+                        new PostInteractionEvent(e.targetId(), e.memberId(), PostInteractionEvent.Kind.BOOKMARK, delta));
+                case COMMENT_HEART -> eventPublisher.publishEvent(
+                        new CommentReactionEvent(e.targetId(), postIdByComment.get(e.targetId()), e.memberId(), delta));
+            }
+        }
+    }
+
+    private Map<Long, Long> postIdsOf(List<Long> commentIds) {
+        if (commentIds.isEmpty()) return Map.of();
+        Map<Long, Long> result = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(commentIds.size(), "?"));
+        jdbcTemplate.query("SELECT comment_id, post_id FROM comment WHERE comment_id IN (" + placeholders + ")",
+                rs -> { result.put(rs.getLong(1), rs.getLong(2)); }, commentIds.toArray());
+        return result;
+    }
+
+    private static String sqlOf(InteractionJournal.Entry e) {
+        return switch (e.kind()) {
+            case POST_HEART -> e.state() ? INSERT_POST_HEART : DELETE_POST_HEART;
+            case POST_BOOKMARK -> e.state() ? INSERT_BOOKMARK : DELETE_BOOKMARK;
+            case COMMENT_HEART -> e.state() ? INSERT_COMMENT_HEART : DELETE_COMMENT_HEART;
+        };
+    }
+
+    private static Key keyOf(InteractionJournal.Entry e) {
+        return new Key(e.kind(), e.targetId(), e.memberId());
+    }
+
+    private ReentrantLock lockOf(Key key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+}
@@ -0,0 +1,194 @@
+package rebound.backend.post.ranking;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 감쇠 점수로 정렬된 게시글 랭킹 (단일 구간).
+ *
+ * 점수는 forward decay 방식으로 저장한다: 이벤트 가중치 w 를 발생 시각 t 에 대해 w * 2^((t - epoch) / halfLife) 로 더해두면
+ * 모든 글이 같은 비율로 감쇠하므로 시간이 흘러도 정렬 순서를 다시 계산할 필요가 없다.
+ * 값이 너무 커지기 전에 rebase() 로 기준 시각을 옮긴다.
+ *
+ * 정렬 구조는 ConcurrentSkipListSet 이라 갱신은 O(log n), 상위 k 개 읽기는 O(k) 이다.
+ * 쓰기는 락으로 직렬화하고, 읽기는 락 없이 skip list 를 순회한다.
+ * rebase() 는 옆에서 새 구조를 다 채운 뒤 한 번에 바꿔 끼우므로, 읽는 쪽은 비었거나 일부만 찬 랭킹을 보지 않는다.
+ */
+public class HotScoreRanking {
+
+    private static final double REBASE_THRESHOLD = 500.0; // 2^500 을 넘기 전에 기준 시각 이동
+
+    /** 점수 내림차순, 동점이면 최신 글(postId 큰 순) 먼저 */
+    static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final Long spanMillis;
+    private final Long halfLifeMillis;
+    private volatile ConcurrentSkipListSet<Entry> sorted = new ConcurrentSkipListSet<>(ORDER);
+    private volatile Map<Long, Entry> byPost = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile long epochMillis;
+
+    public HotScoreRanking(PopularityWindow window, long nowMillis) {
+        this.spanMillis = window.getSpan() == null ? null : window.getSpan().toMillis();
+        this.halfLifeMillis = window.getHalfLife() == null ? null : window.getHalfLife().toMillis();
+        this.epochMillis = nowMillis;
+    }
+
+    public record Entry(long postId, double score, long createdAtMillis) {}
+
+    /** 이 구간에 포함될 수 있는 글인지 (작성 시각 기준) */
+    public boolean accepts(long createdAtMillis, long nowMillis) {
+        return spanMillis == null || createdAtMillis >= nowMillis - spanMillis;
+    }
+
+    /**
+     * 글을 랭킹에 넣는다. 이미 있으면 그대로 둔다.
+     * baseWeight 는 지금까지 누적된 가중치로, 작성 시각에 발생한 것으로 간주해 감쇠시킨다.
+     */
+    public void put(long postId, long createdAtMillis, double baseWeight, long nowMillis) {
+        if (!accepts(createdAtMillis, nowMillis)) return;
+        writeLock.lock();
+        try {
+            if (byPost.containsKey(postId)) return;
+            Entry entry = new Entry(postId, Math.max(0.0, baseWeight * growth(createdAtMillis)), createdAtMillis);
+            byPost.put(postId, entry);
+            sorted.add(entry);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 반응 이벤트 반영. 랭킹에 없는 글(비공개/구간 밖)은 무시한다.
+     * 취소(음수 가중치)는 취소된 반응이 언제 더해졌는지 모르므로, 가장 작게 더해졌을 시점인 작성 시각 기준으로 뺀다.
+     * 지금 시각 기준으로 빼면 예전에 더한 것보다 훨씬 큰 값이 빠져, 좋아요 하나를 취소해도 점수가 0 으로 떨어질 수 있다.
+     */
+    public void add(long postId, double weight, long eventMillis) {
+        writeLock.lock();
+        try {
+            Entry old = byPost.get(postId);
+            if (old == null) return;
+            long weightedAt = weight < 0 ? old.createdAtMillis() : eventMillis;
+            double score = Math.max(0.0, old.score() + weight * growth(weightedAt));
+            Entry updated = new Entry(postId, score, old.createdAtMillis());
+            sorted.remove(old);
+            sorted.add(updated);
+            byPost.put(postId, updated);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        writeLock.lock();
+        try {
+            Entry old = byPost.remove(postId);
+            if (old != null) sorted.remove(old);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean contains(long postId) {
+        return byPost.containsKey(postId);
+    }
+
+    public int size() {
+        return byPost.size();
+    }
+
+    /** offset 부터 limit 개의 postId (점수 내림차순) */
+    public List<Long> page(long offset, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        Iterator<Entry> it = sorted.iterator();
+        for (long skipped = 0; skipped < offset && it.hasNext(); skipped++) {
+            it.next();
+        }
+        while (ids.size() < limit && it.hasNext()) {
+            ids.add(it.next().postId());
+        }
+        return ids;
+    }
+
+    /** (score, postId) 커서 다음부터 limit 개 */
+    public List<Entry> after(double score, long postId, int limit) {
+        List<Entry> entries = new ArrayList<>(limit);
+        Iterator<Entry> it = sorted.tailSet(new Entry(postId, score, 0L), false).iterator();
+        while (entries.size() < limit && it.hasNext()) {
+            entries.add(it.next());
+        }
+        return entries;
+    }
+
+    public List<Entry> head(int limit) {
+        List<Entry> entries = new ArrayList<>(limit);
+        Iterator<Entry> it = sorted.iterator();
+        while (entries.size() < limit && it.hasNext()) {
+            entries.add(it.next());
+        }
+        return entries;
+    }
+
+    /** 구간(span)을 벗어난 글 제거 */
+    public int evictExpired(long nowMillis) {
+        if (spanMillis == null) return 0;
+        long cutoff = nowMillis - spanMillis;
+        int evicted = 0;
+        writeLock.lock();
+        try {
+            Iterator<Entry> it = byPost.values().iterator();
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (e.createdAtMillis() < cutoff) {
+                    it.remove();
+                    sorted.remove(e);
+                    evicted++;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return evicted;
+    }
+
+    /** 기준 시각을 now 로 옮기고 저장된 점수를 같은 비율로 줄인다. 순서는 변하지 않는다. */
+    public void rebase(long nowMillis) {
+        if (halfLifeMillis == null) return;
+        writeLock.lock();
+        try {
+            double factor = Math.pow(2.0, -(double) (nowMillis - epochMillis) / halfLifeMillis);
+            ConcurrentSkipListSet<Entry> rescaledSorted = new ConcurrentSkipListSet<>(ORDER);
+            Map<Long, Entry> rescaledByPost = new ConcurrentHashMap<>(byPost.size() * 2);
+            for (Entry e : byPost.values()) {
+                Entry rescaled = new Entry(e.postId(), e.score() * factor, e.createdAtMillis());
+                rescaledSorted.add(rescaled);
+                rescaledByPost.put(e.postId(), rescaled);
+            }
+            // 쓰기는 락 안에서만 일어나므로 바꿔 끼우는 순간까지 빠진 갱신은 없다
+            byPost = rescaledByPost;
+            sorted = rescaledSorted;
+            epochMillis = nowMillis;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 점수 척도의 기준 시각. rebase() 때마다 바뀌므로 점수 커서의 세대로 쓴다 */
+    public long epochMillis() {
+        return epochMillis;
+    }
+
+    public boolean needsRebase(long nowMillis) {
+        return halfLifeMillis != null && (double) (nowMillis - epochMillis) / halfLifeMillis > REBASE_THRESHOLD / 2;
+    }
+
+    private double growth(long eventMillis) {
+        if (halfLifeMillis == null) return 1.0;
+        double exponent = (double) (eventMillis - epochMillis) / halfLifeMillis;
+        return Math.pow(2.0, Math.min(exponent, REBASE_THRESHOLD));
+    }
+}
@@ -0,0 +1,210 @@
+package rebound.backend.post.ranking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.event.PostCountersReconciledEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+import rebound.backend.post.event.PostLifecycleEvent;
+import rebound.backend.post.repository.PostRepository;
+import rebound.backend.post.service.PostCounterService;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기순 피드를 메모리 랭킹으로 제공한다.
+ * 구간(DAY/WEEK/ALL)마다 별도 랭킹을 두고, 하트/북마크/댓글 이벤트로 점수를 증분 갱신한다.
+ * 기동 직후 적재가 끝나기 전에는 ready() 가 false 이므로 호출자는 DB 정렬로 폴백한다.
+ * 적재(기동 직후, 카운터 보정 후 재적재) 도중 들어온 이벤트는 모아 두었다가 새 랭킹으로 바꿔 끼우기 직전에 다시 반영한다.
+ * 적재는 DB 의 popularity_score 를 읽으므로, 먼저 카운터 증감을 flush 해 그 전 이벤트를 점수에 포함시킨다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularityRankingService {
+
+    // 기존 인기 점수와 같은 가중치 (좋아요*2 + 북마크 + 댓글)
+    private static final double HEART_WEIGHT = 2.0;
+    private static final double BOOKMARK_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 1.0;
+
+    private record Buffered(Object event, long atMillis) {}
+
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    // 적재가 끝난 뒤 통째로 게시한다. 게시 후에는 맵 자체는 바뀌지 않고 각 랭킹만 갱신된다
+    private volatile Map<PopularityWindow, HotScoreRanking> rankings = Collections.emptyMap();
+    private volatile boolean ready = false;
+    // 이벤트 반영과 적재 중 이벤트 모으기/바꿔 끼우기를 직렬화한다
+    private final ReentrantLock eventLock = new ReentrantLock();
+    private final List<Buffered> backlog = new ArrayList<>();
+    private boolean rebuilding = true;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public boolean ready() {
+        return ready;
+    }
+
+    /** 카운터 보정(PostCounterService.reconcile) 이후에 적재한다. */
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /** 보정으로 popularity_score 가 바뀌었으므로 다시 적재한다. 기동 직후 보정 뒤에는 warmUp 이 적재한다. */
+    @EventListener
+    public void onCountersReconciled(PostCountersReconciledEvent event) {
+        if (ready) rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        long now = System.currentTimeMillis();
+        eventLock.lock();
+        try {
+            if (rebuilding) backlog.add(new Buffered(event, now));
+            if (ready) applyInteraction(rankings, event, now);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLifecycle(PostLifecycleEvent event) {
+        long now = System.currentTimeMillis();
+        eventLock.lock();
+        try {
+            if (rebuilding) backlog.add(new Buffered(event, now));
+            if (ready) applyLifecycle(rankings, event, now);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    /**
+     * 랭킹을 새로 채워 바꿔 끼운다. 채우는 동안에는 기존 랭킹으로 계속 응답하고 이벤트도 계속 반영한다.
+     * 모으기 시작과 flush 사이의 좁은 틈에 들어온 증감은 적재 값과 다시 반영 양쪽에 들어갈 수 있다(다음 보정 때 맞춰진다).
+     */
+    private void rebuild() {
+        rebuildLock.lock();
+        try {
+            eventLock.lock();
+            try {
+                rebuilding = true;
+                backlog.clear(); // 여기까지의 증감은 아래 flush 로 DB 점수에 들어간다
+            } finally {
+                eventLock.unlock();
+            }
+            postCounterService.flush();
+
+            long now = System.currentTimeMillis();
+            Map<PopularityWindow, HotScoreRanking> built = new EnumMap<>(PopularityWindow.class);
+            for (PopularityWindow window : PopularityWindow.values()) {
+                built.put(window, new HotScoreRanking(window, now));
+            }
+            List<PostRepository.RankingSeedRow> seeds = postRepository.findRankingSeeds();
+            for (PostRepository.RankingSeedRow seed : seeds) {
+                seed(built, seed, now);
+            }
+
+            int replayed;
+            eventLock.lock();
+            try {
+                replayed = backlog.size();
+                for (Buffered buffered : backlog) {
+                    if (buffered.event() instanceof PostInteractionEvent e) applyInteraction(built, e, buffered.atMillis());
+                    else if (buffered.event() instanceof PostLifecycleEvent e) applyLifecycle(built, e, buffered.atMillis());
+                }
+                backlog.clear();
+                rankings = Collections.unmodifiableMap(built);
+                rebuilding = false;
+                ready = true;
+            } finally {
+                eventLock.unlock();
+            }
+            log.info("인기 랭킹 적재 완료. posts={}, replayed={}", seeds.size(), replayed);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static void applyInteraction(Map<PopularityWindow, HotScoreRanking> target, PostInteractionEvent event, long now) {
+        double unit = switch (event.kind()) {
+            case HEART -> HEART_WEIGHT;
+            case BOOKMARK -> BOOKMARK_WEIGHT;
+            case COMMENT -> COMMENT_WEIGHT;
+        };
+        double weight = unit * event.delta();
+        target.values().forEach(r -> r.add(event.postId(), weight, now));
+    }
+
+    private void applyLifecycle(Map<PopularityWindow, HotScoreRanking> target, PostLifecycleEvent event, long now) {
+        if (event.type() == PostLifecycleEvent.Type.DELETED) {
+            target.values().forEach(r -> r.remove(event.postId()));
+            return;
+        }
+        postRepository.findRankingSeed(event.postId()).ifPresentOrElse(
+                seed -> {
+                    if (seed.getStatus() == Post.Status.PUBLIC) {
+                        seed(target, seed, now);
+                    } else {
+                        target.values().forEach(r -> r.remove(event.postId()));
+                    }
+                },
+                () -> target.values().forEach(r -> r.remove(event.postId())));
+    }
+
+    /** offset 부터 size 개의 postId (점수 내림차순) */
+    public List<Long> page(PopularityWindow window, long offset, int size) {
+        return rankings.get(window).page(offset, size);
+    }
+
+    /** (score, postId) 커서 다음부터 limit 개. cursorPostId 가 null 이면 첫 페이지 */
+    public List<HotScoreRanking.Entry> after(PopularityWindow window, double score, Long cursorPostId, int limit) {
+        HotScoreRanking ranking = rankings.get(window);
+        return cursorPostId == null ? ranking.head(limit) : ranking.after(score, cursorPostId, limit);
+    }
+
+    /** 구간 랭킹의 점수 세대 (기준 시각이 옮겨지면 이전 점수 커서는 쓸 수 없다) */
+    public long generation(PopularityWindow window) {
+        return rankings.get(window).epochMillis();
+    }
+
+    public long total(PopularityWindow window) {
+        return rankings.get(window).size();
+    }
+
+    @Scheduled(fixedDelayString = "${post.ranking.maintenance-interval-ms:300000}")
+    public void maintain() {
+        if (!ready) return;
+        long now = System.currentTimeMillis();
+        rankings.values().forEach(r -> {
+            r.evictExpired(now);
+            if (r.needsRebase(now)) r.rebase(now);
+        });
+    }
+
+    private static void seed(Map<PopularityWindow, HotScoreRanking> target, PostRepository.RankingSeedRow seed, long now) {
+        long createdAt = toMillis(seed.getCreatedAt(), now);
+        double base = seed.getPopularityScore() == null ? 0.0 : seed.getPopularityScore();
+        target.values().forEach(r -> r.put(seed.getPostId(), createdAt, base, now));
+    }
+
+    private static long toMillis(LocalDateTime time, long fallback) {
+        return time == null ? fallback : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,25 @@
+package rebound.backend.post.ranking;
+
+import java.time.Duration;
+
+/**
+ * 인기순 집계 구간.
+ * span: 이 기간 안에 작성된 글만 랭킹에 포함 (null 이면 전체)
+ * halfLife: 점수 반감기 (null 이면 감쇠 없이 누적 점수 그대로)
+ */
+public enum PopularityWindow {
+    DAY(Duration.ofHours(24), Duration.ofHours(6)),
+    WEEK(Duration.ofDays(7), Duration.ofDays(2)),
+    ALL(null, null);
+
+    private final Duration span;
+    private final Duration halfLife;
+
+    PopularityWindow(Duration span, Duration halfLife) {
+        this.span = span;
+        this.halfLife = halfLife;
+    }
+
+    public Duration getSpan() { return span; }
+    public Duration getHalfLife() { return halfLife; }
+}
@@ -0,0 +1,128 @@
+package rebound.backend.post.recommend;
+
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.event.PostInteractionEvent;
+
+import java.util.*;
+
+/**
+ * 회원 한 명의 선호도 (대분류/소분류/태그별 0~1 가중치) 와 이미 반응한 게시글 목록.
+ * 관심사(Interest)는 대분류 기본값으로, 하트/북마크/댓글은 반응한 글의 분류/태그에 최근일수록 큰 가중치로 더해진다.
+ */
+public final class AffinityProfile {
+
+    // 반응 종류별 가중치: 북마크 > 하트 > 댓글
+    private static final double HEART_WEIGHT = 3.0;
+    private static final double BOOKMARK_WEIGHT = 4.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double INTEREST_WEIGHT = 3.0;
+    private static final double INTERACTION_HALF_LIFE_MILLIS = 30L * 24 * 60 * 60 * 1000;
+
+    /** 반응 기록 한 건 */
+    public record Interaction(long postId, PostInteractionEvent.Kind kind, long atMillis) {}
+
+    private final double[] mainWeights;
+    private final double[] subWeights;
+    private final Map<Long, Double> tagWeights;
+    private final Set<Long> seenPostIds;
+    private final Set<MainCategory> interests;
+
+    private AffinityProfile(double[] mainWeights, double[] subWeights, Map<Long, Double> tagWeights,
+                            Set<Long> seenPostIds, Set<MainCategory> interests) {
+        this.mainWeights = mainWeights;
+        this.subWeights = subWeights;
+        this.tagWeights = tagWeights;
+        this.seenPostIds = seenPostIds;
+        this.interests = interests;
+    }
+
+    /**
+     * @param interactions 반응 기록 (순서 무관)
+     * @param posts        반응한 글의 속성 (없는 글은 분류/태그 학습에서 제외, 제외 목록에는 포함)
+     * @param nowMillis    최근성 감쇠 기준 시각
+     */
+    public static AffinityProfile build(Collection<MainCategory> interests,
+                                        Collection<Interaction> interactions,
+                                        Map<Long, RecommendationCandidate> posts,
+                                        long nowMillis) {
+        double[] main = new double[MainCategory.values().length];
+        double[] sub = new double[SubCategory.values().length];
+        Map<Long, Double> tags = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        EnumSet<MainCategory> interestSet = EnumSet.noneOf(MainCategory.class);
+
+        for (MainCategory interest : interests) {
+            interestSet.add(interest);
+            main[interest.ordinal()] += INTEREST_WEIGHT;
+        }
+        for (Interaction interaction : interactions) {
+            seen.add(interaction.postId());
+            RecommendationCandidate post = posts.get(interaction.postId());
+            if (post == null) continue;
+            double age = Math.max(0L, nowMillis - interaction.atMillis());
+            double weight = kindWeight(interaction.kind()) * Math.pow(0.5, age / INTERACTION_HALF_LIFE_MILLIS);
+            main[post.mainCategory().ordinal()] += weight;
+            sub[post.subCategory().ordinal()] += weight;
+            for (long tagId : post.tagIds()) {
+                tags.merge(tagId, weight, Double::sum);
+            }
+        }
+
+        normalize(main);
+        normalize(sub);
+        double maxTag = tags.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+        if (maxTag > 0) tags.replaceAll((id, w) -> w / maxTag);
+        return new AffinityProfile(main, sub, Map.copyOf(tags), Set.copyOf(seen), interestSet);
+    }
+
+    public double main(MainCategory category) {
+        return mainWeights[category.ordinal()];
+    }
+
+    public double sub(SubCategory category) {
+        return subWeights[category.ordinal()];
+    }
+
+    /** 후보 글 태그들의 선호도 평균 (태그가 없으면 0) */
+    public double tags(long[] tagIds) {
+        if (tagIds.length == 0 || tagWeights.isEmpty()) return 0.0;
+        double sum = 0.0;
+        for (long tagId : tagIds) {
+            sum += tagWeights.getOrDefault(tagId, 0.0);
+        }
+        return sum / tagIds.length;
+    }
+
+    public boolean seen(long postId) {
+        return seenPostIds.contains(postId);
+    }
+
+    /** 점수를 매길 대분류 (선호도가 있는 대분류만. 하나도 없으면 빈 목록 = 전체) */
+    public List<MainCategory> preferredCategories() {
+        List<MainCategory> result = new ArrayList<>();
+        for (MainCategory category : MainCategory.values()) {
+            if (mainWeights[category.ordinal()] > 0) result.add(category);
+        }
+        return result;
+    }
+
+    public Set<MainCategory> interests() {
+        return interests;
+    }
+
+    private static double kindWeight(PostInteractionEvent.Kind kind) {
+        return switch (kind) {
+            case HEART -> HEART_WEIGHT;
+            case BOOKMARK -> BOOKMARK_WEIGHT;
+            case COMMENT -> COMMENT_WEIGHT;
+        };
+    }
+
+    private static void normalize(double[] weights) {
+        double max = 0.0;
+        for (double w : weights) max = Math.max(max, w);
+        if (max <= 0) return;
+        for (int i = 0; i < weights.length; i++) weights[i] /= max;
+    }
+}
@@ -0,0 +1,16 @@
+package rebound.backend.post.recommend;
+
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+
+/**
+ * 추천 후보 게시글의 점수 계산용 속성 (메모리 후보 풀의 한 항목).
+ */
+public record RecommendationCandidate(long postId,
+                                      long authorId,
+                                      MainCategory mainCategory,
+                                      SubCategory subCategory,
+                                      long[] tagIds,
+                                      long createdAtMillis,
+                                      long popularityScore) {
+}
@@ -0,0 +1,125 @@
+package rebound.backend.post.recommend;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.post.event.PostInteractionEvent;
+import rebound.backend.post.repository.PostRepository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 추천 엔진이 읽는 데이터 (후보 글 속성, 관심사, 반응 기록) 조회.
+ * 엔티티 대신 필요한 컬럼만 프로젝션으로 읽어 지연 로딩 없이 트랜잭션 밖에서도 쓸 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+class RecommendationDataLoader {
+
+    private static final int IN_CHUNK = 1000;
+
+    // 하트/북마크/댓글을 한 타임라인으로 (반응 시각 기준)
+    private static final String INTERACTIONS_SQL = """
+            SELECT member_id, post_id, kind, created_at FROM (
+                SELECT member_id, post_id, 'HEART' AS kind, created_at FROM post_reaction WHERE type = 'HEART' %1$s
+                UNION ALL
+                SELECT member_id, post_id, 'BOOKMARK' AS kind, created_at FROM post_bookmark WHERE 1 = 1 %1$s
+                UNION ALL
+                SELECT member_id, post_id, 'COMMENT' AS kind, created_at FROM comment WHERE status <> 'DELETED' %1$s
+            ) i
+            ORDER BY created_at DESC
+            %2$s
+            """;
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** since 이후 작성된 공개 글 */
+    List<RecommendationCandidate> loadPool(LocalDateTime since) {
+        List<PostRepository.CandidateRow> rows = postRepository.findRecommendationCandidates(since);
+        Map<Long, long[]> tags = loadTags(rows.stream().map(PostRepository.CandidateRow::getPostId).toList());
+        List<RecommendationCandidate> result = new ArrayList<>(rows.size());
+        for (PostRepository.CandidateRow row : rows) {
+            result.add(toCandidate(row, tags));
+        }
+        return result;
+    }
+
+    /** 상태와 관계없이 주어진 글들의 속성 (선호도 학습용) */
+    Map<Long, RecommendationCandidate> loadPosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) return Map.of();
+        List<Long> ids = List.copyOf(postIds);
+        List<PostRepository.CandidateRow> rows = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK) {
+            rows.addAll(postRepository.findCandidateRows(ids.subList(from, Math.min(ids.size(), from + IN_CHUNK))));
+        }
+        Map<Long, long[]> tags = loadTags(ids);
+        Map<Long, RecommendationCandidate> result = new HashMap<>();
+        for (PostRepository.CandidateRow row : rows) {
+            result.put(row.getPostId(), toCandidate(row, tags));
+        }
+        return result;
+    }
+
+    List<MainCategory> loadInterests(long memberId) {
+        return jdbcTemplate.queryForList("SELECT main_category FROM interest WHERE member_id = ?", String.class, memberId)
+                .stream()
+                .map(MainCategory::valueOf)
+                .toList();
+    }
+
+    /** 회원의 최근 반응 limit 개 */
+    List<AffinityProfile.Interaction> loadInteractions(long memberId, int limit) {
+        String sql = INTERACTIONS_SQL.formatted("AND member_id = ?", "LIMIT ?");
+        return jdbcTemplate.query(sql, (rs, i) -> toInteraction(rs), memberId, memberId, memberId, limit);
+    }
+
+    /** 오프라인 평가용: 전체 회원의 반응 기록 (회원별) */
+    Map<Long, List<AffinityProfile.Interaction>> loadAllInteractions() {
+        Map<Long, List<AffinityProfile.Interaction>> byMember = new HashMap<>();
+        jdbcTemplate.query(INTERACTIONS_SQL.formatted("", ""), rs -> {
+            byMember.computeIfAbsent(rs.getLong("member_id"), id -> new ArrayList<>()).add(toInteraction(rs));
+        });
+        return byMember;
+    }
+
+    private Map<Long, long[]> loadTags(List<Long> postIds) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (int from = 0; from < postIds.size(); from += IN_CHUNK) {
+            List<Long> chunk = postIds.subList(from, Math.min(postIds.size(), from + IN_CHUNK));
+            for (PostRepository.PostTagRow row : postRepository.findPostTagPairs(chunk)) {
+                grouped.computeIfAbsent(row.getPostId(), id -> new ArrayList<>()).add(row.getTagId());
+            }
+        }
+        Map<Long, long[]> result = new HashMap<>(grouped.size());
+        grouped.forEach((postId, ids) -> result.put(postId, ids.stream().mapToLong(Long::longValue).toArray()));
+        return result;
+    }
+
+    private static RecommendationCandidate toCandidate(PostRepository.CandidateRow row, Map<Long, long[]> tags) {
+        return new RecommendationCandidate(
+                row.getPostId(),
+                row.getMemberId(),
+                row.getMainCategory(),
+                row.getSubCategory(),
+                tags.getOrDefault(row.getPostId(), new long[0]),
+                toMillis(row.getCreatedAt()),
+                row.getPopularityScore() == null ? 0L : row.getPopularityScore());
+    }
+
+    private static AffinityProfile.Interaction toInteraction(ResultSet rs) throws SQLException {
+        return new AffinityProfile.Interaction(
+                rs.getLong("post_id"),
+                PostInteractionEvent.Kind.valueOf(rs.getString("kind")),
+                rs.getTimestamp("created_at").getTime());
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,147 @@
+package rebound.backend.post.recommend;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import rebound.backend.category.entity.MainCategory;
+
+import java.util.*;
+
+/**
+ * 추천 오프라인 평가.
+ * 기존 반응 테이블(하트/북마크/댓글)을 회원별 시간순으로 재생해, 마지막 holdout 개를 정답으로 숨기고
+ * 그 이전 기록만으로 만든 선호도로 추천한 상위 k 개에 정답이 얼마나 들어가는지 잰다.
+ * 비교 기준은 기존 방식(관심 대분류 IN + 최신순)이다.
+ * recommend.evaluation.on-startup=true 이면 기동 후 1회 실행해 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationEvaluator {
+
+    private static final int MIN_TRAIN_INTERACTIONS = 3;
+
+    private final RecommendationService recommendationService;
+    private final RecommendationDataLoader loader;
+
+    @Value("${recommend.evaluation.on-startup:false}")
+    private boolean evaluateOnStartup;
+
+    /**
+     * @param members   평가한 회원 수
+     * @param hitRate   정답이 하나라도 상위 k 에 든 회원 비율
+     * @param recall    정답 중 상위 k 에 든 비율 (회원 평균)
+     * @param ndcg      순위 가중 정확도 (회원 평균)
+     */
+    public record Metrics(int members, double hitRate, double recall, double ndcg) {}
+
+    public record Report(int k, int holdout, Metrics engine, Metrics baseline) {}
+
+    @Order(50)
+    @EventListener(ApplicationReadyEvent.class)
+    public void evaluateOnStartup() {
+        if (!evaluateOnStartup || !recommendationService.ready()) return;
+        Report report = evaluate(10, 2, 2000);
+        log.info("추천 오프라인 평가. k={}, holdout={}, engine={}, baseline={}",
+                report.k(), report.holdout(), report.engine(), report.baseline());
+    }
+
+    public Report evaluate(int k, int holdout, int maxMembers) {
+        RecommendationService.Pools pools = recommendationService.currentPools();
+        if (pools == null) {
+            throw new IllegalStateException("추천 후보 풀이 아직 준비되지 않았습니다.");
+        }
+
+        Map<Long, List<AffinityProfile.Interaction>> all = loader.loadAllInteractions();
+        List<Long> memberIds = all.entrySet().stream()
+                .filter(e -> e.getValue().size() >= MIN_TRAIN_INTERACTIONS + holdout)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .limit(maxMembers)
+                .toList();
+
+        Set<Long> postIds = new HashSet<>();
+        memberIds.forEach(id -> all.get(id).forEach(i -> postIds.add(i.postId())));
+        Map<Long, RecommendationCandidate> posts = loader.loadPosts(postIds);
+
+        Accumulator engine = new Accumulator();
+        Accumulator baseline = new Accumulator();
+        for (Long memberId : memberIds) {
+            List<AffinityProfile.Interaction> timeline = new ArrayList<>(all.get(memberId));
+            timeline.sort(Comparator.comparingLong(AffinityProfile.Interaction::atMillis));
+            int split = timeline.size() - holdout;
+            List<AffinityProfile.Interaction> train = timeline.subList(0, split);
+            long cutoff = timeline.get(split - 1).atMillis();
+
+            Set<Long> trainIds = new HashSet<>();
+            train.forEach(i -> trainIds.add(i.postId()));
+            Set<Long> answers = new HashSet<>();
+            timeline.subList(split, timeline.size()).forEach(i -> {
+                if (!trainIds.contains(i.postId())) answers.add(i.postId());
+            });
+            if (answers.isEmpty()) continue;
+
+            // 그 시점에 존재했던 글만 후보로
+            Map<MainCategory, List<RecommendationCandidate>> asOf = new EnumMap<>(MainCategory.class);
+            pools.byCategory().forEach((category, list) -> asOf.put(category,
+                    list.stream().filter(c -> c.createdAtMillis() <= cutoff).toList()));
+
+            List<MainCategory> interests = loader.loadInterests(memberId);
+            AffinityProfile profile = AffinityProfile.build(interests, train, posts, cutoff);
+            List<Long> recommended = RecommendationScorer.rank(asOf, profile, memberId, cutoff,
+                    pools.maxLogPopularity(), null, null, k).items().stream()
+                    .map(RecommendationScorer.Scored::postId)
+                    .toList();
+            engine.add(recommended, answers, k);
+            baseline.add(baselineTopK(asOf, interests, trainIds, memberId, k), answers, k);
+        }
+        return new Report(k, holdout, engine.metrics(), baseline.metrics());
+    }
+
+    /** 기존 추천: 관심 대분류의 공개 글 최신순 */
+    private static List<Long> baselineTopK(Map<MainCategory, List<RecommendationCandidate>> pools,
+                                           List<MainCategory> interests, Set<Long> seen, long memberId, int k) {
+        return interests.stream()
+                .flatMap(category -> pools.getOrDefault(category, List.of()).stream())
+                .filter(c -> c.authorId() != memberId && !seen.contains(c.postId()))
+                .sorted(Comparator.comparingLong(RecommendationCandidate::createdAtMillis).reversed())
+                .limit(k)
+                .map(RecommendationCandidate::postId)
+                .toList();
+    }
+
+    private static final class Accumulator {
+        int members;
+        int hits;
+        double recall;
+        double ndcg;
+
+        void add(List<Long> ranked, Set<Long> answers, int k) {
+            members++;
+            int found = 0;
+            double dcg = 0.0;
+            for (int i = 0; i < ranked.size(); i++) {
+                if (answers.contains(ranked.get(i))) {
+                    found++;
+                    dcg += 1.0 / (Math.log(i + 2) / Math.log(2));
+                }
+            }
+            double idcg = 0.0;
+            for (int i = 0; i < Math.min(k, answers.size()); i++) {
+                idcg += 1.0 / (Math.log(i + 2) / Math.log(2));
+            }
+            if (found > 0) hits++;
+            recall += (double) found / answers.size();
+            ndcg += idcg > 0 ? dcg / idcg : 0.0;
+        }
+
+        Metrics metrics() {
+            if (members == 0) return new Metrics(0, 0.0, 0.0, 0.0);
+            return new Metrics(members, (double) hits / members, recall / members, ndcg / members);
+        }
+    }
+}
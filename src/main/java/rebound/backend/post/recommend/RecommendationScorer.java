@@ -0,0 +1,84 @@
+package rebound.backend.post.recommend;
+
+import rebound.backend.category.entity.MainCategory;
+
+import java.util.*;
+
+/**
+ * 후보 풀을 회원 선호도로 다시 정렬한다.
+ * 점수 = 대분류*0.30 + 소분류*0.20 + 태그*0.20 + 최근성*0.20 + 인기*0.10 (각 항목 0~1)
+ * 이미 반응한 글과 본인 글은 제외한다.
+ */
+public final class RecommendationScorer {
+
+    private static final double CATEGORY_WEIGHT = 0.30;
+    private static final double SUB_CATEGORY_WEIGHT = 0.20;
+    private static final double TAG_WEIGHT = 0.20;
+    private static final double RECENCY_WEIGHT = 0.20;
+    private static final double POPULARITY_WEIGHT = 0.10;
+    private static final double RECENCY_HALF_LIFE_MILLIS = 3L * 24 * 60 * 60 * 1000;
+
+    /** 점수가 매겨진 후보 (점수 내림차순, 같으면 postId 내림차순) */
+    public record Scored(long postId, double score) {}
+
+    /** 상위 항목 + 커서 조건과 무관하게 추천 대상이 되는 전체 후보 수 */
+    public record Ranking(List<Scored> items, int eligible) {}
+
+    private static final Comparator<Scored> ORDER = Comparator.comparingDouble(Scored::score)
+            .thenComparingLong(Scored::postId);
+
+    private RecommendationScorer() {}
+
+    public static double score(RecommendationCandidate c, AffinityProfile profile, long nowMillis, double maxLogPopularity) {
+        double age = Math.max(0L, nowMillis - c.createdAtMillis());
+        double recency = Math.pow(0.5, age / RECENCY_HALF_LIFE_MILLIS);
+        double popularity = maxLogPopularity > 0 ? Math.log1p(Math.max(0L, c.popularityScore())) / maxLogPopularity : 0.0;
+        return CATEGORY_WEIGHT * profile.main(c.mainCategory())
+                + SUB_CATEGORY_WEIGHT * profile.sub(c.subCategory())
+                + TAG_WEIGHT * profile.tags(c.tagIds())
+                + RECENCY_WEIGHT * recency
+                + POPULARITY_WEIGHT * popularity;
+    }
+
+    /**
+     * (afterScore, afterPostId) 커서 다음 순위부터 limit 개. afterPostId 가 null 이면 처음부터.
+     * 전체 정렬 없이 크기 limit 의 힙으로 상위만 고른다.
+     */
+    public static Ranking rank(Map<MainCategory, List<RecommendationCandidate>> pools,
+                                    AffinityProfile profile,
+                                    long memberId,
+                                    long nowMillis,
+                                    double maxLogPopularity,
+                                    Double afterScore,
+                                    Long afterPostId,
+                                    int limit) {
+        List<MainCategory> categories = profile.preferredCategories();
+        if (categories.isEmpty()) categories = List.of(MainCategory.values());
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(limit + 1, ORDER);
+        int eligible = 0;
+        for (MainCategory category : categories) {
+            for (RecommendationCandidate c : pools.getOrDefault(category, List.of())) {
+                if (c.authorId() == memberId || profile.seen(c.postId())) continue;
+                eligible++;
+                Scored scored = new Scored(c.postId(), score(c, profile, nowMillis, maxLogPopularity));
+                if (afterPostId != null && !isAfter(scored, afterScore, afterPostId)) continue;
+                if (heap.size() < limit) {
+                    heap.offer(scored);
+                } else if (ORDER.compare(scored, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.offer(scored);
+                }
+            }
+        }
+        List<Scored> result = new ArrayList<>(heap);
+        result.sort(ORDER.reversed());
+        return new Ranking(result, eligible);
+    }
+
+    /** 정렬 순서상 커서보다 뒤인지 */
+    private static boolean isAfter(Scored s, double afterScore, long afterPostId) {
+        int cmp = Double.compare(s.score(), afterScore);
+        return cmp < 0 || (cmp == 0 && s.postId() < afterPostId);
+    }
+}
@@ -0,0 +1,179 @@
+package rebound.backend.post.recommend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.member.event.MemberChangedEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관심사 + 반응 기록 기반 추천.
+ * 대분류별 후보 풀(최근 공개 글)을 주기적으로 메모리에 만들어 두고, 요청마다 회원 선호도로 점수를 매겨 상위만 고른다.
+ * 회원 선호도는 LRU 캐시에 두고 새 반응/회원 정보 변경 시 비운다.
+ * 후보 풀 적재 전에는 ready() 가 false 이며 호출자는 기존 관심사 IN 조회로 폴백한다.
+ * 같은 (score, postId) 라도 풀이 다시 만들어지거나 선호도가 다시 계산되면 순위가 달라지므로,
+ * 결과에 (풀 세대, 선호도 세대) 를 붙여 돌려주고 커서의 세대가 지금과 다르면 첫 페이지부터 다시 고른다.
+ */
+@Slf4j
+@Service
+public class RecommendationService {
+
+    /** 한 번 만든 후보 풀. 점수의 최근성 기준 시각도 풀 생성 시각으로 고정해 같은 세대 안에서는 커서가 흔들리지 않게 한다. */
+    record Pools(Map<MainCategory, List<RecommendationCandidate>> byCategory, long builtAtMillis, double maxLogPopularity,
+                 long generation) {}
+
+    /** 추천 결과와 그 점수를 만든 세대 ("풀세대-선호도세대", 커서에 그대로 넣는다) */
+    public record Recommendation(RecommendationScorer.Ranking ranking, String generation) {}
+
+    private record CachedProfile(AffinityProfile profile, long expiresAtMillis, long generation) {}
+
+    private final RecommendationDataLoader loader;
+    private final int windowDays;
+    private final int perCategory;
+    private final int interactionLimit;
+    private final long profileTtlMillis;
+    private final int maxProfiles;
+    private final Map<Long, CachedProfile> profiles;
+    private final ReentrantLock profileLock = new ReentrantLock();
+    private final AtomicLong poolGenerations = new AtomicLong();
+    private final AtomicLong profileGenerations = new AtomicLong();
+    private volatile Pools pools;
+
+    RecommendationService(RecommendationDataLoader loader,
+                          @Value("${recommend.pool.window-days:60}") int windowDays,
+                          @Value("${recommend.pool.per-category:1000}") int perCategory,
+                          @Value("${recommend.profile.interaction-limit:300}") int interactionLimit,
+                          @Value("${recommend.profile.ttl-ms:600000}") long profileTtlMillis,
+                          @Value("${recommend.profile.max-entries:5000}") int maxProfiles) {
+        this.loader = loader;
+        this.windowDays = windowDays;
+        this.perCategory = perCategory;
+        this.interactionLimit = interactionLimit;
+        this.profileTtlMillis = profileTtlMillis;
+        this.maxProfiles = maxProfiles;
+        this.profiles = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProfile> eldest) {
+                return size() > RecommendationService.this.maxProfiles;
+            }
+        };
+    }
+
+    public boolean ready() {
+        return pools != null;
+    }
+
+    @Order(40)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshPools();
+    }
+
+    @Scheduled(fixedDelayString = "${recommend.pool.refresh-interval-ms:300000}",
+            initialDelayString = "${recommend.pool.refresh-interval-ms:300000}")
+    public void refreshPools() {
+        long now = System.currentTimeMillis();
+        pools = buildPools(loader.loadPool(LocalDateTime.now().minusDays(windowDays)), now);
+        int size = pools.byCategory().values().stream().mapToInt(List::size).sum();
+        log.debug("추천 후보 풀 갱신. candidates={}", size);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        if (event.memberId() != null) evictProfile(event.memberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evictProfile(event.memberId());
+    }
+
+    /**
+     * (afterScore, afterPostId) 다음 순위부터 limit 개. afterPostId 가 null 이거나 generation 이 지금 세대와 다르면 첫 페이지.
+     */
+    public Recommendation recommend(long memberId, String generation, Double afterScore, Long afterPostId, int limit) {
+        Pools current = pools;
+        if (current == null) {
+            throw new IllegalStateException("추천 후보 풀이 아직 준비되지 않았습니다.");
+        }
+        CachedProfile profile = cachedProfileOf(memberId);
+        String currentGeneration = current.generation() + "-" + profile.generation();
+        if (!currentGeneration.equals(generation)) {
+            afterScore = null;
+            afterPostId = null;
+        }
+        RecommendationScorer.Ranking ranking = RecommendationScorer.rank(current.byCategory(), profile.profile(), memberId,
+                current.builtAtMillis(), current.maxLogPopularity(), afterScore, afterPostId, limit);
+        return new Recommendation(ranking, currentGeneration);
+    }
+
+    AffinityProfile profileOf(long memberId) {
+        return cachedProfileOf(memberId).profile();
+    }
+
+    private CachedProfile cachedProfileOf(long memberId) {
+        long now = System.currentTimeMillis();
+        profileLock.lock();
+        try {
+            CachedProfile cached = profiles.get(memberId);
+            if (cached != null && cached.expiresAtMillis() > now) return cached;
+        } finally {
+            profileLock.unlock();
+        }
+
+        // 조회는 락 밖에서 (같은 회원이 동시에 들어오면 중복 계산될 수 있으나 결과는 같다)
+        List<AffinityProfile.Interaction> interactions = loader.loadInteractions(memberId, interactionLimit);
+        Set<Long> postIds = new HashSet<>();
+        interactions.forEach(i -> postIds.add(i.postId()));
+        AffinityProfile profile = AffinityProfile.build(loader.loadInterests(memberId), interactions,
+                loader.loadPosts(postIds), now);
+
+        CachedProfile built = new CachedProfile(profile, now + profileTtlMillis, profileGenerations.incrementAndGet());
+        profileLock.lock();
+        try {
+            profiles.put(memberId, built);
+        } finally {
+            profileLock.unlock();
+        }
+        return built;
+    }
+
+    Pools currentPools() {
+        return pools;
+    }
+
+    /** 대분류별로 최근 글부터 perCategory 개까지 */
+    Pools buildPools(List<RecommendationCandidate> candidates, long nowMillis) {
+        Map<MainCategory, List<RecommendationCandidate>> byCategory = new EnumMap<>(MainCategory.class);
+        double maxLogPopularity = 0.0;
+        for (RecommendationCandidate c : candidates) {
+            byCategory.computeIfAbsent(c.mainCategory(), k -> new ArrayList<>()).add(c);
+            maxLogPopularity = Math.max(maxLogPopularity, Math.log1p(Math.max(0L, c.popularityScore())));
+        }
+        byCategory.replaceAll((category, list) -> list.stream()
+                .sorted(Comparator.comparingLong(RecommendationCandidate::createdAtMillis).reversed())
+                .limit(perCategory)
+                .toList());
+        return new Pools(byCategory, nowMillis, maxLogPopularity, poolGenerations.incrementAndGet());
+    }
+
+    private void evictProfile(long memberId) {
+        profileLock.lock();
+        try {
+            profiles.remove(memberId);
+        } finally {
+            profileLock.unlock();
+        }
+    }
+}
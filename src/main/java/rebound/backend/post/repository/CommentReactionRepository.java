@@ -3,6 +3,7 @@ package rebound.backend.post.repository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import rebound.backend.post.entity.CommentReaction;
@@ -18,6 +19,19 @@ public interface CommentReactionRepository extends JpaRepository<CommentReaction
     long deleteByCommentIdAndMemberIdAndType(Long commentId, Long memberId, ReactionType type);
     long countByCommentIdAndType(Long commentId, ReactionType type);
 
+    // 하트 켜기/끄기: 조건부 단일 문장, 영향 행 수(0/1)가 곧 like_count 증감
+    @Modifying
+    @Query(value = """
+           INSERT IGNORE INTO comment_reaction (comment_id, member_id, type, created_at)
+           VALUES (:commentId, :memberId, 'HEART', CURRENT_TIMESTAMP(6))
+           """, nativeQuery = true)
+    int insertHeartIfAbsent(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM comment_reaction WHERE comment_id = :commentId AND member_id = :memberId AND type = 'HEART'",
+           nativeQuery = true)
+    int deleteHeart(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
     // [마이페이지] 내가 하트 누른 댓글 id 목록 (최신순)
     @Query("""
            select cr.commentId
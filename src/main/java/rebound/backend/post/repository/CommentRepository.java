@@ -7,12 +7,41 @@ import org.springframework.data.repository.query.Param;
 import rebound.backend.post.entity.Comment;
 import rebound.backend.post.entity.CommentStatus;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     boolean existsByParentCommentIdAndStatusNot(Long parentCommentId, CommentStatus status);
 
+    // [댓글 목록 ETag] 게시글의 댓글 수 / 마지막 수정 시각 / 댓글 작성자 프로필 버전 합계 (본문을 읽지 않는다)
+    // 프로필 버전은 올라가기만 하므로 작성자 중 누구든 프로필을 바꾸면 합계가 바뀐다
+    @Query("""
+           select count(c) as commentCount, max(c.updatedAt) as lastUpdatedAt,
+                  (select coalesce(sum(m.profileVersion), 0) from Member m
+                    where m.id in (select c2.memberId from Comment c2 where c2.postId = :postId)) as authorProfileVersions
+           from Comment c
+           where c.postId = :postId
+           """)
+    CommentStampRow findStamp(@Param("postId") Long postId);
+
+    interface CommentStampRow {
+        Long getCommentCount();
+        Instant getLastUpdatedAt();
+        Long getAuthorProfileVersions();
+    }
+
+    // [댓글 목록 ETag] 댓글별 하트 수 (like_count 변경은 updated_at 을 바꾸지 않으므로 따로 읽는다)
+    @Query("select c.commentId as commentId, c.likeCount as likeCount from Comment c where c.postId = :postId order by c.commentId")
+    List<LikeCountRow> findLikeCounts(@Param("postId") Long postId);
+
+    interface LikeCountRow {
+        Long getCommentId();
+        Integer getLikeCount();
+    }
+
     // [게시글 상세] 해당 게시글의 전체 댓글(루트+대댓글) — 상태 필터, 오래된 순
     Slice<Comment> findByPostIdAndStatusOrderByCreatedAtAsc(Long postId,
                                                             CommentStatus status,
@@ -58,10 +87,83 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
        """)
     Slice<Long> findCommentedPostIds(Long memberId, CommentStatus status, Pageable pageable);
 
-    // like_count 토글직후 동기화
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Comment c set c.likeCount = :cnt where c.commentId = :commentId")
-    int updateLikeCount(@Param("commentId") Long commentId, @Param("cnt") int cnt);
+    // [댓글 스레드] 루트 댓글 keyset 조회 (ix_comment_post_created: post_id, created_at + PK)
+    // 대댓글이 남아 소프트 삭제된 루트도 자리 표시를 위해 포함한다.
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId and c.parentCommentId is null
+             and c.status <> rebound.backend.post.entity.CommentStatus.HIDDEN
+           order by c.createdAt asc, c.commentId asc
+           """)
+    List<Comment> findThreadRoots(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("""
+           select c from Comment c
+           where c.postId = :postId and c.parentCommentId is null
+             and c.status <> rebound.backend.post.entity.CommentStatus.HIDDEN
+             and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.commentId > :commentId))
+           order by c.createdAt asc, c.commentId asc
+           """)
+    List<Comment> findThreadRootsAfter(@Param("postId") Long postId,
+                                       @Param("createdAt") Instant createdAt,
+                                       @Param("commentId") Long commentId,
+                                       Pageable pageable);
+
+    // [댓글 스레드] 루트마다 앞쪽 대댓글 perRoot 개를 한 번에 (윈도 함수)
+    @Query(value = """
+           select t.* from (
+               select c.*, row_number() over (partition by c.parent_comment_id
+                                              order by c.created_at, c.comment_id) as rn
+               from comment c
+               where c.parent_comment_id in (:rootIds) and c.status <> 'HIDDEN'
+           ) t
+           where t.rn <= :perRoot
+           order by t.parent_comment_id, t.created_at, t.comment_id
+           """, nativeQuery = true)
+    List<Comment> findFirstRepliesPerRoot(@Param("rootIds") Collection<Long> rootIds,
+                                          @Param("perRoot") int perRoot);
+
+    // [댓글 스레드] 루트별 대댓글 수
+    @Query("""
+           select c.parentCommentId as parentId, count(c) as cnt
+           from Comment c
+           where c.parentCommentId in :rootIds
+             and c.status <> rebound.backend.post.entity.CommentStatus.HIDDEN
+           group by c.parentCommentId
+           """)
+    List<ReplyCountRow> countRepliesByParentIds(@Param("rootIds") Collection<Long> rootIds);
+
+    // [댓글 스레드] 특정 루트의 대댓글 이어보기 (keyset)
+    @Query("""
+           select c from Comment c
+           where c.parentCommentId = :parentId
+             and c.status <> rebound.backend.post.entity.CommentStatus.HIDDEN
+             and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.commentId > :commentId))
+           order by c.createdAt asc, c.commentId asc
+           """)
+    List<Comment> findRepliesAfter(@Param("parentId") Long parentId,
+                                   @Param("createdAt") Instant createdAt,
+                                   @Param("commentId") Long commentId,
+                                   Pageable pageable);
+
+    interface ReplyCountRow {
+        Long getParentId();
+        Long getCnt();
+    }
+
+    // 하트 켜기/끄기 응답용 (like_count 증감은 CommentLikeCounter 가 모아서 반영)
+    @Query("select c.postId as postId, c.likeCount as likeCount from Comment c where c.commentId = :commentId")
+    Optional<LikeRow> findLikeRow(@Param("commentId") Long commentId);
+
+    // 직접 반응 쓰기 전에 댓글 행을 잠가 같은 댓글의 DELETE/INSERT IGNORE 를 직렬화한다 (갭 락끼리의 교착 방지)
+    @Query(value = "SELECT post_id AS postId, like_count AS likeCount FROM comment WHERE comment_id = :commentId FOR UPDATE",
+           nativeQuery = true)
+    Optional<LikeRow> lockForReaction(@Param("commentId") Long commentId);
+
+    interface LikeRow {
+        Long getPostId();
+        Integer getLikeCount();
+    }
 
     // 소프트삭제
     @Modifying(clearAutomatically = true, flushAutomatically = true)
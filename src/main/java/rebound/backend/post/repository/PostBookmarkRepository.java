@@ -2,6 +2,7 @@ package rebound.backend.post.repository;
 
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import rebound.backend.post.entity.PostBookmark;
@@ -9,7 +10,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 public interface PostBookmarkRepository extends JpaRepository<PostBookmark, Long> {
@@ -18,9 +18,21 @@ public interface PostBookmarkRepository extends JpaRepository<PostBookmark, Long
 
     long countByPostId(Long postId);
 
+    // 북마크 켜기/끄기: 조건부 단일 문장, 영향 행 수(0/1)가 곧 카운터 증감
+    @Modifying
+    @Query(value = """
+           INSERT IGNORE INTO post_bookmark (post_id, member_id, created_at)
+           VALUES (:postId, :memberId, CURRENT_TIMESTAMP(6))
+           """, nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_bookmark WHERE post_id = :postId AND member_id = :memberId", nativeQuery = true)
+    int deleteBookmark(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
     // N+1 쿼리 해결: 여러 게시글의 북마크 수를 한 번에 조회하는 메서드
-    @Query("SELECT pb.postId, COUNT(pb) FROM PostBookmark pb WHERE pb.postId IN :postIds GROUP BY pb.postId")
-    Map<Long, Long> countByPostIds(@Param("postIds") List<Long> postIds);
+    @Query("SELECT pb.postId AS postId, COUNT(pb) AS cnt FROM PostBookmark pb WHERE pb.postId IN :postIds GROUP BY pb.postId")
+    List<PostReactionRepository.PostCountRow> countByPostIds(@Param("postIds") List<Long> postIds);
 
     // N+1 쿼리 해결: 현재 사용자가 북마크한 게시글 ID를 한 번에 조회하는 메서드
     @Query("SELECT pb.postId FROM PostBookmark pb WHERE pb.memberId = :memberId AND pb.postId IN :postIds")
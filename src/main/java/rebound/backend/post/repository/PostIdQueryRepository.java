@@ -0,0 +1,20 @@
+package rebound.backend.post.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import rebound.backend.post.entity.Post;
+
+import java.util.List;
+
+/**
+ * Specification 조건으로 게시글 id 만 조회 (엔티티를 만들지 않으므로 post_content 1:1 로딩이 일어나지 않는다).
+ * 목록 카드는 id 를 받은 뒤 PostResponseHydrator 가 프로젝션으로 조립한다.
+ */
+public interface PostIdQueryRepository {
+
+    List<Long> findIds(Specification<Post> spec, Sort sort, int limit);
+
+    Page<Long> findIds(Specification<Post> spec, Pageable pageable);
+}
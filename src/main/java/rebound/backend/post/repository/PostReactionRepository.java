@@ -3,6 +3,7 @@ package rebound.backend.post.repository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import rebound.backend.post.entity.PostReaction;
@@ -10,7 +11,6 @@ import rebound.backend.post.entity.ReactionType;
 
 import java.util.List;
 import java.util.Set;
-import java.util.Map;
 
 public interface PostReactionRepository extends JpaRepository<PostReaction, Long> {
 
@@ -20,8 +20,18 @@ public interface PostReactionRepository extends JpaRepository<PostReaction, Long
 
     long countByPostIdAndType(Long postId, ReactionType type);
 
-    // 특정 사용자가 받은 총 좋아요 수를 조회하는 메서드 (새로 추가)
-    long countByMemberIdAndType(Long memberId, ReactionType type);
+    // 하트 켜기/끄기: 조건부 단일 문장, 영향 행 수(0/1)가 곧 카운터 증감
+    @Modifying
+    @Query(value = """
+           INSERT IGNORE INTO post_reaction (post_id, member_id, type, created_at)
+           VALUES (:postId, :memberId, 'HEART', CURRENT_TIMESTAMP(6))
+           """, nativeQuery = true)
+    int insertHeartIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_reaction WHERE post_id = :postId AND member_id = :memberId AND type = 'HEART'",
+           nativeQuery = true)
+    int deleteHeart(@Param("postId") Long postId, @Param("memberId") Long memberId);
 
     // 마이페이지: 내가 하트 누른 글 postId 목록
     @Query("""
@@ -61,19 +71,4 @@ public interface PostReactionRepository extends JpaRepository<PostReaction, Long
         Long getPostId();
         Long getCnt();
     }
-
-    @Query("SELECT pr.postId, COUNT(pr) FROM PostReaction pr WHERE pr.postId IN :postIds AND pr.type = :type GROUP BY pr.postId")
-    Map<Long, Long> countByPostIds(@Param("postIds") List<Long> postIds, @Param("type") ReactionType type);
-
-    // 주어진 사용자 목록이 받은 총 좋아요 수를 한 번에 조회하는 메서드
-    @Query("SELECT pr.memberId, COUNT(pr) FROM PostReaction pr WHERE pr.memberId IN :memberIds AND pr.type = :type GROUP BY pr.memberId")
-    List<Object[]> countTotalLikesByMemberIds(@Param("memberIds") List<Long> memberIds, @Param("type") ReactionType type);
-
-
-    @Query("""
-    SELECT pr
-    FROM PostReaction pr
-    WHERE pr.postId = :postId
-    """)
-    List<PostReaction> countTotalLikeOfPost(@Param("postId") Long postId);
 }
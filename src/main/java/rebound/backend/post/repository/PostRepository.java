@@ -6,35 +6,36 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.dto.PostSummary;
 import rebound.backend.post.entity.Post;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>, PostIdQueryRepository {
 
     // 최신순
     Page<Post> findByStatusOrderByCreatedAtDesc(String status, Pageable pageable);
 
-    // 인기순 (MVP용 서브쿼리)
-    @Query("""
-        select p
+    // 인기순 (비정규화된 popularity_score 컬럼 기준, ix_post_status_popularity 인덱스 사용). id 만 읽고 카드는 따로 조립
+    @Query(value = """
+        select p.postId
+        from Post p
+        where p.status = 'PUBLIC'
+          and (:since is null or p.createdAt >= :since)
+        order by p.popularityScore desc, p.createdAt desc
+        """,
+        countQuery = """
+        select count(p)
         from Post p
         where p.status = 'PUBLIC'
           and (:since is null or p.createdAt >= :since)
-        order by (
-            (select count(r) from PostReaction r
-             where r.postId = p.postId
-               and r.type = rebound.backend.post.entity.ReactionType.HEART) * 2
-          + (select count(b) from PostBookmark b
-               where b.postId = p.postId)
-          + (select count(c) from Comment c
-               where c.postId = p.postId
-                 and c.status <> 'DELETED')
-        ) desc,
-        p.createdAt desc
-        """)
-    Page<Post> findAllOrderByPopularity(@Param("since") LocalDateTime since,
+        """)
+    Page<Long> findIdsOrderByPopularity(@Param("since") LocalDateTime since,
                                         Pageable pageable);
 
     @Query("""
@@ -43,4 +44,220 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     WHERE p.memberId = :memberId
 """)
     List<Post> findPostsByMemberId(@Param("memberId") Long memberId);
+
+    // 직접 반응 쓰기 전에 게시글 행을 잠가 같은 글의 DELETE/INSERT IGNORE 를 직렬화한다 (갭 락끼리의 교착 방지)
+    @Query(value = "SELECT post_id FROM post WHERE post_id = :postId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockForReaction(@Param("postId") Long postId);
+
+    @Query("select p.likeCount from Post p where p.postId = :postId")
+    Optional<Long> findLikeCount(@Param("postId") Long postId);
+
+    @Query("select p.bookmarkCount from Post p where p.postId = :postId")
+    Optional<Long> findBookmarkCount(@Param("postId") Long postId);
+
+    // 인기 랭킹 초기 적재용: 공개 글의 작성 시각과 누적 인기 점수
+    @Query("""
+        select p.postId as postId, p.createdAt as createdAt, p.popularityScore as popularityScore, p.status as status
+        from Post p
+        where p.status = 'PUBLIC'
+        """)
+    List<RankingSeedRow> findRankingSeeds();
+
+    @Query("""
+        select p.postId as postId, p.createdAt as createdAt, p.popularityScore as popularityScore, p.status as status
+        from Post p
+        where p.postId = :postId
+        """)
+    Optional<RankingSeedRow> findRankingSeed(@Param("postId") Long postId);
+
+    // 상세 조회 ETag 용 버전 값 (본문을 읽지 않는다)
+    @Query("""
+        select p.postId as postId, p.memberId as memberId, p.version as version,
+               p.likeCount as likeCount, p.bookmarkCount as bookmarkCount,
+               (select m.profileVersion from Member m where m.id = p.memberId) as authorProfileVersion,
+               (select count(i) from PostImage i where i.post.postId = p.postId and i.variantsReady = true) as readyImageCount
+        from Post p
+        where p.postId = :postId
+        """)
+    Optional<DetailStampRow> findDetailStamp(@Param("postId") Long postId);
+
+    // 상세 조회용 카운터 + 내 반응 여부 + 작성자 랭크 배지를 한 번에 (me 가 null 이면 반응 여부는 false)
+    @Query("""
+        select p.memberId as memberId, p.likeCount as likeCount, p.bookmarkCount as bookmarkCount,
+               case when exists (select 1 from PostReaction r
+                                 where r.postId = p.postId and r.memberId = :me
+                                   and r.type = rebound.backend.post.entity.ReactionType.HEART)
+                    then true else false end as liked,
+               case when exists (select 1 from PostBookmark b where b.postId = p.postId and b.memberId = :me)
+                    then true else false end as bookmarked,
+               case when exists (select 1 from MemberReputation mr
+                                 where mr.memberId = p.memberId and mr.heartsReceived >= :badgeThreshold)
+                    then true else false end as authorBadge
+        from Post p
+        where p.postId = :postId
+        """)
+    Optional<DetailCounterRow> findDetailCounters(@Param("postId") Long postId, @Param("me") Long me,
+                                                  @Param("badgeThreshold") long badgeThreshold);
+
+    // 검색 색인 적재/보정용
+    @Query("select p.postId from Post p where p.status = 'PUBLIC'")
+    List<Long> findPublicPostIds();
+
+    @Query("select p.postId from Post p where p.updatedAt >= :since")
+    List<Long> findPostIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("""
+        select distinct p from Post p
+        left join fetch p.postContent
+        left join fetch p.tags
+        where p.postId in :ids
+        """)
+    List<Post> findAllForIndexing(@Param("ids") Collection<Long> ids);
+
+    // 태그 통계 적재/갱신용: 공개 글에 붙은 (postId, 작성 시각, tagId, 태그명)
+    @Query("""
+        select p.postId as postId, p.createdAt as createdAt, t.tagId as tagId, t.name as tagName
+        from Post p join p.tags t
+        where p.status = 'PUBLIC'
+        """)
+    List<TagSeedRow> findTagSeeds();
+
+    @Query("""
+        select p.postId as postId, p.createdAt as createdAt, t.tagId as tagId, t.name as tagName
+        from Post p join p.tags t
+        where p.postId = :postId and p.status = 'PUBLIC'
+        """)
+    List<TagSeedRow> findTagSeedsOfPost(@Param("postId") Long postId);
+
+    // 태그별 피드: (tag_id, post_id) 인덱스를 post_id 역순으로 seek
+    @Query(value = """
+        SELECT pt.post_id
+        FROM post_tag pt
+        JOIN post p ON p.post_id = pt.post_id
+        WHERE pt.tag_id = :tagId
+          AND pt.post_id < :beforePostId
+          AND p.status = 'PUBLIC'
+        ORDER BY pt.post_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Long> findPostIdsByTag(@Param("tagId") Long tagId,
+                                @Param("beforePostId") Long beforePostId,
+                                @Param("limit") int limit);
+
+    // 추천 후보 풀 적재용
+    @Query("""
+        select p.postId as postId, p.memberId as memberId, p.mainCategory as mainCategory,
+               p.subCategory as subCategory, p.createdAt as createdAt, p.popularityScore as popularityScore
+        from Post p
+        where p.status = 'PUBLIC' and p.createdAt >= :since
+        """)
+    List<CandidateRow> findRecommendationCandidates(@Param("since") LocalDateTime since);
+
+    @Query("""
+        select p.postId as postId, p.memberId as memberId, p.mainCategory as mainCategory,
+               p.subCategory as subCategory, p.createdAt as createdAt, p.popularityScore as popularityScore
+        from Post p
+        where p.postId in :ids
+        """)
+    List<CandidateRow> findCandidateRows(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.postId as postId, t.tagId as tagId from Post p join p.tags t where p.postId in :ids")
+    List<PostTagRow> findPostTagPairs(@Param("ids") Collection<Long> ids);
+
+    // 목록 카드(PostSummary)용: 본문 @Lob 은 읽지 않고 상황 본문 앞부분만 잘라 온다
+    @Query("""
+        select p.postId as postId, p.memberId as memberId, p.title as title,
+               p.mainCategory as mainCategory, p.subCategory as subCategory,
+               p.createdAt as createdAt, p.status as status, p.isAnonymous as isAnonymous,
+               p.likeCount as likeCount, p.bookmarkCount as bookmarkCount, p.commentCount as commentCount,
+               substring(c.situationContent, 1, """ + PostSummary.EXCERPT_HEAD_LENGTH + """
+               ) as excerptHead
+        from Post p left join p.postContent c
+        where p.postId in :ids
+        """)
+    List<SummaryRow> findSummaryRows(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        select i.post.postId as postId, i.imageUrl as imageUrl, i.variantsReady as variantsReady
+        from PostImage i
+        where i.post.postId in :ids
+        order by i.post.postId, i.imageOrder
+        """)
+    List<PostImageRow> findImageRows(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.postId as postId, t.name as name from Post p join p.tags t where p.postId in :ids order by t.tagId")
+    List<PostTagNameRow> findTagNameRows(@Param("ids") Collection<Long> ids);
+
+    interface SummaryRow {
+        Long getPostId();
+        Long getMemberId();
+        String getTitle();
+        MainCategory getMainCategory();
+        SubCategory getSubCategory();
+        LocalDateTime getCreatedAt();
+        Post.Status getStatus();
+        Boolean getIsAnonymous();
+        Long getLikeCount();
+        Long getBookmarkCount();
+        Long getCommentCount();
+        String getExcerptHead();
+    }
+
+    interface PostImageRow {
+        Long getPostId();
+        String getImageUrl();
+        Boolean getVariantsReady();
+    }
+
+    interface PostTagNameRow {
+        Long getPostId();
+        String getName();
+    }
+
+    interface CandidateRow {
+        Long getPostId();
+        Long getMemberId();
+        MainCategory getMainCategory();
+        SubCategory getSubCategory();
+        LocalDateTime getCreatedAt();
+        Long getPopularityScore();
+    }
+
+    interface PostTagRow {
+        Long getPostId();
+        Long getTagId();
+    }
+
+    interface TagSeedRow {
+        Long getPostId();
+        LocalDateTime getCreatedAt();
+        Long getTagId();
+        String getTagName();
+    }
+
+    interface DetailStampRow {
+        Long getPostId();
+        Long getMemberId();
+        Long getVersion();
+        Long getLikeCount();
+        Long getBookmarkCount();
+        Long getAuthorProfileVersion();
+        Long getReadyImageCount();
+    }
+
+    interface DetailCounterRow {
+        Long getMemberId();
+        Long getLikeCount();
+        Long getBookmarkCount();
+        Boolean getLiked();
+        Boolean getBookmarked();
+        Boolean getAuthorBadge();
+    }
+
+    interface RankingSeedRow {
+        Long getPostId();
+        LocalDateTime getCreatedAt();
+        Long getPopularityScore();
+        Post.Status getStatus();
+    }
 }
@@ -7,6 +7,7 @@ import rebound.backend.category.entity.MainCategory;
 import rebound.backend.category.entity.SubCategory;
 import rebound.backend.post.entity.Post;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class PostSpecification {
@@ -60,6 +61,14 @@ public class PostSpecification {
                 criteriaBuilder.equal(root.get("memberId"), memberId);
     }
 
+    /**
+     * 특정 회원이 쓴 글 제외 (홈 피드에서 본인 글 제외)
+     */
+    public static Specification<Post> notWrittenBy(Long memberId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.notEqual(root.get("memberId"), memberId);
+    }
+
     public static Specification<Post> inMainCategories(List<MainCategory> mainCategories) {
         return (root, query, criteriaBuilder) -> {
             if (mainCategories == null || mainCategories.isEmpty()) {
@@ -74,5 +83,33 @@ public class PostSpecification {
                 criteriaBuilder.equal(root.get("status"), Post.Status.PUBLIC);
     }
 
-}
+    /**
+     * keyset 페이지네이션: (createdAt, postId) 가 커서보다 이전인 글 (createdAt desc, postId desc 정렬과 함께 사용)
+     */
+    public static Specification<Post> createdBefore(LocalDateTime createdAt, Long postId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("createdAt"), createdAt),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("createdAt"), createdAt),
+                        criteriaBuilder.lessThan(root.get("postId"), postId)));
+    }
+
+    /** 구간 시작 시각 이후 작성된 글 (since 가 null 이면 전체) */
+    public static Specification<Post> createdSince(LocalDateTime since) {
+        return (root, query, criteriaBuilder) -> since == null
+                ? criteriaBuilder.conjunction()
+                : criteriaBuilder.greaterThanOrEqualTo(root.get("createdAt"), since);
+    }
+
+    /**
+     * keyset 페이지네이션: (popularityScore, postId) 가 커서보다 뒤인 글 (popularityScore desc, postId desc 정렬과 함께 사용)
+     */
+    public static Specification<Post> popularityBefore(long popularityScore, Long postId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("popularityScore"), popularityScore),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("popularityScore"), popularityScore),
+                        criteriaBuilder.lessThan(root.get("postId"), postId)));
+    }
 
+}
@@ -0,0 +1,80 @@
+package rebound.backend.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 색인용 토크나이저.
+ * 한글은 형태소 분석 없이 연속된 음절을 자르고, 영문/숫자는 소문자로 바꾼 단어 단위로 자른다. 그 밖의 문자는 구분자로 취급한다.
+ * 색인 쪽({@link #tokenizeForIndex})은 한글 1-gram + 2-gram, 영문/숫자 단어의 앞부분(edge n-gram, 최대 MAX_EDGE 글자)을 모두 넣고,
+ * 질의 쪽({@link #tokenize})은 한글 2-gram(한 글자면 그대로)과 단어 자체(MAX_EDGE 글자까지)만 만든다.
+ * 그래서 한 글자 한글 질의와 영단어 앞부분 질의도 이전 LIKE 검색처럼 걸린다.
+ */
+public final class KoreanNgramTokenizer {
+
+    static final int MAX_EDGE = 20;
+
+    private KoreanNgramTokenizer() {}
+
+    /** 질의 토큰 */
+    public static List<String> tokenize(String text) {
+        return split(text, false);
+    }
+
+    /** 색인 토큰 (질의 토큰을 모두 포함한다) */
+    public static List<String> tokenizeForIndex(String text) {
+        return split(text, true);
+    }
+
+    private static List<String> split(String text, boolean index) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int i = 0;
+        int n = normalized.length();
+        while (i < n) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < n && isHangul(normalized.charAt(i))) i++;
+                addHangulGrams(normalized.substring(start, i), index, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < n && Character.isLetterOrDigit(normalized.charAt(i)) && !isHangul(normalized.charAt(i))) i++;
+                addWord(normalized.substring(start, i), index, tokens);
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulGrams(String run, boolean index, List<String> tokens) {
+        if (index || run.length() == 1) {
+            for (int j = 0; j < run.length(); j++) {
+                tokens.add(run.substring(j, j + 1));
+            }
+        }
+        for (int j = 0; j + 2 <= run.length(); j++) {
+            tokens.add(run.substring(j, j + 2));
+        }
+    }
+
+    private static void addWord(String word, boolean index, List<String> tokens) {
+        int max = Math.min(word.length(), MAX_EDGE);
+        if (!index) {
+            tokens.add(word.substring(0, max));
+            return;
+        }
+        for (int len = 1; len <= max; len++) {
+            tokens.add(word.substring(0, len));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')   // 완성형 음절
+                || (c >= 'ㄱ' && c <= 'ㆎ'); // 호환 자모 (ㅋㅋ 등)
+    }
+}
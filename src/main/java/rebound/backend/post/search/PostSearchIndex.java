@@ -0,0 +1,173 @@
+package rebound.backend.post.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 + BM25 랭킹.
+ * term -> (postId -> 가중 tf) 포스팅 리스트와, 삭제/갱신을 위한 postId -> term 정방향 색인을 함께 유지한다.
+ * 필드별 가중치는 tf 에 곱해서 반영한다(제목 > 태그 > 본문).
+ */
+public class PostSearchIndex {
+
+    static final float TITLE_WEIGHT = 2.0f;
+    static final float TAG_WEIGHT = 1.5f;
+    static final float BODY_WEIGHT = 1.0f;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, IndexedDoc> docs = new HashMap<>();
+    private long totalLength = 0;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 색인된 문서: 가중 tf 맵과 토큰 수(문서 길이) */
+    public record IndexedDoc(long postId, Map<String, Float> termWeights, int length) {}
+
+    public record SearchHits(long total, List<Long> postIds) {}
+
+    /** 제목/본문/태그로 색인 문서를 만든다. */
+    public static IndexedDoc analyze(long postId, String title, List<String> bodies, Collection<String> tags) {
+        Map<String, Float> weights = new HashMap<>();
+        int length = 0;
+        length += accumulate(weights, KoreanNgramTokenizer.tokenizeForIndex(title), TITLE_WEIGHT);
+        if (bodies != null) {
+            for (String body : bodies) {
+                length += accumulate(weights, KoreanNgramTokenizer.tokenizeForIndex(body), BODY_WEIGHT);
+            }
+        }
+        if (tags != null) {
+            for (String tag : tags) {
+                length += accumulate(weights, KoreanNgramTokenizer.tokenizeForIndex(tag), TAG_WEIGHT);
+            }
+        }
+        return new IndexedDoc(postId, weights, length);
+    }
+
+    private static int accumulate(Map<String, Float> weights, List<String> tokens, float weight) {
+        for (String token : tokens) {
+            weights.merge(token, weight, Float::sum);
+        }
+        return tokens.size();
+    }
+
+    public void upsert(IndexedDoc doc) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(doc.postId());
+            docs.put(doc.postId(), doc);
+            totalLength += doc.length();
+            doc.termWeights().forEach((term, w) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.postId(), w));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(long postId) {
+        IndexedDoc old = docs.remove(postId);
+        if (old == null) return;
+        totalLength -= old.length();
+        for (String term : old.termWeights().keySet()) {
+            Map<Long, Float> list = postings.get(term);
+            if (list == null) continue;
+            list.remove(postId);
+            if (list.isEmpty()) postings.remove(term);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> postIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docs.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 현재 색인된 전체 문서 (세그먼트 압축용 스냅샷) */
+    public List<IndexedDoc> snapshot() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(docs.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의의 모든 토큰을 포함하는 문서만 후보로 삼고(AND), BM25 점수 내림차순으로 offset~offset+limit 구간을 반환한다.
+     */
+    public SearchHits search(String query, long offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(query));
+        if (terms.isEmpty()) return new SearchHits(0, Collections.emptyList());
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> list = postings.get(term);
+                if (list == null) return new SearchHits(0, Collections.emptyList());
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size)); // 가장 짧은 포스팅부터 교집합
+
+            int n = docs.size();
+            double avgLength = n == 0 ? 1.0 : Math.max(1.0, (double) totalLength / n);
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1.0 + (n - df + 0.5) / (df + 0.5));
+            }
+
+            int keep = (int) Math.min(Integer.MAX_VALUE - 1, offset + limit);
+            PriorityQueue<double[]> top = new PriorityQueue<>(Comparator.comparingDouble((double[] a) -> a[0])
+                    .thenComparingDouble(a -> a[1]));
+            long total = 0;
+            candidates:
+            for (Map.Entry<Long, Float> candidate : lists.get(0).entrySet()) {
+                long postId = candidate.getKey();
+                double length = docs.get(postId).length();
+                double score = 0.0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Float tf = i == 0 ? candidate.getValue() : lists.get(i).get(postId);
+                    if (tf == null) continue candidates;
+                    score += idf[i] * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * length / avgLength));
+                }
+                total++;
+                if (keep <= 0) continue;
+                top.offer(new double[]{score, postId});
+                if (top.size() > keep) top.poll();
+            }
+
+            List<double[]> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingDouble((double[] a) -> a[0]).thenComparingDouble(a -> a[1]).reversed());
+            List<Long> ids = new ArrayList<>(limit);
+            for (int i = (int) Math.min(offset, ranked.size()); i < ranked.size() && ids.size() < limit; i++) {
+                ids.add((long) ranked.get(i)[1]);
+            }
+            return new SearchHits(total, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
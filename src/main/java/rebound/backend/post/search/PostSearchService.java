@@ -0,0 +1,218 @@
+package rebound.backend.post.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.entity.PostContent;
+import rebound.backend.post.event.PostLifecycleEvent;
+import rebound.backend.post.repository.PostRepository;
+import rebound.backend.tag.entity.Tag;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 검색 색인 관리.
+ * 공개(PUBLIC) 글의 제목/본문/태그를 메모리 역색인에 올리고, 변경분은 주기적으로 디스크 세그먼트에 기록한다.
+ * 재기동 시 세그먼트를 재생한 뒤 마지막 기록 이후 수정된 글만 다시 색인한다.
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    private static final int REBUILD_CHUNK = 500;
+    private static final int MAX_SEGMENTS = 8;
+    private static final long CATCH_UP_MARGIN_MILLIS = 60_000L;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readTx;
+    private final Path indexDir;
+    private final PostSearchIndex index = new PostSearchIndex();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private List<SearchSegmentStore.Op> pending = new ArrayList<>();
+    private SearchSegmentStore store;
+    private volatile boolean ready = false;
+
+    public PostSearchService(PostRepository postRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${search.index.dir:./data/search-index}") String indexDir) {
+        this.postRepository = postRepository;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTx.setReadOnly(true);
+        this.indexDir = Path.of(indexDir);
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+
+    public PostSearchIndex.SearchHits search(String keyword, long offset, int limit) {
+        return index.search(keyword, offset, limit);
+    }
+
+    @Order(20)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            store = new SearchSegmentStore(indexDir);
+            if (store.isEmpty() || store.isStale()) {
+                rebuild();
+            } else {
+                restore();
+            }
+            ready = true;
+            log.info("검색 색인 적재 완료. posts={}", index.size());
+        } catch (IOException | RuntimeException e) {
+            // 색인이 없어도 검색은 DB LIKE 조회로 동작한다
+            log.warn("검색 색인 적재 실패, DB 검색으로 동작합니다. dir={}", indexDir, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLifecycle(PostLifecycleEvent event) {
+        if (event.type() == PostLifecycleEvent.Type.DELETED) {
+            removeDoc(event.postId());
+            return;
+        }
+        reindex(List.of(event.postId()));
+    }
+
+    /** 쌓인 변경분을 새 세그먼트로 기록하고, 세그먼트가 많아지면 하나로 압축한다. */
+    @Scheduled(fixedDelayString = "${search.index.flush-interval-ms:5000}")
+    public void flush() {
+        if (store == null) return;
+        List<SearchSegmentStore.Op> ops = drainPending();
+        if (ops.isEmpty()) return;
+        long watermark = System.currentTimeMillis();
+        try {
+            store.append(ops, watermark);
+            if (store.segmentCount() > MAX_SEGMENTS) {
+                store.compact(index.snapshot(), watermark);
+            }
+        } catch (IOException e) {
+            restorePending(ops);
+            log.warn("검색 색인 세그먼트 기록 실패, 다음 주기에 재시도합니다. ops={}", ops.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void rebuild() throws IOException {
+        List<Long> ids = postRepository.findPublicPostIds();
+        long watermark = System.currentTimeMillis();
+        for (int from = 0; from < ids.size(); from += REBUILD_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REBUILD_CHUNK, ids.size()));
+            List<PostSearchIndex.IndexedDoc> docs = readTx.execute(status ->
+                    postRepository.findAllForIndexing(chunk).stream().map(PostSearchService::toDoc).toList());
+            docs.forEach(index::upsert);
+        }
+        store.compact(index.snapshot(), watermark);
+    }
+
+    private void restore() throws IOException {
+        SearchSegmentStore.Loaded loaded = store.load();
+        for (SearchSegmentStore.Op op : loaded.ops()) {
+            if (op.doc() == null) index.remove(op.postId());
+            else index.upsert(op.doc());
+        }
+
+        // 내려가 있던 동안 삭제된 글 정리 + 마지막 기록 이후 수정된 글 재색인
+        Set<Long> publicIds = new HashSet<>(postRepository.findPublicPostIds());
+        for (Long postId : index.postIds()) {
+            if (!publicIds.contains(postId)) removeDoc(postId);
+        }
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(loaded.watermarkMillis() - CATCH_UP_MARGIN_MILLIS), ZoneId.systemDefault());
+        List<Long> changed = postRepository.findPostIdsUpdatedSince(since);
+        for (int from = 0; from < changed.size(); from += REBUILD_CHUNK) {
+            reindex(changed.subList(from, Math.min(from + REBUILD_CHUNK, changed.size())));
+        }
+        log.info("검색 색인 세그먼트 복원. segments={}, ops={}, catchUp={}",
+                loaded.segmentCount(), loaded.ops().size(), changed.size());
+    }
+
+    /** 공개 글은 다시 색인하고, 비공개로 바뀌었거나 사라진 글은 색인에서 뺀다. */
+    private void reindex(List<Long> postIds) {
+        List<PostSearchIndex.IndexedDoc> docs = readTx.execute(status ->
+                postRepository.findAllForIndexing(postIds).stream()
+                        .filter(p -> p.getStatus() == Post.Status.PUBLIC)
+                        .map(PostSearchService::toDoc)
+                        .toList());
+        Set<Long> indexed = new HashSet<>();
+        for (PostSearchIndex.IndexedDoc doc : docs) {
+            index.upsert(doc);
+            enqueue(SearchSegmentStore.Op.upsert(doc));
+            indexed.add(doc.postId());
+        }
+        for (Long postId : postIds) {
+            if (!indexed.contains(postId)) removeDoc(postId);
+        }
+    }
+
+    private void removeDoc(long postId) {
+        index.remove(postId);
+        enqueue(SearchSegmentStore.Op.delete(postId));
+    }
+
+    private static PostSearchIndex.IndexedDoc toDoc(Post post) {
+        List<String> bodies = new ArrayList<>(4);
+        PostContent content = post.getPostContent();
+        if (content != null) {
+            bodies.add(content.getSituationContent());
+            bodies.add(content.getFailureContent());
+            bodies.add(content.getLearningContent());
+            bodies.add(content.getNextStepContent());
+        }
+        List<String> tags = post.getTags().stream().map(Tag::getName).toList();
+        return PostSearchIndex.analyze(post.getPostId(), post.getTitle(), bodies, tags);
+    }
+
+    private void enqueue(SearchSegmentStore.Op op) {
+        pendingLock.lock();
+        try {
+            pending.add(op);
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private List<SearchSegmentStore.Op> drainPending() {
+        pendingLock.lock();
+        try {
+            List<SearchSegmentStore.Op> drained = pending;
+            pending = new ArrayList<>();
+            return drained;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void restorePending(List<SearchSegmentStore.Op> ops) {
+        pendingLock.lock();
+        try {
+            ops.addAll(pending);
+            pending = ops;
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package rebound.backend.post.search;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 검색 색인을 로컬 디스크 세그먼트 파일로 저장/복원한다.
+ * 세그먼트는 색인 변경(upsert/delete) 묶음을 순서대로 기록한 불변 파일이며, 파일명 번호 순으로 재생하면 색인이 복원된다.
+ * 세그먼트가 많아지면 현재 색인 전체를 한 세그먼트로 다시 쓰고 이전 파일을 지운다(압축).
+ */
+public class SearchSegmentStore {
+
+    private static final int MAGIC = 0x52425358; // "RBSX"
+    private static final int VERSION = 2; // 2: 한글 1-gram / 영문 edge n-gram 색인
+    private static final byte OP_UPSERT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final String PREFIX = "seg-";
+    private static final String SUFFIX = ".dat";
+
+    private final Path directory;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private long nextSeq;
+
+    /** 색인 변경 한 건. doc 이 null 이면 삭제 */
+    public record Op(long postId, PostSearchIndex.IndexedDoc doc) {
+        public static Op upsert(PostSearchIndex.IndexedDoc doc) { return new Op(doc.postId(), doc); }
+        public static Op delete(long postId) { return new Op(postId, null); }
+    }
+
+    /** 복원 결과: 적용할 변경 목록과 마지막으로 기록된 시각(워터마크) */
+    public record Loaded(List<Op> ops, long watermarkMillis, int segmentCount) {}
+
+    public SearchSegmentStore(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        this.nextSeq = segments().stream().mapToLong(SearchSegmentStore::seqOf).max().orElse(0L) + 1;
+    }
+
+    public boolean isEmpty() throws IOException {
+        return segments().isEmpty();
+    }
+
+    /** 다른 형식(이전 토크나이저)으로 기록된 세그먼트가 있으면 true. 이때는 복원하지 않고 다시 색인한다. */
+    public boolean isStale() throws IOException {
+        for (Path file : segments()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) return true;
+            }
+        }
+        return false;
+    }
+
+    public Loaded load() throws IOException {
+        List<Op> ops = new ArrayList<>();
+        long watermark = 0L;
+        List<Path> files = segments();
+        for (Path file : files) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IOException("알 수 없는 세그먼트 형식: " + file);
+                }
+                watermark = Math.max(watermark, in.readLong());
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    ops.add(readOp(in));
+                }
+            }
+        }
+        return new Loaded(ops, watermark, files.size());
+    }
+
+    /** 변경 묶음을 새 세그먼트로 기록한다. 임시 파일에 쓴 뒤 이름을 바꿔 부분 기록이 보이지 않게 한다. */
+    public void append(List<Op> ops, long watermarkMillis) throws IOException {
+        if (ops.isEmpty()) return;
+        writeLock.lock();
+        try {
+            write(ops, watermarkMillis);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 현재 색인 전체를 한 세그먼트로 쓰고 이전 세그먼트를 삭제한다. */
+    public void compact(List<PostSearchIndex.IndexedDoc> docs, long watermarkMillis) throws IOException {
+        writeLock.lock();
+        try {
+            List<Path> old = segments();
+            List<Op> ops = new ArrayList<>(docs.size());
+            for (PostSearchIndex.IndexedDoc doc : docs) {
+                ops.add(Op.upsert(doc));
+            }
+            write(ops, watermarkMillis);
+            for (Path file : old) {
+                Files.deleteIfExists(file);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int segmentCount() throws IOException {
+        return segments().size();
+    }
+
+    private void write(List<Op> ops, long watermarkMillis) throws IOException {
+        long seq = nextSeq++;
+        Path target = directory.resolve(String.format("%s%012d%s", PREFIX, seq, SUFFIX));
+        Path tmp = directory.resolve(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(watermarkMillis);
+            out.writeInt(ops.size());
+            for (Op op : ops) {
+                writeOp(out, op);
+            }
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeOp(DataOutputStream out, Op op) throws IOException {
+        if (op.doc() == null) {
+            out.writeByte(OP_DELETE);
+            out.writeLong(op.postId());
+            return;
+        }
+        out.writeByte(OP_UPSERT);
+        out.writeLong(op.postId());
+        out.writeInt(op.doc().length());
+        out.writeInt(op.doc().termWeights().size());
+        for (Map.Entry<String, Float> e : op.doc().termWeights().entrySet()) {
+            out.writeUTF(e.getKey());
+            out.writeFloat(e.getValue());
+        }
+    }
+
+    private static Op readOp(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        long postId = in.readLong();
+        if (type == OP_DELETE) return Op.delete(postId);
+        if (type != OP_UPSERT) throw new IOException("알 수 없는 세그먼트 레코드: " + type);
+        int length = in.readInt();
+        int terms = in.readInt();
+        Map<String, Float> weights = new HashMap<>(terms * 2);
+        for (int i = 0; i < terms; i++) {
+            weights.put(in.readUTF(), in.readFloat());
+        }
+        return Op.upsert(new PostSearchIndex.IndexedDoc(postId, weights, length));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(SearchSegmentStore::seqOf))
+                    .toList();
+        }
+    }
+
+    private static long seqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,188 @@
+package rebound.backend.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rebound.backend.post.event.CommentReactionEvent;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
+import rebound.backend.utils.DeltaAccumulator;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * comment.like_count 비정규화 카운터 관리.
+ * 하트를 켜고 끌 때마다 UPDATE 하지 않고 댓글별 증감을 메모리에 모아 두었다가,
+ * 짧은 주기(flush-interval-ms)마다 {@code like_count = like_count + ?} 배치 UPDATE 로 한 번에 반영한다.
+ * 같은 댓글에 연달아 들어온 증감(더블탭 등)은 하나로 합쳐지고, 0 으로 상쇄되면 UPDATE 자체가 나가지 않는다.
+ * 반영 전 값은 pending() 으로 응답/ETag 에 더해 보여준다.
+ * verifier 가 주기적으로 댓글 일부를 골라 comment_reaction 과 어긋난 값을 바로잡는다.
+ * 반응 트랜잭션은 이벤트를 발행할 때부터 커밋 후 증감이 누산기에 들어갈 때까지 진행 중(inFlight)으로 잡아 두어,
+ * 보정이 이미 센 행의 증감을 한 번 더 더하지 않게 한다.
+ */
+@Slf4j
+@Service
+public class CommentLikeCounter {
+
+    private static final String FLUSH_SQL = "UPDATE comment SET like_count = like_count + ? WHERE comment_id = ?";
+
+    // 표본 댓글 중 실제 하트 수와 다른 것만 고친다 (반영 대기/진행 중인 댓글은 호출 측에서 제외)
+    private static final String REPAIR_SQL = """
+            UPDATE comment c
+               SET like_count = (SELECT COUNT(*) FROM comment_reaction r
+                                  WHERE r.comment_id = c.comment_id AND r.type = 'HEART')
+             WHERE c.comment_id IN (%s)
+               AND c.like_count <> (SELECT COUNT(*) FROM comment_reaction r
+                                     WHERE r.comment_id = c.comment_id AND r.type = 'HEART')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PendingInteractions pendingInteractions;
+    private final int verifySampleSize;
+    private final DeltaAccumulator deltas = new DeltaAccumulator(1, 64);
+    // 증감 기록/flush(read) 와 표본 보정(write) 을 나눈다. 보정 도중 들어온 증감이 보정 값 위에 다시 더해지지 않도록
+    private final ReentrantReadWriteLock repairLock = new ReentrantReadWriteLock();
+    // 이벤트는 발행됐지만 아직 누산기에 들어가지 않은 반응 수 (행은 이미 썼거나 커밋 중)
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    CommentLikeCounter(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       PendingInteractions pendingInteractions,
+                       @Value("${comment.like-count.verify-sample:500}") int verifySampleSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pendingInteractions = pendingInteractions;
+        this.verifySampleSize = verifySampleSize;
+    }
+
+    /** 발행 즉시(커밋 전) 진행 중으로 표시. 잠금을 잡지 않으므로 행 잠금을 쥔 트랜잭션이 보정을 기다리지 않는다. */
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 트랜잭션 없이 발행돼 onReaction 이 바로 불릴 때도 먼저
+    @EventListener
+    public void onReactionStarted(CommentReactionEvent event) {
+        inFlight.merge(event.commentId(), 1, Integer::sum);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReaction(CommentReactionEvent event) {
+        repairLock.readLock().lock();
+        try {
+            deltas.add(event.commentId(), 0, event.delta());
+        } finally {
+            repairLock.readLock().unlock();
+            finished(event.commentId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onReactionRolledBack(CommentReactionEvent event) {
+        finished(event.commentId());
+    }
+
+    /** 아직 flush 되지 않은 증감 (저널에서 반영 대기 중인 하트 포함) */
+    public long pending(Long commentId) {
+        return deltas.pending(commentId, 0) + pendingInteractions.pendingDelta(InteractionKind.COMMENT_HEART, commentId);
+    }
+
+    @Scheduled(fixedDelayString = "${comment.like-count.flush-interval-ms:500}")
+    public void flush() {
+        // 꺼낸 증감을 UPDATE 하기 전에 보정이 끼어들면 보정 값 위에 더해지므로 같은 잠금 아래에서
+        repairLock.readLock().lock();
+        try {
+            flushPending();
+        } finally {
+            repairLock.readLock().unlock();
+        }
+    }
+
+    /** @return 반영할 것이 없었거나 반영에 성공하면 true */
+    private boolean flushPending() {
+        Map<Long, long[]> drained = deltas.drain();
+        if (drained.isEmpty()) return true;
+
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.forEach((commentId, d) -> args.add(new Object[]{d[0], commentId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (RuntimeException e) {
+            deltas.restore(drained);
+            log.warn("댓글 좋아요 수 반영 실패, 다음 주기에 재시도합니다. size={}", drained.size(), e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 무작위 구간의 댓글 verify-sample 개를 골라 comment_reaction 기준으로 like_count 를 맞춘다.
+     * 잠금 안에서 모아 둔 증감을 flush 하고, 증감이 남았거나 반응이 진행 중인 댓글은 표본에서 뺀 뒤 보정한다.
+     * 보정 UPDATE 뒤에도 표본 댓글에 진행 중인 반응이 생겼으면 그 행이 세어졌는지 알 수 없으므로 이번 보정은 되돌린다.
+     * @return 바로잡은 댓글 수
+     */
+    @Scheduled(fixedDelayString = "${comment.like-count.verify-interval-ms:600000}",
+            initialDelayString = "${comment.like-count.verify-interval-ms:600000}")
+    public int verifySample() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(comment_id) FROM comment", Long.class);
+        if (maxId == null) return 0;
+
+        long from = ThreadLocalRandom.current().nextLong(1, maxId + 1);
+        List<Long> sample = new ArrayList<>(jdbcTemplate.queryForList(
+                "SELECT comment_id FROM comment WHERE comment_id >= ? ORDER BY comment_id LIMIT ?",
+                Long.class, from, verifySampleSize));
+        if (sample.size() < verifySampleSize) {
+            // 끝에 가까우면 앞쪽에서 채운다
+            sample.addAll(jdbcTemplate.queryForList(
+                    "SELECT comment_id FROM comment WHERE comment_id < ? ORDER BY comment_id LIMIT ?",
+                    Long.class, from, verifySampleSize - sample.size()));
+        }
+
+        int repaired;
+        repairLock.writeLock().lock();
+        try {
+            // 남은 증감을 못 비웠으면 보정 값 위에 다시 더해지므로 이번 보정은 건너뛴다
+            if (!flushPending()) return 0;
+            sample.removeIf(this::busy);
+            if (sample.isEmpty()) return 0;
+
+            String placeholders = String.join(",", Collections.nCopies(sample.size(), "?"));
+            repaired = transactionTemplate.execute(status -> {
+                int updated = jdbcTemplate.update(REPAIR_SQL.formatted(placeholders), sample.toArray());
+                if (sample.stream().anyMatch(this::busy)) {
+                    status.setRollbackOnly();
+                    return 0;
+                }
+                return updated;
+            });
+        } finally {
+            repairLock.writeLock().unlock();
+        }
+        if (repaired > 0) {
+            log.info("댓글 좋아요 수 보정. sampled={}, repaired={}", sample.size(), repaired);
+        }
+        return repaired;
+    }
+
+    private boolean busy(Long commentId) {
+        return pending(commentId) != 0 || inFlight.containsKey(commentId);
+    }
+
+    private void finished(Long commentId) {
+        inFlight.computeIfPresent(commentId, (id, n) -> n > 1 ? n - 1 : null);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,7 +1,7 @@
 package rebound.backend.post.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -11,15 +11,21 @@ import rebound.backend.member.domain.Member;
 import rebound.backend.member.domain.MemberImage;
 import rebound.backend.member.repository.MemberImageRepository;
 import rebound.backend.member.repository.MemberRepository;
+import rebound.backend.post.dto.CommentCursor;
 import rebound.backend.post.dto.CommentResponse;
+import rebound.backend.post.dto.CommentThreadResponse;
+import rebound.backend.post.dto.SliceResponse;
 import rebound.backend.post.entity.*;
+import rebound.backend.post.event.CommentReactionEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
 import rebound.backend.post.repository.CommentReactionRepository;
 import rebound.backend.post.repository.CommentRepository;
 import rebound.backend.utils.InteractionAuth;
+import rebound.backend.utils.StrongEtag;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,9 +36,32 @@ public class CommentService {
     private final CommentReactionRepository reactionRepo;
     private final MemberRepository memberRepository;
     private final MemberImageRepository memberImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentLikeCounter likeCounter;
+    private final PendingInteractions pendingInteractions;
+
+    private static final int MAX_THREAD_PAGE_SIZE = 50;
+    private static final int MAX_REPLIES_PER_ROOT = 10;
 
     private Long me() { return InteractionAuth.currentMemberId(); }
 
+    /**
+     * 게시글 댓글 목록 ETag (보는 사람과 무관한 목록/비로그인 스레드용).
+     * 댓글 추가/삭제(수), 수정·상태 변경(마지막 수정 시각), 댓글별 하트 수(미반영 증감 포함), 작성자 프로필 변경(DB 버전 합계)을 반영한다.
+     * 하트 수는 합계가 아니라 (댓글 id, 하트 수) 목록 전체를 해시에 넣어, 서로 다른 댓글의 증감이 상쇄돼도 ETag 가 바뀐다.
+     */
+    @Transactional(readOnly = true)
+    public String listEtag(Long postId) {
+        CommentRepository.CommentStampRow stamp = commentRepo.findStamp(postId);
+        StringBuilder likes = new StringBuilder();
+        for (CommentRepository.LikeCountRow row : commentRepo.findLikeCounts(postId)) {
+            likes.append(row.getCommentId()).append(':')
+                    .append(row.getLikeCount() + likeCounter.pending(row.getCommentId())).append(',');
+        }
+        return StrongEtag.of(postId, stamp.getCommentCount(), stamp.getLastUpdatedAt(), likes,
+                stamp.getAuthorProfileVersions());
+    }
+
     /**
      * 댓글 목록 조회 (컴파일 오류 수정된 최종본)
      */
@@ -71,7 +100,7 @@ public class CommentService {
                     MemberImage image = imageMap.get(comment.getMemberId());
 
                     // DTO 팩토리 메서드가 수정된 로직으로 최종 DTO를 생성
-                    return CommentResponse.from(comment, member, image);
+                    return CommentResponse.from(comment, member, image, likeCount(comment));
                 })
                 .toList();
 
@@ -79,6 +108,124 @@ public class CommentService {
         return new SliceImpl<>(dtoList, commentSlice.getPageable(), commentSlice.hasNext());
     }
 
+    /**
+     * 댓글 스레드 조회: 루트 댓글을 (createdAt, commentId) keyset 으로 페이지하고, 루트마다 앞쪽 대댓글 repliesPerRoot 개를 붙인다.
+     * 루트/대댓글 수와 무관하게 쿼리 5번 (루트, 대댓글, 대댓글 수, 작성자+이미지, 내 하트 여부)
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentThreadResponse> thread(Long postId, String cursor, int size, int repliesPerRoot) {
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+        int perRoot = Math.max(0, Math.min(repliesPerRoot, MAX_REPLIES_PER_ROOT));
+        CommentCursor after = CommentCursor.decode(cursor);
+
+        // 1. 루트 댓글 (size + 1 개를 읽어 다음 페이지 여부 판단, COUNT 없음)
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> roots = after == null
+                ? commentRepo.findThreadRoots(postId, limit)
+                : commentRepo.findThreadRootsAfter(postId, after.createdAt(), after.commentId(), limit);
+        boolean hasNext = roots.size() > pageSize;
+        if (hasNext) roots = roots.subList(0, pageSize);
+        if (roots.isEmpty()) {
+            return SliceResponse.ofCursor(Collections.emptyList(), false, pageSize, null);
+        }
+
+        // 2~3. 루트별 앞쪽 대댓글 + 대댓글 수
+        List<Long> rootIds = roots.stream().map(Comment::getCommentId).toList();
+        List<Comment> replies = perRoot == 0
+                ? Collections.emptyList()
+                : commentRepo.findFirstRepliesPerRoot(rootIds, perRoot);
+        Map<Long, Long> replyCounts = commentRepo.countRepliesByParentIds(rootIds).stream()
+                .collect(Collectors.toMap(CommentRepository.ReplyCountRow::getParentId,
+                        CommentRepository.ReplyCountRow::getCnt));
+
+        // 4~5. 작성자/이미지, 내가 하트 누른 댓글
+        List<Comment> all = new ArrayList<>(roots.size() + replies.size());
+        all.addAll(roots);
+        all.addAll(replies);
+        CommentViewContext ctx = viewContext(all);
+
+        // 트리 조립
+        Map<Long, List<Comment>> repliesByRoot = replies.stream()
+                .collect(Collectors.groupingBy(Comment::getParentCommentId, LinkedHashMap::new, Collectors.toList()));
+        List<CommentThreadResponse> items = roots.stream()
+                .map(root -> {
+                    List<Comment> children = repliesByRoot.getOrDefault(root.getCommentId(), Collections.emptyList());
+                    long replyCount = replyCounts.getOrDefault(root.getCommentId(), 0L);
+                    String nextReplyCursor = null;
+                    if (children.size() < replyCount) {
+                        // 남은 대댓글은 마지막으로 보여준 대댓글(없으면 루트) 다음부터 이어본다
+                        nextReplyCursor = cursorOf(children.isEmpty() ? root : children.get(children.size() - 1));
+                    }
+                    return new CommentThreadResponse(ctx.toResponse(root), ctx.liked(root), replyCount,
+                            children.stream().map(c -> CommentThreadResponse.leaf(ctx.toResponse(c), ctx.liked(c))).toList(),
+                            nextReplyCursor);
+                })
+                .toList();
+
+        String nextCursor = hasNext ? cursorOf(roots.get(roots.size() - 1)) : null;
+        return SliceResponse.ofCursor(items, hasNext, pageSize, nextCursor);
+    }
+
+    /**
+     * 특정 루트 댓글의 대댓글 이어보기 (keyset). 쿼리 3번 (대댓글, 작성자+이미지, 내 하트 여부)
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<CommentThreadResponse> replies(Long parentId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_THREAD_PAGE_SIZE));
+        CommentCursor after = CommentCursor.decode(cursor);
+        if (after == null) {
+            Comment parent = commentRepo.findById(parentId)
+                    .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. id=" + parentId));
+            after = new CommentCursor(parent.getCreatedAt(), parent.getCommentId());
+        }
+
+        List<Comment> replies = commentRepo.findRepliesAfter(parentId, after.createdAt(), after.commentId(),
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = replies.size() > pageSize;
+        if (hasNext) replies = replies.subList(0, pageSize);
+        if (replies.isEmpty()) {
+            return SliceResponse.ofCursor(Collections.emptyList(), false, pageSize, null);
+        }
+
+        CommentViewContext ctx = viewContext(replies);
+        List<CommentThreadResponse> items = replies.stream()
+                .map(c -> CommentThreadResponse.leaf(ctx.toResponse(c), ctx.liked(c)))
+                .toList();
+        String nextCursor = hasNext ? cursorOf(replies.get(replies.size() - 1)) : null;
+        return SliceResponse.ofCursor(items, hasNext, pageSize, nextCursor);
+    }
+
+    /** 댓글 묶음의 작성자(이미지 포함)와 로그인 사용자의 하트 여부를 한 번씩만 조회 */
+    private CommentViewContext viewContext(List<Comment> comments) {
+        List<Long> memberIds = comments.stream().map(Comment::getMemberId).distinct().toList();
+        Map<Long, Member> members = memberRepository.findAllWithImageByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, m -> m));
+
+        Long viewer = InteractionAuth.currentMemberIdOrNull();
+        List<Long> commentIds = comments.stream().map(Comment::getCommentId).toList();
+        Set<Long> liked = viewer == null
+                ? Collections.emptySet()
+                : pendingInteractions.overlayIds(InteractionKind.COMMENT_HEART, viewer, commentIds,
+                        new HashSet<>(reactionRepo.findCommentIdsLikedBy(viewer, ReactionType.HEART, commentIds)));
+        return new CommentViewContext(members, liked, likeCounter);
+    }
+
+    private record CommentViewContext(Map<Long, Member> members, Set<Long> likedIds, CommentLikeCounter likeCounter) {
+        CommentResponse toResponse(Comment c) {
+            Member member = members.get(c.getMemberId());
+            return CommentResponse.from(c, member, member == null ? null : member.getMemberImage(),
+                    c.getLikeCount() + (int) likeCounter.pending(c.getCommentId()));
+        }
+
+        boolean liked(Comment c) {
+            return likedIds.contains(c.getCommentId());
+        }
+    }
+
+    private static String cursorOf(Comment c) {
+        return new CommentCursor(c.getCreatedAt(), c.getCommentId()).encode();
+    }
+
     // 댓글 생성
     @Transactional
     public Comment create(Long postId, String content, boolean isAnonymous, Long parentId) {
@@ -90,7 +237,9 @@ public class CommentService {
                 .parentCommentId(parentId)
                 .status(CommentStatus.PUBLIC)
                 .build();
-        return commentRepo.save(c);
+        Comment saved = commentRepo.save(c);
+        eventPublisher.publishEvent(new PostInteractionEvent(postId, saved.getMemberId(), PostInteractionEvent.Kind.COMMENT, 1));
+        return saved;
     }
 
     // 조건부 삭제
@@ -111,44 +260,82 @@ public class CommentService {
         } else {
             commentRepo.deleteById(commentId);
         }
+        if (c.getStatus() != CommentStatus.DELETED) {
+            eventPublisher.publishEvent(new PostInteractionEvent(c.getPostId(), m, PostInteractionEvent.Kind.COMMENT, -1));
+        }
     }
 
-    // 하트토글 및 like_count 동기화
+    public record HeartResult(boolean liked, long likeCount) {}
+
+    /**
+     * 하트 토글: 먼저 지워 보고(영향 행 1 이면 꺼짐) 지운 것이 없으면 켠다.
+     * like_count 는 다시 세지 않고 영향 행 수만큼의 증감을 CommentLikeCounter 로 넘긴다 (커밋 후 모아서 반영).
+     * 직접 모드는 댓글 행을 먼저 잠가, 같은 댓글에 대한 DELETE 와 INSERT IGNORE 가 갭 락을 엇갈려 잡지 않게 한다.
+     */
     @Transactional
-    public boolean toggleHeart(Long commentId) {
+    public HeartResult toggleHeart(Long commentId) {
         Long m = me();
-        boolean existed = reactionRepo.existsByCommentIdAndMemberIdAndType(commentId, m, ReactionType.HEART);
+        if (pendingInteractions.enabled()) return journaledHeart(commentId, m, null);
+        CommentRepository.LikeRow row = lockComment(commentId);
+        int delta = -reactionRepo.deleteHeart(commentId, m);
+        if (delta == 0) delta = reactionRepo.insertHeartIfAbsent(commentId, m);
+        return heartResult(row, commentId, delta >= 0, delta);
+    }
 
-        if (existed) {
-            reactionRepo.deleteByCommentIdAndMemberIdAndType(commentId, m, ReactionType.HEART);
-            syncLikeCount(commentId);
-            return false;
-        } else {
-            try {
-                reactionRepo.save(
-                        CommentReaction.builder()
-                                .commentId(commentId)
-                                .memberId(m)
-                                .type(ReactionType.HEART)
-                                .build()
-                );
-                syncLikeCount(commentId);
-                return true;
-            } catch (DataIntegrityViolationException dup) {
-                // 거의 동시에 같은 사용자 요청이 들어온 경우 → 이미 만들어졌다고 보고 켜진 상태 반환
-                syncLikeCount(commentId);
-                return true;
-            }
-        }
+    /** 하트 켜기 (멱등) */
+    @Transactional
+    public HeartResult setHeart(Long commentId) {
+        Long m = me();
+        if (pendingInteractions.enabled()) return journaledHeart(commentId, m, true);
+        CommentRepository.LikeRow row = lockComment(commentId);
+        return heartResult(row, commentId, true, reactionRepo.insertHeartIfAbsent(commentId, m));
+    }
+
+    /** 하트 끄기 (멱등) */
+    @Transactional
+    public HeartResult unsetHeart(Long commentId) {
+        Long m = me();
+        if (pendingInteractions.enabled()) return journaledHeart(commentId, m, false);
+        CommentRepository.LikeRow row = lockComment(commentId);
+        return heartResult(row, commentId, false, -reactionRepo.deleteHeart(commentId, m));
     }
 
     public long countHearts(Long commentId) {
         return reactionRepo.countByCommentIdAndType(commentId, ReactionType.HEART);
     }
 
-    // 현재 reaction 집계값으로 like_count 세팅
-    private void syncLikeCount(Long commentId) {
-        int cnt = (int) reactionRepo.countByCommentIdAndType(commentId, ReactionType.HEART);
-        commentRepo.updateLikeCount(commentId, cnt);
+    private int likeCount(Comment comment) {
+        return comment.getLikeCount() + (int) likeCounter.pending(comment.getCommentId());
+    }
+
+    /** 저널 모드: 행을 쓰지 않고 최종 상태만 기록한다. desired 가 null 이면 토글 */
+    private HeartResult journaledHeart(Long commentId, Long m, Boolean desired) {
+        CommentRepository.LikeRow row = findLikeRow(commentId);
+        PendingInteractions.Change change = pendingInteractions.record(InteractionKind.COMMENT_HEART, commentId, m, desired,
+                () -> reactionRepo.existsByCommentIdAndMemberIdAndType(commentId, m, ReactionType.HEART));
+        return heartCount(row, commentId, change.state(), 0); // 이번 기록은 likeCounter.pending 에 이미 들어 있다
+    }
+
+    /** 직접 모드: 댓글 행을 잠가 같은 댓글의 반응 쓰기를 직렬화하고, 없는 댓글이면 거절한다 */
+    private CommentRepository.LikeRow lockComment(Long commentId) {
+        return commentRepo.lockForReaction(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. id=" + commentId));
+    }
+
+    private CommentRepository.LikeRow findLikeRow(Long commentId) {
+        return commentRepo.findLikeRow(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다. id=" + commentId));
+    }
+
+    private HeartResult heartResult(CommentRepository.LikeRow row, Long commentId, boolean liked, int delta) {
+        if (delta != 0) {
+            eventPublisher.publishEvent(new CommentReactionEvent(commentId, row.getPostId(), me(), delta));
+        }
+        return heartCount(row, commentId, liked, delta);
+    }
+
+    private HeartResult heartCount(CommentRepository.LikeRow row, Long commentId, boolean liked, int delta) {
+        long likeCount = row.getLikeCount() + likeCounter.pending(commentId) + delta;
+        return new HeartResult(liked, Math.max(likeCount, 0L));
     }
 }
\ No newline at end of file
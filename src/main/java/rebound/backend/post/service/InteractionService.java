@@ -1,64 +1,140 @@
 package rebound.backend.post.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import rebound.backend.post.entity.PostBookmark;
-import rebound.backend.post.entity.PostReaction;
 import rebound.backend.post.entity.ReactionType;
+import rebound.backend.post.event.PostInteractionEvent;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
 import rebound.backend.post.repository.PostBookmarkRepository;
 import rebound.backend.post.repository.PostReactionRepository;
+import rebound.backend.post.repository.PostRepository;
 import rebound.backend.utils.InteractionAuth;
 
 @Service @RequiredArgsConstructor
 public class InteractionService {
     private final PostReactionRepository reactionRepo;
     private final PostBookmarkRepository bookmarkRepo;
+    private final PostRepository postRepository;
+    private final PostCounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PendingInteractions pendingInteractions;
 
     // TODO: OAuth 붙으면 SecurityContext에서 memberId 가져오기
     private Long me() { return InteractionAuth.currentMemberId(); }
 
+    /**
+     * 하트 토글: 먼저 지워 보고(영향 행 1 이면 꺼짐) 지운 것이 없으면 켠다.
+     * 직접 모드는 게시글 행을 먼저 잠가, 같은 글에 대한 DELETE 와 INSERT IGNORE 가 갭 락을 엇갈려 잡지 않게 한다.
+     */
     @Transactional
     public ToggleResult toggleHeart(Long postId) {
         Long m = me();
-        boolean exists = reactionRepo.existsByPostIdAndMemberIdAndType(postId, m, ReactionType.HEART);
-        boolean liked;
-        if (exists) {
-            reactionRepo.deleteByPostIdAndMemberIdAndType(postId, m, ReactionType.HEART);
-            liked = false;
-        } else {
-            try {
-                reactionRepo.save(PostReaction.builder()
-                        .postId(postId).memberId(m).type(ReactionType.HEART).build());
-                liked = true;
-            } catch (DataIntegrityViolationException dup) {
-                liked = true; // 경합 시 이미 켜진 상태로 간주
-            }
-        }
-        long count = reactionRepo.countByPostIdAndType(postId, ReactionType.HEART);
-        return new ToggleResult(liked, count);
+        if (pendingInteractions.enabled()) return journaledHeart(postId, m, null);
+        lockPost(postId);
+        int delta = -reactionRepo.deleteHeart(postId, m);
+        if (delta == 0) delta = reactionRepo.insertHeartIfAbsent(postId, m);
+        return heartResult(postId, m, delta >= 0, delta);
+    }
+
+    /** 하트 켜기 (멱등): 이미 켜져 있으면 아무것도 바꾸지 않는다 */
+    @Transactional
+    public ToggleResult setHeart(Long postId) {
+        Long m = me();
+        if (pendingInteractions.enabled()) return journaledHeart(postId, m, true);
+        lockPost(postId);
+        return heartResult(postId, m, true, reactionRepo.insertHeartIfAbsent(postId, m));
+    }
+
+    /** 하트 끄기 (멱등) */
+    @Transactional
+    public ToggleResult unsetHeart(Long postId) {
+        Long m = me();
+        if (pendingInteractions.enabled()) return journaledHeart(postId, m, false);
+        lockPost(postId);
+        return heartResult(postId, m, false, -reactionRepo.deleteHeart(postId, m));
     }
 
     @Transactional
     public ToggleResult toggleBookmark(Long postId) {
         Long m = me();
-        boolean exists = bookmarkRepo.existsByPostIdAndMemberId(postId, m);
-        boolean bookmarked;
-        if (exists) {
-            bookmarkRepo.deleteByPostIdAndMemberId(postId, m);
-            bookmarked = false;
-        } else {
-            try {
-                bookmarkRepo.save(PostBookmark.builder().postId(postId).memberId(m).build());
-                bookmarked = true;
-            } catch (DataIntegrityViolationException dup) {
-                bookmarked = true;
-            }
+        if (pendingInteractions.enabled()) return journaledBookmark(postId, m, null);
+        lockPost(postId);
+        int delta = -bookmarkRepo.deleteBookmark(postId, m);
+        if (delta == 0) delta = bookmarkRepo.insertIfAbsent(postId, m);
+        return bookmarkResult(postId, m, delta >= 0, delta);
+    }
+
+    @Transactional
+    public ToggleResult setBookmark(Long postId) {
+        Long m = me();
+        if (pendingInteractions.enabled()) return journaledBookmark(postId, m, true);
+        lockPost(postId);
+        return bookmarkResult(postId, m, true, bookmarkRepo.insertIfAbsent(postId, m));
+    }
+
+    @Transactional
+    public ToggleResult unsetBookmark(Long postId) {
+        Long m = me();
+        if (pendingInteractions.enabled()) return journaledBookmark(postId, m, false);
+        lockPost(postId);
+        return bookmarkResult(postId, m, false, -bookmarkRepo.deleteBookmark(postId, m));
+    }
+
+    /** 저널 모드: 행을 쓰지 않고 최종 상태만 기록한다. desired 가 null 이면 토글 */
+    private ToggleResult journaledHeart(Long postId, Long m, Boolean desired) {
+        requirePost(postId);
+        PendingInteractions.Change change = pendingInteractions.record(InteractionKind.POST_HEART, postId, m, desired,
+                () -> reactionRepo.existsByPostIdAndMemberIdAndType(postId, m, ReactionType.HEART));
+        return heartCount(postId, change.state(), 0); // 이번 기록은 pendingLikes 에 이미 들어 있다
+    }
+
+    private ToggleResult journaledBookmark(Long postId, Long m, Boolean desired) {
+        requirePost(postId);
+        PendingInteractions.Change change = pendingInteractions.record(InteractionKind.POST_BOOKMARK, postId, m, desired,
+                () -> bookmarkRepo.existsByPostIdAndMemberId(postId, m));
+        return bookmarkCount(postId, change.state(), 0);
+    }
+
+    /** 직접 모드: 게시글 행을 잠가 같은 글의 반응 쓰기를 직렬화하고, 없는 글이면 거절한다 */
+    private void lockPost(Long postId) {
+        if (postRepository.lockForReaction(postId).isEmpty()) {
+            throw new IllegalArgumentException("ID에 해당하는 게시글을 찾을 수 없습니다: " + postId);
+        }
+    }
+
+    private void requirePost(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("ID에 해당하는 게시글을 찾을 수 없습니다: " + postId);
+        }
+    }
+
+    private ToggleResult heartResult(Long postId, Long m, boolean liked, int delta) {
+        if (delta != 0) {
+            eventPublisher.publishEvent(new PostInteractionEvent(postId, m, PostInteractionEvent.Kind.HEART, delta));
         }
-        long count = bookmarkRepo.countByPostId(postId);
-        return new ToggleResult(bookmarked, count);
+        return heartCount(postId, liked, delta);
+    }
+
+    private ToggleResult heartCount(Long postId, boolean liked, int delta) {
+        // 카운트는 COUNT(*) 대신 비정규화 컬럼 + 미반영 증감 + 이번 증감(커밋 후 누산기에 들어감)
+        long count = postRepository.findLikeCount(postId).orElse(0L) + counterService.pendingLikes(postId) + delta;
+        return new ToggleResult(liked, Math.max(count, 0L));
+    }
+
+    private ToggleResult bookmarkResult(Long postId, Long m, boolean bookmarked, int delta) {
+        if (delta != 0) {
+            eventPublisher.publishEvent(new PostInteractionEvent(postId, m, PostInteractionEvent.Kind.BOOKMARK, delta));
+        }
+        return bookmarkCount(postId, bookmarked, delta);
+    }
+
+    private ToggleResult bookmarkCount(Long postId, boolean bookmarked, int delta) {
+        long count = postRepository.findBookmarkCount(postId).orElse(0L) + counterService.pendingBookmarks(postId) + delta;
+        return new ToggleResult(bookmarked, Math.max(count, 0L));
     }
 
     public record ToggleResult(boolean state, long count) {}
-}
\ No newline at end of file
+}
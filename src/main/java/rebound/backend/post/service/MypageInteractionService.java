@@ -3,7 +3,10 @@ package rebound.backend.post.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rebound.backend.post.dto.PostSummary;
 import rebound.backend.post.entity.CommentStatus;
 import rebound.backend.post.entity.ReactionType;
 import rebound.backend.post.repository.CommentRepository;
@@ -17,9 +20,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MypageInteractionService {
 
+    private static final int MAX_HYDRATED_PAGE_SIZE = 50;
+
     private final PostReactionRepository reactionRepo;
     private final PostBookmarkRepository bookmarkRepo;
     private final CommentRepository commentRepo;
+    private final PostResponseHydrator hydrator;
 
     private Long me() { return InteractionAuth.currentMemberId(); }
 
@@ -34,4 +40,33 @@ public class MypageInteractionService {
     public Slice<Long> myCommentedPostIds(int page, int size) {
         return commentRepo.findCommentedPostIds(me(), CommentStatus.PUBLIC, PageRequest.of(page, size));
     }
+
+    // 아래는 게시글 카드까지 한 번에 반환 (id 페이지 조회 + 카드 배치 조립, 반응 시각순 유지)
+
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> myLikedPosts(int page, int size) {
+        Long me = me();
+        return hydrate(reactionRepo.findPostIdsReactedBy(me, ReactionType.HEART, hydratedPage(page, size)), me);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> myBookmarkedPosts(int page, int size) {
+        Long me = me();
+        return hydrate(bookmarkRepo.findBookmarkedPostIdsBy(me, hydratedPage(page, size)), me);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostSummary> myCommentedPosts(int page, int size) {
+        Long me = me();
+        return hydrate(commentRepo.findCommentedPostIds(me, CommentStatus.PUBLIC, hydratedPage(page, size)), me);
+    }
+
+    private Slice<PostSummary> hydrate(Slice<Long> ids, Long me) {
+        List<PostSummary> posts = hydrator.hydrate(ids.getContent(), me);
+        return new SliceImpl<>(posts, ids.getPageable(), ids.hasNext());
+    }
+
+    private static PageRequest hydratedPage(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_HYDRATED_PAGE_SIZE)));
+    }
 }
@@ -0,0 +1,284 @@
+package rebound.backend.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rebound.backend.member.service.MemberReputationService;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.event.PostCountersReconciledEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
+import rebound.backend.utils.DeltaAccumulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * post.like_count / bookmark_count / comment_count 비정규화 카운터 관리.
+ * 토글 시에는 메모리 누산기에 증감만 기록하고, 주기적으로 모아서 {@code x = x + ?} 배치 UPDATE 로 반영한다(write-behind).
+ * 같은 트랜잭션에서 작성자 평판(member_reputation)에도 증감분을 더한다.
+ * 반응/북마크/댓글 테이블과 어긋난 값은 reconcile 작업이 post_id 구간별로 바로잡는다.
+ * 반응 트랜잭션은 이벤트를 발행할 때부터 커밋 후 증감이 누산기에 들어갈 때까지 진행 중(inFlight)으로 잡아 두어,
+ * 보정이 이미 센 행의 증감을 한 번 더 더하지 않게 한다 (CommentLikeCounter 와 같은 방식).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    static final int LIKE = 0;
+    static final int BOOKMARK = 1;
+    static final int COMMENT = 2;
+
+    // 인기 점수 = 좋아요*2 + 북마크 + 댓글 (기존 인기순 서브쿼리와 동일한 가중치)
+    private static final int LIKE_WEIGHT = 2;
+
+    private static final String FLUSH_SQL = """
+            UPDATE post
+               SET like_count = like_count + ?,
+                   bookmark_count = bookmark_count + ?,
+                   comment_count = comment_count + ?,
+                   popularity_score = popularity_score + ?
+             WHERE post_id = ?
+            """;
+
+    // post_id 구간 [?, ?] 한 곳만 다시 센다 (인자: 하트, 북마크, 댓글, 게시글 순으로 구간 두 개씩)
+    private static final String RECONCILE_SQL = """
+            UPDATE post p
+              LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_reaction
+                          WHERE type = 'HEART' AND post_id BETWEEN ? AND ? GROUP BY post_id) r
+                     ON r.post_id = p.post_id
+              LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_bookmark
+                          WHERE post_id BETWEEN ? AND ? GROUP BY post_id) b
+                     ON b.post_id = p.post_id
+              LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM comment
+                          WHERE status <> 'DELETED' AND post_id BETWEEN ? AND ? GROUP BY post_id) c
+                     ON c.post_id = p.post_id
+               SET p.like_count = COALESCE(r.cnt, 0),
+                   p.bookmark_count = COALESCE(b.cnt, 0),
+                   p.comment_count = COALESCE(c.cnt, 0),
+                   p.popularity_score = COALESCE(r.cnt, 0) * 2 + COALESCE(b.cnt, 0) + COALESCE(c.cnt, 0)
+             WHERE p.post_id BETWEEN ? AND ?
+               AND (p.like_count <> COALESCE(r.cnt, 0)
+                    OR p.bookmark_count <> COALESCE(b.cnt, 0)
+                    OR p.comment_count <> COALESCE(c.cnt, 0))
+            """;
+
+    // 구간에 진행 중인 반응이 있으면 잠금을 풀고 잠깐 기다렸다가 다시 시도한다
+    private static final int RANGE_ATTEMPTS = 3;
+    private static final long RANGE_RETRY_DELAY_MS = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberReputationService memberReputationService;
+    private final PendingInteractions pendingInteractions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DeltaAccumulator deltas = new DeltaAccumulator(3, 64);
+    // 증감 기록(read) 과 구간 보정의 비우기+재집계(write) 를 나눈다. 재집계 도중 들어온 증감이 다시 더해지지 않도록
+    private final ReentrantReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+    // flush 한 번(post + 평판 UPDATE)과 평판 전체 재계산이 겹치지 않게 한다
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 이벤트는 발행됐지만 아직 누산기에 들어가지 않은 반응 수 (행은 이미 썼거나 커밋 중)
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${post.counter.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    @Value("${post.counter.reconcile-range-size:1000}")
+    private int reconcileRangeSize;
+
+    /** 발행 즉시(커밋 전) 진행 중으로 표시. 잠금을 잡지 않으므로 행 잠금을 쥔 트랜잭션이 보정을 기다리지 않는다. */
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 트랜잭션 없이 발행돼 onInteraction 이 바로 불릴 때도 먼저
+    @EventListener
+    public void onInteractionStarted(PostInteractionEvent event) {
+        inFlight.merge(event.postId(), 1, Integer::sum);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInteraction(PostInteractionEvent event) {
+        int slot = switch (event.kind()) {
+            case HEART -> LIKE;
+            case BOOKMARK -> BOOKMARK;
+            case COMMENT -> COMMENT;
+        };
+        reconcileLock.readLock().lock();
+        try {
+            deltas.add(event.postId(), slot, event.delta());
+        } finally {
+            reconcileLock.readLock().unlock();
+            finished(event.postId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onInteractionRolledBack(PostInteractionEvent event) {
+        finished(event.postId());
+    }
+
+    /** DB 값 + 아직 flush 되지 않은 증감값 (좋아요/북마크는 저널에서 반영 대기 중인 것 포함) */
+    public long likeCount(Post post) {
+        return post.getLikeCount() + pendingLikes(post.getPostId());
+    }
+
+    public long bookmarkCount(Post post) {
+        return post.getBookmarkCount() + pendingBookmarks(post.getPostId());
+    }
+
+    public long commentCount(Post post) {
+        return post.getCommentCount() + deltas.pending(post.getPostId(), COMMENT);
+    }
+
+    public long pendingLikes(Long postId) {
+        return deltas.pending(postId, LIKE) + pendingInteractions.pendingDelta(InteractionKind.POST_HEART, postId);
+    }
+
+    public long pendingBookmarks(Long postId) {
+        return deltas.pending(postId, BOOKMARK) + pendingInteractions.pendingDelta(InteractionKind.POST_BOOKMARK, postId);
+    }
+
+    public long pendingComments(Long postId) {
+        return deltas.pending(postId, COMMENT);
+    }
+
+    @Scheduled(fixedDelayString = "${post.counter.flush-interval-ms:1000}")
+    public void flush() {
+        flushPending();
+    }
+
+    /** @return 반영할 것이 없었거나 반영에 성공하면 true */
+    private boolean flushPending() {
+        flushLock.lock();
+        try {
+            return flushDrained(deltas.drain());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean flushDrained(Map<Long, long[]> drained) {
+        if (drained.isEmpty()) return true;
+
+        List<Object[]> args = new ArrayList<>(drained.size());
+        drained.forEach((postId, d) -> args.add(new Object[]{
+                d[LIKE], d[BOOKMARK], d[COMMENT], d[LIKE] * LIKE_WEIGHT + d[BOOKMARK] + d[COMMENT], postId}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+                memberReputationService.applyPostDeltas(drained);
+            });
+        } catch (RuntimeException e) {
+            deltas.restore(drained);
+            log.warn("게시글 카운터 반영 실패, 다음 주기에 재시도합니다. size={}", drained.size(), e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 반응/북마크/댓글 테이블 기준으로 카운터를 다시 맞춘다. post_id 구간(reconcile-range-size)마다 짧게 잠그고 어긋난 행만 UPDATE 한다.
+     * 구간마다 누산기 비우기와 재집계를 한 잠금 안에서 하므로, 그 사이 커밋된 반응의 증감이 누산기에 들어와
+     * 재집계 값 위에 한 번 더 더해지지 않는다 (그동안 새 증감 기록은 잠깐 기다린다).
+     * 진행 중인 반응이 있는 구간은 몇 번 다시 시도하고, 끝내 비지 않으면 다음 보정으로 넘긴다.
+     * 보정된 카운터로 회원 평판도 다시 계산하고(flush 와 겹치지 않게), 인기 랭킹이 다시 적재하도록 이벤트를 낸다.
+     */
+    @Scheduled(cron = "${post.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(post_id) AS lo, MAX(post_id) AS hi FROM post");
+        if (bounds.get("lo") == null) return;
+        long lo = ((Number) bounds.get("lo")).longValue();
+        long hi = ((Number) bounds.get("hi")).longValue();
+
+        int repaired = 0, skipped = 0;
+        for (long from = lo; from <= hi; from += reconcileRangeSize) {
+            int rows = reconcileRange(from, Math.min(hi, from + reconcileRangeSize - 1));
+            if (rows < 0) skipped++;
+            else repaired += rows;
+        }
+        if (repaired > 0 || skipped > 0) {
+            log.info("게시글 카운터 보정 완료. repaired={}, skippedRanges={}", repaired, skipped);
+        }
+
+        flushLock.lock();
+        try {
+            memberReputationService.recomputeAll();
+        } finally {
+            flushLock.unlock();
+        }
+        eventPublisher.publishEvent(new PostCountersReconciledEvent());
+    }
+
+    /** @return 보정한 행 수, 진행 중인 반응이나 flush 실패로 이번에 보정하지 못했으면 -1 */
+    private int reconcileRange(long from, long to) {
+        for (int attempt = 0; attempt < RANGE_ATTEMPTS; attempt++) {
+            if (attempt > 0 && !pause()) return -1;
+            reconcileLock.writeLock().lock();
+            try {
+                // 남은 증감을 못 비웠으면 재집계 위에 다시 더해지므로 이번 보정은 건너뛴다
+                if (!flushPending()) return -1;
+                if (busy(from, to)) continue;
+                Integer rows = transactionTemplate.execute(status -> {
+                    int updated = jdbcTemplate.update(RECONCILE_SQL, from, to, from, to, from, to, from, to);
+                    // 재집계 도중 시작된 반응은 이미 센 행인지 알 수 없으므로 되돌리고 다시 시도한다
+                    if (busy(from, to)) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return updated;
+                });
+                if (rows != null) return rows;
+            } finally {
+                reconcileLock.writeLock().unlock();
+            }
+        }
+        return -1;
+    }
+
+    private boolean busy(long from, long to) {
+        return inFlight.keySet().stream().anyMatch(postId -> postId >= from && postId <= to);
+    }
+
+    private void finished(Long postId) {
+        inFlight.computeIfPresent(postId, (id, n) -> n > 1 ? n - 1 : null);
+    }
+
+    private static boolean pause() {
+        try {
+            Thread.sleep(RANGE_RETRY_DELAY_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** 기동 직후 1회 보정. MySQL 전용 UPDATE JOIN 이라 H2(벤치마크) 등에서는 post.counter.reconcile-on-startup=false 로 끈다. */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
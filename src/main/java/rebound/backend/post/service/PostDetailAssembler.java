@@ -0,0 +1,164 @@
+package rebound.backend.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rebound.backend.member.domain.Member;
+import rebound.backend.member.domain.MemberReputation;
+import rebound.backend.member.repository.MemberRepository;
+import rebound.backend.post.dto.PostResponse;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
+import rebound.backend.post.repository.PostRepository;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 응답 조립.
+ * 서로 기다릴 필요가 없는 조회를 전용 제한 풀에서 동시에 실행한다.
+ *   1. 게시글 + 본문/이미지/태그
+ *   2. 카운터 + 내 반응 여부 + 작성자 랭크 배지 (한 방 쿼리, findDetailCounters)
+ *   3. 작성자 (1 이 끝나면 바로, 대부분 2차 캐시 적중)
+ * 각 작업은 자기 읽기 전용 트랜잭션 안에서 필요한 연관을 다 읽어 두고 돌려주므로, 호출 스레드는 커넥션을 잡은 채 기다리지 않는다.
+ * 게시글/작성자 조회가 실패하면 나머지를 기다리지 않고 바로 실패하며, 전체는 timeout-ms 안에 끝나야 한다.
+ * 카운터 쿼리만 counter-timeout-ms 를 넘기거나 실패하면 게시글 행의 카운터로 대신하고 내 반응/배지는 false 로 응답한다.
+ * 풀과 대기열이 가득 차면 호출 스레드에서 순서대로 실행한다.
+ */
+@Slf4j
+@Component
+public class PostDetailAssembler {
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PostCounterService postCounterService;
+    private final PendingInteractions pendingInteractions;
+    private final TransactionTemplate readOnly;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long counterTimeoutMillis;
+
+    PostDetailAssembler(PostRepository postRepository,
+                        MemberRepository memberRepository,
+                        PostCounterService postCounterService,
+                        PendingInteractions pendingInteractions,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${post.detail.concurrency:16}") int concurrency,
+                        @Value("${post.detail.queue-capacity:64}") int queueCapacity,
+                        @Value("${post.detail.timeout-ms:2000}") long timeoutMillis,
+                        @Value("${post.detail.counter-timeout-ms:300}") long counterTimeoutMillis) {
+        this.postRepository = postRepository;
+        this.memberRepository = memberRepository;
+        this.postCounterService = postCounterService;
+        this.pendingInteractions = pendingInteractions;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.timeoutMillis = timeoutMillis;
+        this.counterTimeoutMillis = counterTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "post-detail");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public PostResponse assemble(Long postId, Long viewerId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        CompletableFuture<Post> postFuture = supply(() -> loadPost(postId));
+        CompletableFuture<PostRepository.DetailCounterRow> countersFuture = supply(() -> postRepository
+                .findDetailCounters(postId, viewerId, MemberReputation.RANK_BADGE_THRESHOLD)
+                .orElse(null));
+        CompletableFuture<Member> authorFuture = postFuture.thenApplyAsync(post -> loadAuthor(post.getMemberId()), executor);
+
+        Post post = await(postFuture, deadline, postId);
+        Member author = await(authorFuture, deadline, postId);
+
+        PostRepository.DetailCounterRow counters = awaitCounters(countersFuture, deadline, postId);
+        if (counters == null) {
+            return PostResponse.from(post, author,
+                    postCounterService.likeCount(post), postCounterService.bookmarkCount(post),
+                    pendingInteractions.stateOr(InteractionKind.POST_HEART, postId, viewerId, false),
+                    pendingInteractions.stateOr(InteractionKind.POST_BOOKMARK, postId, viewerId, false),
+                    false).asDegraded();
+        }
+        return PostResponse.from(post, author,
+                counters.getLikeCount() + postCounterService.pendingLikes(postId),
+                counters.getBookmarkCount() + postCounterService.pendingBookmarks(postId),
+                pendingInteractions.stateOr(InteractionKind.POST_HEART, postId, viewerId,
+                        Boolean.TRUE.equals(counters.getLiked())),
+                pendingInteractions.stateOr(InteractionKind.POST_BOOKMARK, postId, viewerId,
+                        Boolean.TRUE.equals(counters.getBookmarked())),
+                author != null && Boolean.TRUE.equals(counters.getAuthorBadge()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private Post loadPost(Long postId) {
+        return readOnly.execute(status -> {
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 게시글을 찾을 수 없습니다: " + postId));
+            Hibernate.initialize(post.getPostContent());
+            Hibernate.initialize(post.getPostImages());
+            Hibernate.initialize(post.getTags());
+            return post;
+        });
+    }
+
+    private Member loadAuthor(Long memberId) {
+        return readOnly.execute(status -> memberRepository.findById(memberId)
+                .map(member -> {
+                    Hibernate.initialize(member.getMemberImage());
+                    return member;
+                })
+                .orElse(null));
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /** 필수 조회: 실패하면 원래 예외 그대로, 시간이 다 되면 QueryTimeoutException */
+    private static <T> T await(CompletableFuture<T> future, long deadline, Long postId) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new QueryTimeoutException("게시글 상세 조회 시간이 초과되었습니다. postId=" + postId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 상세 조회가 중단되었습니다.", e);
+        }
+    }
+
+    /** 선택 조회: 늦거나 실패하면 null (호출자가 게시글 행 값으로 대신한다) */
+    private PostRepository.DetailCounterRow awaitCounters(CompletableFuture<PostRepository.DetailCounterRow> future,
+                                                          long deadline, Long postId) {
+        long remaining = Math.min(TimeUnit.MILLISECONDS.toNanos(counterTimeoutMillis), deadline - System.nanoTime());
+        try {
+            return future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            log.warn("상세 카운터 조회 실패, 게시글 행 값으로 응답. postId={}", postId, e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("상세 카운터 조회 지연, 게시글 행 값으로 응답. postId={}", postId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package rebound.backend.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import rebound.backend.member.domain.Member;
+import rebound.backend.member.repository.MemberRepository;
+import rebound.backend.member.service.MemberReputationService;
+import rebound.backend.post.dto.PostResponse;
+import rebound.backend.post.dto.PostSummary;
+import rebound.backend.post.entity.Post;
+import rebound.backend.post.entity.ReactionType;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
+import rebound.backend.post.repository.PostBookmarkRepository;
+import rebound.backend.post.repository.PostReactionRepository;
+import rebound.backend.post.repository.PostRepository;
+import rebound.backend.s3.dto.ImageVariantUrls;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 id 한 페이지를 목록 카드(PostSummary)로 조립하는 배치 조회 단계.
+ * 엔티티 대신 카드에 필요한 컬럼만 프로젝션으로 읽으며(본문 @Lob 제외, excerpt 만),
+ * 페이지 크기와 관계없이 카드/이미지/태그/작성자/내 반응/배지를 고정된 횟수의 IN 쿼리로 가져온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostResponseHydrator {
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PostReactionRepository postReactionRepository;
+    private final PostBookmarkRepository postBookmarkRepository;
+    private final PostCounterService postCounterService;
+    private final PendingInteractions pendingInteractions;
+    private final MemberReputationService memberReputationService;
+
+    public Page<PostSummary> hydrate(Page<Long> postIds, Long viewerId) {
+        if (postIds.isEmpty()) return Page.empty(postIds.getPageable());
+        return new PageImpl<>(hydrate(postIds.getContent(), viewerId), postIds.getPageable(), postIds.getTotalElements());
+    }
+
+    /**
+     * 입력 id 순서(정렬/랭킹/반응 시각순)를 그대로 유지한 채 카드 목록을 만든다.
+     * 삭제된 글과 다른 사람의 비공개 글은 건너뛴다.
+     */
+    public List<PostSummary> hydrate(List<Long> postIds, Long viewerId) {
+        if (postIds.isEmpty()) return Collections.emptyList();
+
+        // 1. 카드 컬럼 + excerpt
+        Map<Long, PostRepository.SummaryRow> rowsById = postRepository.findSummaryRows(postIds).stream()
+                .collect(Collectors.toMap(PostRepository.SummaryRow::getPostId, Function.identity()));
+        List<PostRepository.SummaryRow> rows = postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .filter(r -> r.getStatus() == Post.Status.PUBLIC || r.getMemberId().equals(viewerId))
+                .toList();
+        if (rows.isEmpty()) return Collections.emptyList();
+
+        List<Long> ids = rows.stream().map(PostRepository.SummaryRow::getPostId).toList();
+        List<Long> authorIds = rows.stream().map(PostRepository.SummaryRow::getMemberId).distinct().toList();
+
+        // 2. 이미지 (이미지 순서대로, 첫 번째가 썸네일)
+        Map<Long, List<PostRepository.PostImageRow>> images = new HashMap<>();
+        for (PostRepository.PostImageRow row : postRepository.findImageRows(ids)) {
+            images.computeIfAbsent(row.getPostId(), id -> new ArrayList<>()).add(row);
+        }
+
+        // 3. 태그명
+        Map<Long, List<String>> tags = new HashMap<>();
+        for (PostRepository.PostTagNameRow row : postRepository.findTagNameRows(ids)) {
+            tags.computeIfAbsent(row.getPostId(), id -> new ArrayList<>()).add(row.getName());
+        }
+
+        // 4. 작성자 + 프로필 이미지
+        Map<Long, Member> authors = memberRepository.findAllWithImageByIdIn(authorIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        // 좋아요/북마크/댓글 수는 post 의 비정규화 컬럼 + 미반영 증감값을 사용하므로 별도 쿼리 없음
+
+        // 5. 6. 로그인 사용자의 좋아요/북마크 여부
+        Set<Long> likedIds = Collections.emptySet();
+        Set<Long> bookmarkedIds = Collections.emptySet();
+        if (viewerId != null) {
+            likedIds = new HashSet<>(postReactionRepository.findPostIdsLikedBy(ReactionType.HEART, viewerId, ids));
+            bookmarkedIds = postBookmarkRepository.findBookmarkedPostIdsByMemberIdAndPostIds(viewerId, ids);
+            if (pendingInteractions.hasPending()) {
+                // 저널에 기록만 되고 아직 DB 에 반영되지 않은 본인 반응
+                likedIds = pendingInteractions.overlayIds(InteractionKind.POST_HEART, viewerId, ids, likedIds);
+                bookmarkedIds = pendingInteractions.overlayIds(InteractionKind.POST_BOOKMARK, viewerId, ids, bookmarkedIds);
+            }
+        }
+
+        // 7. 랭크 배지 보유 작성자 (member_reputation 에서 IN 쿼리 한 번)
+        Set<Long> badgeHolders = memberReputationService.rankBadgeHolders(authorIds);
+
+        List<PostSummary> result = new ArrayList<>(rows.size());
+        for (PostRepository.SummaryRow row : rows) {
+            Long postId = row.getPostId();
+            boolean anonymous = Boolean.TRUE.equals(row.getIsAnonymous());
+            List<PostRepository.PostImageRow> postImages = images.getOrDefault(postId, List.of());
+            result.add(PostSummary.builder()
+                    .postId(postId)
+                    .title(row.getTitle())
+                    .excerpt(PostSummary.excerptOf(row.getExcerptHead()))
+                    .createdAt(row.getCreatedAt())
+                    .tags(tags.getOrDefault(postId, List.of()))
+                    .thumbnail(postImages.isEmpty() ? null : ImageVariantUrls.of(postImages.get(0).getImageUrl(),
+                            Boolean.TRUE.equals(postImages.get(0).getVariantsReady())))
+                    .imageCount(postImages.size())
+                    .category(PostResponse.CategoryDetail.of(row.getMainCategory(), row.getSubCategory()))
+                    .author(PostResponse.AuthorDetail.of(authors.get(row.getMemberId()), anonymous,
+                            badgeHolders.contains(row.getMemberId())))
+                    .status(row.getStatus())
+                    .likeCount(row.getLikeCount() + postCounterService.pendingLikes(postId))
+                    .bookmarkCount(row.getBookmarkCount() + postCounterService.pendingBookmarks(postId))
+                    .commentCount(row.getCommentCount() + postCounterService.pendingComments(postId))
+                    .liked(likedIds.contains(postId))
+                    .bookmarked(bookmarkedIds.contains(postId))
+                    .isAnonymous(anonymous)
+                    .build());
+        }
+        return result;
+    }
+}
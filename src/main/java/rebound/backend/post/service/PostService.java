@@ -1,32 +1,56 @@
 package rebound.backend.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import rebound.backend.category.entity.MainCategory;
 import rebound.backend.category.entity.SubCategory;
 import rebound.backend.member.domain.Member;
 import rebound.backend.member.repository.MemberRepository;
+import rebound.backend.member.service.MemberReputationService;
 import rebound.backend.post.dto.PostCreateRequest;
+import rebound.backend.post.dto.PostCursor;
+import rebound.backend.post.dto.PostImageDto;
 import rebound.backend.post.dto.PostResponse;
+import rebound.backend.post.dto.PostSummary;
 import rebound.backend.post.dto.PostUpdateRequest;
+import rebound.backend.post.dto.SliceResponse;
 import rebound.backend.post.entity.Post;
 import rebound.backend.post.entity.PostContent;
 import rebound.backend.post.entity.PostImage;
 import rebound.backend.post.entity.ReactionType;
+import rebound.backend.post.event.PostLifecycleEvent;
+import rebound.backend.s3.event.ImagesAttachedEvent;
+import rebound.backend.post.feed.HomeFeedService;
+import rebound.backend.post.journal.InteractionKind;
+import rebound.backend.post.journal.PendingInteractions;
+import rebound.backend.post.ranking.HotScoreRanking;
+import rebound.backend.post.ranking.PopularityRankingService;
+import rebound.backend.post.ranking.PopularityWindow;
+import rebound.backend.post.recommend.RecommendationScorer;
+import rebound.backend.post.recommend.RecommendationService;
 import rebound.backend.post.repository.PostBookmarkRepository;
 import rebound.backend.post.repository.PostReactionRepository;
 import rebound.backend.post.repository.PostRepository;
 import rebound.backend.post.repository.PostSpecification;
+import rebound.backend.post.search.PostSearchIndex;
+import rebound.backend.post.search.PostSearchService;
 import rebound.backend.tag.entity.Tag;
-import rebound.backend.tag.repository.TagRepository;
+import rebound.backend.tag.service.TagService;
+import rebound.backend.utils.PreconditionFailedException;
+import rebound.backend.utils.StrongEtag;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,17 +59,41 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final int MAX_RECOMMEND_RANK = 1000; // 오프셋 기반 추천 목록에서 계산할 최대 순위
+
     private final PostRepository postRepository;
-    private final TagRepository tagRepository;
+    private final TagService tagService;
     private final MemberRepository memberRepository;
     private final PostReactionRepository postReactionRepository;
     private final PostBookmarkRepository postBookmarkRepository;
+    private final PostResponseHydrator postResponseHydrator;
+    private final PostDetailAssembler postDetailAssembler;
+    private final PostCounterService postCounterService;
+    private final PendingInteractions pendingInteractions;
+    private final PopularityRankingService popularityRankingService;
+    private final PostSearchService postSearchService;
+    private final MemberReputationService memberReputationService;
+    private final RecommendationService recommendationService;
+    private final HomeFeedService homeFeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 추천 실패담 목록 조회 (관심사 기반)
+     * 추천 실패담 목록 조회 (관심사 + 반응 기록 기반 점수순)
+     * 추천 후보 풀이 준비되기 전에는 관심 대분류 최신순으로 폴백
      */
-    public Page<PostResponse> getRecommendedPosts(Pageable pageable) {
+    public Page<PostSummary> getRecommendedPosts(Pageable pageable) {
         Long currentMemberId = Long.valueOf(SecurityContextHolder.getContext().getAuthentication().getName());
+        if (recommendationService.ready()) {
+            int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), MAX_RECOMMEND_RANK);
+            RecommendationScorer.Ranking ranking = recommendationService.recommend(currentMemberId, null, null, null, limit).ranking();
+            List<RecommendationScorer.Scored> items = ranking.items();
+            int from = (int) Math.min(pageable.getOffset(), items.size());
+            List<Long> ids = items.subList(from, items.size()).stream().map(RecommendationScorer.Scored::postId).toList();
+            List<PostSummary> content = postResponseHydrator.hydrate(ids, currentMemberId);
+            return new PageImpl<>(content, pageable, Math.min(ranking.eligible(), MAX_RECOMMEND_RANK));
+        }
+
         Member currentMember = memberRepository.findById(currentMemberId)
                 .orElseThrow(() -> new IllegalArgumentException("현재 로그인된 사용자 정보를 찾을 수 없습니다."));
 
@@ -60,14 +108,13 @@ public class PostService {
         Specification<Post> spec = PostSpecification.isPublic();
         spec = spec.and(PostSpecification.inMainCategories(interests));
 
-        Page<Post> posts = postRepository.findAll(spec, pageable);
-        return mapToPostResponsePage(posts);
+        return mapToSummaryPage(postRepository.findIds(spec, pageable));
     }
 
     /**
      * 카테고리별 게시글 목록 조회
      */
-    public Page<PostResponse> getPosts(MainCategory mainCategory, SubCategory subCategory, Pageable pageable) {
+    public Page<PostSummary> getPosts(MainCategory mainCategory, SubCategory subCategory, Pageable pageable) {
         if (subCategory == null) {
             return Page.empty(pageable);
         }
@@ -79,43 +126,51 @@ public class PostService {
             spec = spec.and(PostSpecification.hasMainCategory(mainCategory));
         }
 
-        Page<Post> posts = postRepository.findAll(spec, pageable);
-        return mapToPostResponsePage(posts);
+        return mapToSummaryPage(postRepository.findIds(spec, pageable));
     }
 
     /**
      * 최신 게시글 목록 조회
      */
-    public Page<PostResponse> getRecentPosts(Pageable pageable) {
+    public Page<PostSummary> getRecentPosts(Pageable pageable) {
         Specification<Post> spec = PostSpecification.isPublic();
-        Page<Post> posts = postRepository.findAll(spec, pageable);
-        return mapToPostResponsePage(posts);
+        return mapToSummaryPage(postRepository.findIds(spec, pageable));
     }
 
     /**
-     * 게시글 상세 조회
+     * 게시글 상세 조회 (독립 조회를 동시에 실행, PostDetailAssembler)
+     * 조회는 작업마다 자기 트랜잭션에서 하므로 여기서는 트랜잭션(커넥션)을 열지 않는다
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPostDetails(Long postId) {
-        Post post = findPostById(postId);
-        Member author = memberRepository.findById(post.getMemberId())
-                .orElse(null);
-
-        long likeCount = postReactionRepository.countByPostIdAndType(postId, ReactionType.HEART);
-        long bookmarkCount = postBookmarkRepository.countByPostId(postId);
+        return postDetailAssembler.assemble(postId, currentMemberIdOrNull());
+    }
 
-        // 작성자의 총 좋아요수 조회
-        long totalLikes = postReactionRepository.countByMemberIdAndType(author.getId(), ReactionType.HEART);
-        boolean hasRankBadge = (totalLikes >= 10); // 10개 이상일 경우 true
+    /**
+     * 게시글 상세 ETag. 본문을 만들지 않고 수정 시각 + 카운터 + 작성자 배지/프로필 버전 + 내 반응 여부로 계산한다.
+     * 이미지 변형본 완료(variants_ready)는 글 버전을 올리지 않으므로, 완료된 이미지 수도 함께 넣어 변형본 URL 로 바뀐 응답을 구분한다.
+     * 게시글이 없으면 null (상세 조회가 그대로 예외를 낸다)
+     */
+    @Transactional(readOnly = true)
+    public String detailEtag(Long postId) {
+        PostRepository.DetailStampRow stamp = postRepository.findDetailStamp(postId).orElse(null);
+        if (stamp == null) return null;
 
         Long me = currentMemberIdOrNull();
         boolean liked = false, bookmarked = false;
         if (me != null) {
-            liked = postReactionRepository.existsByPostIdAndMemberIdAndType(postId, me, ReactionType.HEART);
-            bookmarked = postBookmarkRepository.existsByPostIdAndMemberId(postId, me);
+            liked = pendingInteractions.stateOr(InteractionKind.POST_HEART, postId, me,
+                    postReactionRepository.existsByPostIdAndMemberIdAndType(postId, me, ReactionType.HEART));
+            bookmarked = pendingInteractions.stateOr(InteractionKind.POST_BOOKMARK, postId, me,
+                    postBookmarkRepository.existsByPostIdAndMemberId(postId, me));
         }
-
-        return PostResponse.from(post, author, likeCount, bookmarkCount, liked, bookmarked, hasRankBadge);
+        return StrongEtag.versioned(stamp.getVersion(), postId,
+                stamp.getLikeCount() + postCounterService.pendingLikes(postId),
+                stamp.getBookmarkCount() + postCounterService.pendingBookmarks(postId),
+                memberReputationService.hasRankBadge(stamp.getMemberId()),
+                stamp.getAuthorProfileVersion(),
+                stamp.getReadyImageCount(),
+                me, liked, bookmarked);
     }
 
     /**
@@ -157,10 +212,14 @@ public class PostService {
         }
 
         if (request.tags() != null && !request.tags().isEmpty()) {
-            request.tags().forEach(tagName -> post.addTag(tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()))));
+            tagService.applyTags(post, request.tags());
         }
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostLifecycleEvent(savedPost.getPostId(), savedPost.getMemberId(), PostLifecycleEvent.Type.CREATED));
+        if (!savedPost.getPostImages().isEmpty()) {
+            eventPublisher.publishEvent(new ImagesAttachedEvent(
+                    savedPost.getPostImages().stream().map(PostImage::getImageUrl).toList()));
+        }
 
         return PostResponse.from(savedPost, currentMember, 0L, 0L, false, false, false);
     }
@@ -168,90 +227,315 @@ public class PostService {
     /**
      * 내가 쓴 글 목록 조회
      */
-    public Page<PostResponse> getMyPosts(Pageable pageable) {
+    public Page<PostSummary> getMyPosts(Pageable pageable) {
         Long currentMemberId = Long.valueOf(SecurityContextHolder.getContext().getAuthentication().getName());
         Specification<Post> spec = PostSpecification.hasMemberId(currentMemberId);
-        Page<Post> posts = postRepository.findAll(spec, pageable);
-        return mapToPostResponsePage(posts);
+        return mapToSummaryPage(postRepository.findIds(spec, pageable));
     }
 
     /**
-     * 게시글 수정 (JSON 기반)
+     * 게시글 수정. 요청과 다른 값만 반영해 바뀐 것이 없으면 쓰기 쿼리와 수정 이벤트가 나가지 않는다.
+     * expectedVersion 이 있으면 (If-Match) 현재 버전과 다를 때 412 로 거절한다.
+     * 그 사이 다른 요청이 먼저 커밋한 경우는 커밋 시 @Version 검사에서 409 가 된다.
      */
     @Transactional
-    public PostResponse updatePost(Long postId, PostUpdateRequest request) {
+    public PostResponse updatePost(Long postId, PostUpdateRequest request, Long expectedVersion) {
         Post post = findPostById(postId);
         authorizePostAuthor(post);
-
-        post.getPostImages().clear();
-        if (request.postImages() != null && !request.postImages().isEmpty()) {
-            for (int i = 0; i < request.postImages().size(); i++) {
-                String imageUrl = request.postImages().get(i).imageUrl();
-                PostImage postImage = PostImage.builder()
-                        .imageUrl(imageUrl)
-                        .imageOrder(i)
-                        .build();
-                post.addImage(postImage);
-            }
+        if (expectedVersion != null && !expectedVersion.equals(post.getVersion())) {
+            throw new PreconditionFailedException("게시글이 다른 곳에서 수정되었습니다. 다시 불러온 뒤 수정해 주세요.");
         }
 
-        post.setMainCategory(request.mainCategory());
-        post.setSubCategory(request.subCategory());
-        post.setTitle(request.title());
-        post.setIsAnonymous(request.isAnonymous());
-        PostContent postContent = post.getPostContent();
-        postContent.setSituationContent(request.situationContent());
-        postContent.setFailureContent(request.failureContent());
-        postContent.setLearningContent(request.learningContent());
-        postContent.setNextStepContent(request.nextStepContent());
-
-        if (request.tags() != null) {
-            post.getTags().clear();
-            request.tags().forEach(tagName -> post.addTag(tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()))));
-        }
-
-        if (request.status() != null) {
-            post.setStatus(request.status());
+        boolean wasPublic = post.getStatus() == Post.Status.PUBLIC;
+        if (applyUpdate(post, request)) {
+            PostLifecycleEvent.Type type = !wasPublic && post.getStatus() == Post.Status.PUBLIC
+                    ? PostLifecycleEvent.Type.PUBLISHED : PostLifecycleEvent.Type.UPDATED;
+            eventPublisher.publishEvent(new PostLifecycleEvent(postId, post.getMemberId(), type));
         }
 
         Member author = memberRepository.findById(post.getMemberId())
                 .orElseThrow(() -> new IllegalArgumentException("작성자 정보를 찾을 수 없습니다."));
 
-        long likeCount = postReactionRepository.countByPostIdAndType(postId, ReactionType.HEART);
-        long bookmarkCount = postBookmarkRepository.countByPostId(postId);
+        long likeCount = postCounterService.likeCount(post);
+        long bookmarkCount = postCounterService.bookmarkCount(post);
         Long me = currentMemberIdOrNull();
         boolean liked = false, bookmarked = false;
         if (me != null) {
-            liked = postReactionRepository.existsByPostIdAndMemberIdAndType(postId, me, ReactionType.HEART);
-            bookmarked = postBookmarkRepository.existsByPostIdAndMemberId(postId, me);
+            liked = pendingInteractions.stateOr(InteractionKind.POST_HEART, postId, me,
+                    postReactionRepository.existsByPostIdAndMemberIdAndType(postId, me, ReactionType.HEART));
+            bookmarked = pendingInteractions.stateOr(InteractionKind.POST_BOOKMARK, postId, me,
+                    postBookmarkRepository.existsByPostIdAndMemberId(postId, me));
         }
-        long totalLikes =
-                postReactionRepository.countByMemberIdAndType(author.getId(), ReactionType.HEART);
-        boolean hasRankBadge = (totalLikes >= 10);
+        boolean hasRankBadge = memberReputationService.hasRankBadge(author.getId());
         return PostResponse.from(post, author, likeCount, bookmarkCount, liked, bookmarked, hasRankBadge);
     }
 
+    /** 요청과 다른 필드/이미지/태그만 엔티티에 반영한다. @return 바뀐 것이 있으면 true */
+    boolean applyUpdate(Post post, PostUpdateRequest request) {
+        boolean changed = false;
+        if (post.getMainCategory() != request.mainCategory()) {
+            post.setMainCategory(request.mainCategory());
+            changed = true;
+        }
+        if (post.getSubCategory() != request.subCategory()) {
+            post.setSubCategory(request.subCategory());
+            changed = true;
+        }
+        if (!Objects.equals(post.getTitle(), request.title())) {
+            post.setTitle(request.title());
+            changed = true;
+        }
+        if (request.isAnonymous() != null && !request.isAnonymous().equals(post.getIsAnonymous())) {
+            post.setIsAnonymous(request.isAnonymous());
+            changed = true;
+        }
+        if (request.status() != null && post.getStatus() != request.status()) {
+            post.setStatus(request.status());
+            changed = true;
+        }
+
+        // 본문/이미지는 post 행이 아니므로 바뀌면 touch() 로 수정 시각과 버전을 올린다
+        boolean childrenChanged = applyContent(post.getPostContent(), request);
+        List<String> imageUrls = request.postImages() == null ? List.of()
+                : request.postImages().stream().map(PostImageDto::imageUrl).toList();
+        if (post.syncImages(imageUrls)) {
+            childrenChanged = true;
+            eventPublisher.publishEvent(new ImagesAttachedEvent(imageUrls));
+        }
+        if (request.tags() != null) {
+            childrenChanged |= tagService.applyTags(post, request.tags());
+        }
+        if (childrenChanged) {
+            post.touch();
+        }
+        return changed || childrenChanged;
+    }
+
+    private static boolean applyContent(PostContent content, PostUpdateRequest request) {
+        boolean changed = false;
+        if (!Objects.equals(content.getSituationContent(), request.situationContent())) {
+            content.setSituationContent(request.situationContent());
+            changed = true;
+        }
+        if (!Objects.equals(content.getFailureContent(), request.failureContent())) {
+            content.setFailureContent(request.failureContent());
+            changed = true;
+        }
+        if (!Objects.equals(content.getLearningContent(), request.learningContent())) {
+            content.setLearningContent(request.learningContent());
+            changed = true;
+        }
+        if (!Objects.equals(content.getNextStepContent(), request.nextStepContent())) {
+            content.setNextStepContent(request.nextStepContent());
+            changed = true;
+        }
+        return changed;
+    }
+
     /**
      * 게시글 검색 (키워드 기반, 페이징 포함)
+     * 색인이 준비되어 있으면 BM25 관련도순, 아니면 DB LIKE 조회로 폴백
      */
-    public Page<PostResponse> searchPostsByKeyword(String keyword, Pageable pageable) {
+    public Page<PostSummary> searchPostsByKeyword(String keyword, Pageable pageable) {
+        if (keyword != null && !keyword.isBlank() && postSearchService.ready()) {
+            PostSearchIndex.SearchHits hits =
+                    postSearchService.search(keyword, pageable.getOffset(), pageable.getPageSize());
+            List<PostSummary> posts = postResponseHydrator.hydrate(hits.postIds(), currentMemberIdOrNull());
+            return new PageImpl<>(posts, pageable, hits.total());
+        }
+
         Specification<Post> spec = PostSpecification.isPublic();
 
         if (keyword != null && !keyword.isBlank()) {
             spec = spec.and(PostSpecification.searchByKeyword(keyword));
         }
 
-        Page<Post> posts = postRepository.findAll(spec, pageable);
-        return mapToPostResponsePage(posts);
+        return mapToSummaryPage(postRepository.findIds(spec, pageable));
+    }
+
+    /**
+     * 인기순 (구간별 메모리 랭킹, 적재 전에는 DB 정렬로 폴백)
+     */
+    public Page<PostSummary> getPopularPosts(PopularityWindow window, Pageable pageable) {
+        if (!popularityRankingService.ready()) {
+            LocalDateTime since = window.getSpan() == null ? null : LocalDateTime.now().minus(window.getSpan());
+            return mapToSummaryPage(postRepository.findIdsOrderByPopularity(since, pageable));
+        }
+
+        List<Long> ids = popularityRankingService.page(window, pageable.getOffset(), pageable.getPageSize());
+        long total = popularityRankingService.total(window);
+        return new PageImpl<>(postResponseHydrator.hydrate(ids, currentMemberIdOrNull()), pageable, total);
+    }
+
+    /**
+     * 최신순 (커서 기반, COUNT 쿼리 없음)
+     */
+    public SliceResponse<PostSummary> getRecentPostsByCursor(String cursor, int size) {
+        return timeCursorFeed(PostSpecification.isPublic(), cursor, size);
+    }
+
+    /**
+     * 추천 실패담 (커서 기반, 최신순)
+     */
+    public SliceResponse<PostSummary> getRecommendedPostsByCursor(String cursor, int size) {
+        Long currentMemberId = Long.valueOf(SecurityContextHolder.getContext().getAuthentication().getName());
+        PostCursor.Type cursorType = PostCursor.typeOf(cursor);
+        if (recommendationService.ready() && cursorType != PostCursor.Type.TIME) {
+            // 점수순 (score, postId) 커서. 커서의 세대가 지금 풀/선호도 세대와 다르면 첫 페이지부터
+            int limit = clampSize(size);
+            PostCursor after = PostCursor.decode(cursor, PostCursor.Type.SCORE);
+            RecommendationService.Recommendation recommendation = recommendationService.recommend(currentMemberId,
+                    after == null ? null : after.scope(), after == null ? null : after.score(),
+                    after == null ? null : after.postId(), limit + 1);
+            CursorPage<RecommendationScorer.Scored> page = CursorPage.of(recommendation.ranking().items(), limit);
+            List<PostSummary> posts = postResponseHydrator.hydrate(
+                    page.items().stream().map(RecommendationScorer.Scored::postId).toList(), currentMemberId);
+            RecommendationScorer.Scored last = page.last();
+            return page.toResponse(posts, limit, last == null ? null
+                    : PostCursor.ofScore(last.score(), last.postId(), recommendation.generation()));
+        }
+        if (cursorType == PostCursor.Type.SCORE) {
+            cursor = null; // 추천 풀이 아직 없으면 폴백 목록의 처음부터
+        }
+        Member currentMember = memberRepository.findById(currentMemberId)
+                .orElseThrow(() -> new IllegalArgumentException("현재 로그인된 사용자 정보를 찾을 수 없습니다."));
+
+        List<MainCategory> interests = currentMember.getInterests().stream()
+                .map(interest -> interest.getMainCategory())
+                .collect(Collectors.toList());
+
+        if (interests.isEmpty()) {
+            return SliceResponse.ofCursor(Collections.emptyList(), false, size, null);
+        }
+
+        Specification<Post> spec = PostSpecification.isPublic()
+                .and(PostSpecification.inMainCategories(interests));
+        return timeCursorFeed(spec, cursor, size);
+    }
+
+    /**
+     * 인기순 (커서 기반). 메모리 랭킹은 감쇠 점수 (score, postId), 적재 전 폴백은 구간 안의 popularity_score 컬럼으로 seek.
+     * 커서에는 모드/구간/랭킹 세대를 넣어 두고, 지금 기준과 다르면 첫 페이지부터 다시 읽는다
+     * (폴백 커서의 원점수를 감쇠 점수로 쓰거나 다른 구간 커서로 이어 읽지 않도록).
+     */
+    public SliceResponse<PostSummary> getPopularPostsByCursor(PopularityWindow window, String cursor, int size) {
+        int limit = clampSize(size);
+
+        if (!popularityRankingService.ready()) {
+            String scope = "db-" + window.name();
+            PostCursor after = PostCursor.decodeScore(cursor, scope);
+            LocalDateTime since = window.getSpan() == null ? null : LocalDateTime.now().minus(window.getSpan());
+            Specification<Post> spec = PostSpecification.isPublic().and(PostSpecification.createdSince(since));
+            if (after != null) {
+                spec = spec.and(PostSpecification.popularityBefore((long) after.score(), after.postId()));
+            }
+            Sort sort = Sort.by(Sort.Order.desc("popularityScore"), Sort.Order.desc("postId"));
+            CursorPage<Long> page = CursorPage.of(postRepository.findIds(spec, sort, limit + 1), limit);
+            // 커서에 넣을 마지막 글의 점수만 따로 읽는다
+            PostCursor next = page.last() == null ? null : postRepository.findRankingSeed(page.last())
+                    .map(seed -> PostCursor.ofScore(seed.getPopularityScore(), seed.getPostId(), scope))
+                    .orElse(null);
+            return page.toResponse(postResponseHydrator.hydrate(page.items(), currentMemberIdOrNull()), limit, next);
+        }
+
+        String scope = "hot-" + window.name() + "-" + popularityRankingService.generation(window);
+        PostCursor after = PostCursor.decodeScore(cursor, scope);
+        CursorPage<HotScoreRanking.Entry> page = CursorPage.of(popularityRankingService.after(
+                window, after == null ? 0.0 : after.score(), after == null ? null : after.postId(), limit + 1), limit);
+        List<PostSummary> posts = postResponseHydrator.hydrate(
+                page.items().stream().map(HotScoreRanking.Entry::postId).toList(), currentMemberIdOrNull());
+        HotScoreRanking.Entry last = page.last();
+        return page.toResponse(posts, limit, last == null ? null : PostCursor.ofScore(last.score(), last.postId(), scope));
+    }
+
+    /**
+     * 태그별 게시글 (커서 기반, 최신 글 순). post_tag 의 (tag_id, post_id) 인덱스에서 postId 만 seek 한 뒤 하이드레이션
+     */
+    public SliceResponse<PostSummary> getPostsByTagCursor(String tagName, String cursor, int size) {
+        int limit = clampSize(size);
+        PostCursor after = PostCursor.decode(cursor, PostCursor.Type.ID);
+        Optional<Tag> tag = tagService.findByName(tagName == null ? "" : tagName.trim());
+        if (tag.isEmpty()) {
+            return SliceResponse.ofCursor(Collections.emptyList(), false, limit, null);
+        }
+
+        long before = after == null ? Long.MAX_VALUE : after.postId();
+        CursorPage<Long> page = CursorPage.of(postRepository.findPostIdsByTag(tag.get().getTagId(), before, limit + 1), limit);
+        return page.toResponse(postResponseHydrator.hydrate(page.items(), currentMemberIdOrNull()), limit,
+                page.last() == null ? null : PostCursor.ofId(page.last()));
     }
 
     /**
-     * 인기순
+     * 홈 피드 (커서 기반, 관심 대분류 글). fan-out 버퍼가 있으면 버퍼 조각을 읽고,
+     * 없으면(비활성화, 대형 대분류, 버퍼보다 오래된 커서) 관심 대분류 최신순 조회로 이어 읽는다. 두 경우 모두 (createdAt, postId) 커서.
      */
-    public Page<PostResponse> getPopularPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.findAllOrderByPopularity(null, pageable);
-        return mapToPostResponsePage(posts);
+    public SliceResponse<PostSummary> getHomeFeedByCursor(String cursor, int size) {
+        Long currentMemberId = currentMemberIdOrNull();
+        if (currentMemberId == null) {
+            return timeCursorFeed(PostSpecification.isPublic(), cursor, size);
+        }
+        int limit = clampSize(size);
+        // 버퍼와 DB 가 같은 (createdAt, postId) 순서라 같은 시간 커서로 이어 읽는다 (예전 postId 커서는 첫 페이지로)
+        if (PostCursor.typeOf(cursor) == PostCursor.Type.ID) cursor = null;
+        PostCursor after = PostCursor.decode(cursor, PostCursor.Type.TIME);
+        HomeFeedService.Slice slice = homeFeedService.slice(currentMemberId,
+                after == null ? null : after.createdAt(), after == null ? null : after.postId(), limit);
+        if (slice != null && !(slice.exhausted() && slice.postIds().isEmpty())) {
+            String next = slice.lastPostId() == null ? null
+                    : PostCursor.ofTime(slice.lastCreatedAt(), slice.lastPostId()).encode();
+            return SliceResponse.ofCursor(postResponseHydrator.hydrate(slice.postIds(), currentMemberId),
+                    slice.hasNext(), limit, next);
+        }
+        // 버퍼를 다 읽었거나 쓸 수 없으면 같은 커서로 DB 에서 이어 읽는다
+
+        Member currentMember = memberRepository.findById(currentMemberId)
+                .orElseThrow(() -> new IllegalArgumentException("현재 로그인된 사용자 정보를 찾을 수 없습니다."));
+        List<MainCategory> interests = currentMember.getInterests().stream()
+                .map(interest -> interest.getMainCategory())
+                .toList();
+        if (interests.isEmpty()) {
+            return SliceResponse.ofCursor(Collections.emptyList(), false, limit, null);
+        }
+        Specification<Post> spec = PostSpecification.isPublic()
+                .and(PostSpecification.inMainCategories(interests))
+                .and(PostSpecification.notWrittenBy(currentMemberId));
+        return timeCursorFeed(spec, cursor, limit);
+    }
+
+    /**
+     * (createdAt, postId) seek 조건으로 size+1 개를 읽어 다음 페이지 존재 여부를 판단한다.
+     */
+    private SliceResponse<PostSummary> timeCursorFeed(Specification<Post> spec, String cursor, int size) {
+        int limit = clampSize(size);
+        PostCursor after = PostCursor.decode(cursor, PostCursor.Type.TIME);
+        if (after != null) {
+            spec = spec.and(PostSpecification.createdBefore(after.createdAt(), after.postId()));
+        }
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("postId"));
+        CursorPage<Long> page = CursorPage.of(postRepository.findIds(spec, sort, limit + 1), limit);
+        List<PostSummary> posts = postResponseHydrator.hydrate(page.items(), currentMemberIdOrNull());
+        PostSummary last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
+        return page.toResponse(posts, limit, last == null ? null : PostCursor.ofTime(last.getCreatedAt(), last.getPostId()));
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    /** limit+1 개 읽은 결과를 한 페이지(limit 개)와 다음 페이지 존재 여부로 나눈다 */
+    private record CursorPage<T>(List<T> items, boolean hasNext) {
+        static <T> CursorPage<T> of(List<T> fetched, int limit) {
+            boolean hasNext = fetched.size() > limit;
+            return new CursorPage<>(hasNext ? fetched.subList(0, limit) : fetched, hasNext);
+        }
+
+        T last() {
+            return items.isEmpty() ? null : items.get(items.size() - 1);
+        }
+
+        SliceResponse<PostSummary> toResponse(List<PostSummary> posts, int limit, PostCursor next) {
+            return SliceResponse.ofCursor(posts, hasNext, limit, next == null ? null : next.encode());
+        }
     }
 
     @Transactional
@@ -259,6 +543,7 @@ public class PostService {
         Post post = findPostById(postId);
         authorizePostAuthor(post);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostLifecycleEvent(postId, post.getMemberId(), PostLifecycleEvent.Type.DELETED));
     }
 
     private void authorizePostAuthor(Post post) {
@@ -274,40 +559,11 @@ public class PostService {
     }
 
     /**
-     * 게시글 목록을 DTO 페이지로 변환하고 좋아요/북마크 여부 확인
-     * N+1 쿼리 문제 해결
+     * 게시글 id 페이지를 목록 카드 페이지로 변환하고 좋아요/북마크 여부 확인
+     * N+1 쿼리 문제 해결: 페이지 단위 배치 조회는 PostResponseHydrator 가 담당
      */
-    private Page<PostResponse> mapToPostResponsePage(Page<Post> posts) {
-        if (posts.isEmpty()) return Page.empty();
-
-        // 현재 로그인한 사용자 ID 가져오기
-        Long currentMemberId = currentMemberIdOrNull();
-
-        return posts.map(post -> {
-            Member author = memberRepository.findById(post.getMemberId()).orElse(null);
-            
-            // 좋아요/북마크 수 조회
-            long likeCount = postReactionRepository.countByPostIdAndType(post.getPostId(), ReactionType.HEART);
-            long bookmarkCount = postBookmarkRepository.countByPostId(post.getPostId());
-            
-            // 현재 사용자의 좋아요/북마크 여부 확인
-            boolean liked = false;
-            boolean bookmarked = false;
-            if (currentMemberId != null) {
-                liked = postReactionRepository.existsByPostIdAndMemberIdAndType(post.getPostId(), currentMemberId, ReactionType.HEART);
-                bookmarked = postBookmarkRepository.existsByPostIdAndMemberId(post.getPostId(), currentMemberId);
-            }
-            
-            // 작성자의 총 좋아요 수로 랭크 배지 확인
-            long totalLikes = 0L;
-            boolean hasRankBadge = false;
-            if (author != null) {
-                totalLikes = postReactionRepository.countByMemberIdAndType(author.getId(), ReactionType.HEART);
-                hasRankBadge = (totalLikes >= 10);
-            }
-
-            return PostResponse.from(post, author, likeCount, bookmarkCount, liked, bookmarked, hasRankBadge);
-        });
+    private Page<PostSummary> mapToSummaryPage(Page<Long> postIds) {
+        return postResponseHydrator.hydrate(postIds, currentMemberIdOrNull());
     }
 
     private Long currentMemberIdOrNull() {
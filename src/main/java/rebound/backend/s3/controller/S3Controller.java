@@ -1,14 +1,17 @@
 package rebound.backend.s3.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import rebound.backend.s3.dto.UploadResult;
 import rebound.backend.s3.service.S3Service;
 
 import java.io.IOException;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,4 +24,19 @@ public class S3Controller {
         String url = s3Service.uploadFile(file);
         return ResponseEntity.ok(url);
     }
+
+    @Operation(summary = "여러 장의 사진을 동시에 S3에 저장하고 파일별 결과 반환")
+    @PostMapping(value = "/api/v1/uploads", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<UploadResult>> uploadAll(@RequestParam("files") List<MultipartFile> files) {
+        return ResponseEntity.ok(s3Service.uploadAll(files));
+    }
+
+    @Operation(summary = "요청 본문을 그대로 S3에 스트리밍 저장하고 url 반환 (multipart 임시 파일 없음)")
+    @PutMapping(value = "/api/v1/upload/stream", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<String> uploadStream(HttpServletRequest request,
+                                               @RequestParam(value = "filename", required = false) String filename)
+            throws IOException {
+        String url = s3Service.uploadStream(request.getInputStream(), request.getContentType(), filename);
+        return ResponseEntity.ok(url);
+    }
 }
@@ -0,0 +1,26 @@
+package rebound.backend.s3.dto;
+
+import rebound.backend.s3.service.ImageVariant;
+
+/**
+ * 원본 이미지 URL 과 변형본(thumb/card/full) URL.
+ * 우리 버킷 URL 이 아니거나(외부 이미지) 변형본이 아직 없으면(variantsReady=false) 모든 변형본이 원본 URL 을 그대로 가리킨다.
+ */
+public record ImageVariantUrls(String original, String thumb, String card, String full) {
+
+    private static final String S3_HOST_SUFFIX = ".amazonaws.com/";
+
+    public static ImageVariantUrls of(String originalUrl, boolean variantsReady) {
+        if (originalUrl == null || originalUrl.isBlank()) return null;
+        int keyStart = originalUrl.indexOf(S3_HOST_SUFFIX);
+        if (!variantsReady || keyStart < 0) {
+            return new ImageVariantUrls(originalUrl, originalUrl, originalUrl, originalUrl);
+        }
+        String base = originalUrl.substring(0, keyStart + S3_HOST_SUFFIX.length());
+        String key = originalUrl.substring(base.length());
+        return new ImageVariantUrls(originalUrl,
+                base + ImageVariant.THUMB.keyFor(key),
+                base + ImageVariant.CARD.keyFor(key),
+                base + ImageVariant.FULL.keyFor(key));
+    }
+}
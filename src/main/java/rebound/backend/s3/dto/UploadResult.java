@@ -0,0 +1,20 @@
+package rebound.backend.s3.dto;
+
+/**
+ * 파일별 업로드 결과. 실패해도 나머지 파일 업로드는 계속 진행된다.
+ */
+public record UploadResult(
+        String fileName,
+        boolean success,
+        String url,
+        long size,
+        String error
+) {
+    public static UploadResult ok(String fileName, String url, long size) {
+        return new UploadResult(fileName, true, url, size, null);
+    }
+
+    public static UploadResult failed(String fileName, String error) {
+        return new UploadResult(fileName, false, null, 0L, error);
+    }
+}
@@ -0,0 +1,7 @@
+package rebound.backend.s3.event;
+
+/**
+ * 이미지 원본 업로드 완료 이벤트. 리스너가 별도 작업 풀에서 리사이즈 변형본을 만든다.
+ */
+public record ImageUploadedEvent(String objectKey) {
+}
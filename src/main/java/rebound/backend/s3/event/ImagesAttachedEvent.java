@@ -0,0 +1,9 @@
+package rebound.backend.s3.event;
+
+import java.util.List;
+
+/**
+ * 업로드된 이미지 URL 이 게시글/프로필에 저장됨. 커밋 후 변형본이 이미 만들어져 있으면 variants_ready 를 켠다.
+ */
+public record ImagesAttachedEvent(List<String> imageUrls) {
+}
@@ -0,0 +1,32 @@
+package rebound.backend.s3.service;
+
+/**
+ * 업로드 이미지의 리사이즈 변형본. 긴 변 기준 최대 크기이며 원본보다 크게 늘리지 않는다.
+ * 변형본 키는 원본 키로부터 결정된다: variants/{원본 키(확장자 제외)}/{thumb|card|full}.jpg
+ */
+public enum ImageVariant {
+    THUMB("thumb", 320),
+    CARD("card", 720),
+    FULL("full", 1440);
+
+    static final String PREFIX = "variants/";
+
+    private final String path;
+    private final int maxEdge;
+
+    ImageVariant(String path, int maxEdge) {
+        this.path = path;
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    public String keyFor(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return PREFIX + base + "/" + path + ".jpg";
+    }
+}
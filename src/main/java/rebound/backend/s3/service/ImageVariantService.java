@@ -0,0 +1,306 @@
+package rebound.backend.s3.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.member.domain.Member;
+import rebound.backend.member.domain.MemberImage;
+import rebound.backend.s3.event.ImageUploadedEvent;
+import rebound.backend.s3.event.ImagesAttachedEvent;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 업로드된 이미지의 변형본(thumb/card/full) 생성.
+ * 원본을 한 번만 디코딩해 큰 변형본부터 차례로 줄여 JPEG 으로 저장한다.
+ * 요청 스레드와 분리된 제한된 작업 풀에서 실행되며, 대기열이 가득 차면 해당 이미지는 건너뛴다(원본 URL 로 폴백).
+ * 변형본이 모두 저장된 이미지만 post_image / member_image 의 variants_ready 를 켜고, 응답은 이 값이 켜진 이미지에만 변형본 URL 을 쓴다.
+ * 생성이 글 저장보다 먼저 끝나면 생성 쪽 UPDATE 가 행을 못 찾으므로, 글 저장 커밋 후에도 작업 풀에서 thumb 존재를 한 번 더 확인한다.
+ * (thumb 는 마지막에 저장되므로 둘 중 한쪽은 반드시 완료를 본다)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final long MAX_PIXELS = 40_000_000L; // 압축 폭탄 방지
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String S3_HOST_SUFFIX = ".amazonaws.com/";
+
+    private final AmazonS3 s3Client;
+    private final String bucketName;
+    private final ThreadPoolExecutor workers;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean backfillEnabled;
+
+    public ImageVariantService(AmazonS3 s3Client,
+                               JdbcTemplate jdbcTemplate,
+                               EntityManagerFactory entityManagerFactory,
+                               @Value("${cloud.aws.s3.bucket}") String bucketName,
+                               @Value("${image.variants.backfill:false}") boolean backfillEnabled,
+                               @Value("${image.variants.concurrency:2}") int concurrency,
+                               @Value("${image.variants.queue-capacity:64}") int queueCapacity) {
+        this.s3Client = s3Client;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.bucketName = bucketName;
+        this.backfillEnabled = backfillEnabled;
+        this.workers = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "image-variant");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    @EventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        schedule(event.objectKey());
+    }
+
+    /** thumb 존재 확인(S3 HEAD)은 커밋한 요청 스레드가 아니라 작업 풀에서 한다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImagesAttached(ImagesAttachedEvent event) {
+        List<String> urls = event.imageUrls();
+        try {
+            workers.execute(() -> markReadyIfGenerated(urls));
+        } catch (RejectedExecutionException e) {
+            // 생성 작업 쪽 표시를 기다린다 (이미 끝났다면 다음 백필 때 표시된다)
+            log.warn("이미지 변형본 작업 대기열이 가득 차 완료 확인을 건너뜁니다. urls={}", urls);
+        }
+    }
+
+    private void markReadyIfGenerated(List<String> urls) {
+        for (String url : urls) {
+            String key = objectKeyOf(url);
+            if (key == null) continue;
+            try {
+                if (s3Client.doesObjectExist(bucketName, ImageVariant.THUMB.keyFor(key))) markReady(url);
+            } catch (RuntimeException e) {
+                // 확인하지 못하면 원본 URL 로 응답하다가 생성 작업 쪽 표시를 기다린다
+                log.warn("이미지 변형본 확인 실패. url={}", url, e);
+            }
+        }
+    }
+
+    /**
+     * 이 기능 이전에 올라간 게시글/프로필 이미지의 변형본을 만든다 (image.variants.backfill=true 일 때 기동 후 1회).
+     * 대기열이 비는 만큼만 넣어 업로드 요청 처리와 작업 풀을 나눠 쓴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillEnabled) return;
+        Thread.ofPlatform().daemon().name("image-variant-backfill").start(() -> {
+            List<String> urls = jdbcTemplate.queryForList("""
+                    SELECT image_url FROM post_image
+                    UNION
+                    SELECT image_url FROM member_image
+                    """, String.class);
+            int scheduled = 0;
+            for (String url : urls) {
+                String key = objectKeyOf(url);
+                if (key == null) continue;
+                while (workers.getQueue().remainingCapacity() == 0) {
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                schedule(key);
+                scheduled++;
+            }
+            log.info("이미지 변형본 백필 작업 등록 완료. images={}", scheduled);
+        });
+    }
+
+    public void schedule(String objectKey) {
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(objectKey);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("이미지 변형본 생성 실패. key={}", objectKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변형본 작업 대기열이 가득 차 건너뜁니다. key={}", objectKey);
+        }
+    }
+
+    /** 원본을 내려받아 한 번 디코딩하고 모든 변형본을 저장한다. 이미 만들어져 있으면 아무것도 하지 않는다. */
+    void generate(String objectKey) throws IOException {
+        if (s3Client.doesObjectExist(bucketName, ImageVariant.THUMB.keyFor(objectKey))) {
+            markReady(objectUrl(objectKey));
+            return;
+        }
+
+        BufferedImage source;
+        try (S3Object object = s3Client.getObject(bucketName, objectKey);
+             InputStream in = object.getObjectContent()) {
+            source = decode(in);
+        }
+        if (source == null) {
+            log.info("디코딩할 수 없는 이미지 형식이라 변형본을 만들지 않습니다. key={}", objectKey);
+            return;
+        }
+
+        // 큰 변형본부터 만들고, 작은 변형본은 직전 결과를 다시 줄여 만든다.
+        BufferedImage current = toRgb(source);
+        ImageVariant[] order = {ImageVariant.FULL, ImageVariant.CARD, ImageVariant.THUMB};
+        for (ImageVariant variant : order) {
+            current = resize(current, variant.getMaxEdge());
+            put(variant.keyFor(objectKey), encodeJpeg(current));
+        }
+        markReady(objectUrl(objectKey));
+    }
+
+    /**
+     * 이 원본을 쓰는 이미지 행에 변형본 생성 완료를 표시한다.
+     * 게시글 상세 ETag 는 완료된 이미지 수를 포함하므로 글 버전은 올리지 않는다(@Version 이라 동시 수정이 낙관적 락 예외로 실패한다).
+     * 프로필 이미지는 썸네일 URL 이 바뀌므로 회원 프로필 버전도 올리고(ETag), 2차 캐시에서 뺀다.
+     */
+    private void markReady(String url) {
+        jdbcTemplate.update("UPDATE post_image SET variants_ready = true WHERE image_url = ? AND variants_ready = false", url);
+        List<long[]> memberImages = jdbcTemplate.query(
+                "SELECT member_image_id, member_id FROM member_image WHERE image_url = ? AND variants_ready = false",
+                (rs, rowNum) -> new long[]{rs.getLong("member_image_id"), rs.getLong("member_id")}, url);
+        if (memberImages.isEmpty()) return;
+        jdbcTemplate.update("UPDATE member_image SET variants_ready = true WHERE image_url = ?", url);
+        for (long[] row : memberImages) {
+            jdbcTemplate.update("UPDATE member SET profile_version = profile_version + 1 WHERE member_id = ?", row[1]);
+            entityManagerFactory.getCache().evict(MemberImage.class, row[0]);
+            entityManagerFactory.getCache().evict(Member.class, row[1]);
+        }
+    }
+
+    /** 우리 버킷 URL 이면 객체 키, 아니면 null */
+    private String objectKeyOf(String url) {
+        int keyStart = url == null ? -1 : url.indexOf(S3_HOST_SUFFIX);
+        if (keyStart < 0 || !url.startsWith(String.format("https://%s.s3.", bucketName))) return null;
+        return url.substring(keyStart + S3_HOST_SUFFIX.length());
+    }
+
+    private String objectUrl(String objectKey) {
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, s3Client.getRegionName(), objectKey);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private static BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            if (stream == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("이미지 해상도가 너무 큽니다. pixels=" + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 투명 배경은 흰색으로 채워 JPEG 으로 저장할 수 있는 RGB 이미지로 변환 */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) return image;
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /** 긴 변이 maxEdge 이하가 되도록 줄인다. 한 번에 절반 이상 줄이지 않아 계단 현상을 줄인다. */
+    private static BufferedImage resize(BufferedImage image, int maxEdge) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(w, h));
+        int targetW = Math.max(1, (int) Math.round(w * scale));
+        int targetH = Math.max(1, (int) Math.round(h * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() != targetW || current.getHeight() != targetH) {
+            int nextW = Math.max(targetW, current.getWidth() / 2);
+            int nextH = Math.max(targetH, current.getHeight() / 2);
+            BufferedImage next = new BufferedImage(nextW, nextH, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextW, nextH, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private void put(String key, byte[] data) {
+        ObjectMetadata meta = new ObjectMetadata();
+        meta.setContentType("image/jpeg");
+        meta.setContentLength(data.length);
+        meta.setCacheControl(CACHE_CONTROL);
+        s3Client.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(data), meta)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+}
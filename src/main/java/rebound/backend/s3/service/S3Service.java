@@ -3,44 +3,154 @@ package rebound.backend.s3.service;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import com.amazonaws.services.s3.model.*;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import rebound.backend.s3.dto.UploadResult;
+import rebound.backend.s3.event.ImageUploadedEvent;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.UUID;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
 
-@RequiredArgsConstructor
+/**
+ * S3 업로드.
+ * 입력 스트림을 5MB 파트 단위로 읽어 작은 파일은 한 번에 putObject, 큰 파일은 멀티파트 업로드로 올린다.
+ * 파일 전체를 메모리/디스크에 쌓지 않으므로 동시 업로드 1건당 메모리는 파트 버퍼 하나로 제한된다.
+ * 여러 파일은 크기 제한 검사 후 제한된 스레드 풀에서 동시에 올리고, 풀과 대기열이 가득 차면 바로 거절한다.
+ * 이미지는 업로드 후 ImageUploadedEvent 를 발행해 변형본 생성을 맡긴다(ImageVariantService).
+ */
+@Slf4j
 @Service
 public class S3Service {
 
+    static final int PART_SIZE = 5 * 1024 * 1024; // S3 멀티파트 최소 파트 크기
+
     private final AmazonS3 s3Client;
+    private final String bucketName;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
+    @Autowired
+    public S3Service(AmazonS3 s3Client,
+                     ApplicationEventPublisher eventPublisher,
+                     @Value("${cloud.aws.s3.bucket}") String bucketName,
+                     @Value("${s3.upload.max-file-bytes:20971520}") long maxFileBytes,
+                     @Value("${s3.upload.max-files:10}") int maxFiles,
+                     @Value("${s3.upload.concurrency:4}") int concurrency,
+                     @Value("${s3.upload.queue-capacity:16}") int queueCapacity) {
+        this.s3Client = s3Client;
+        this.eventPublisher = eventPublisher;
+        this.bucketName = bucketName;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.uploadExecutor = new ThreadPoolExecutor(concurrency, concurrency, 30L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads(), new ThreadPoolExecutor.AbortPolicy());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
+    }
 
     public String uploadFile(MultipartFile file) throws IOException {
-        String objectKey = generateFileName(file);
+        checkSize(file.getSize());
+        try (InputStream in = file.getInputStream()) {
+            return upload(in, file.getContentType(), generateFileName(file.getOriginalFilename()));
+        }
+    }
 
-        try {
-            ObjectMetadata metadata = buildMetadata(file);
+    /**
+     * 요청 본문 등 길이를 모르는 스트림을 그대로 올린다. 읽는 도중 최대 크기를 넘으면 중단한다.
+     */
+    public String uploadStream(InputStream in, String contentType, String originalFilename) throws IOException {
+        return upload(in, contentType, generateFileName(originalFilename));
+    }
+
+    /**
+     * 여러 파일을 동시에 올리고 파일별 결과를 입력 순서대로 반환한다.
+     * 개수/크기 제한은 업로드 시작 전에 모두 검사하며, 스레드 풀이 가득 차 있으면 해당 파일은 실패로 표시한다.
+     */
+    public List<UploadResult> uploadAll(List<MultipartFile> files) {
+        List<MultipartFile> targets = files == null ? List.of()
+                : files.stream().filter(f -> f != null && !f.isEmpty()).toList();
+        if (targets.size() > maxFiles) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 파일은 최대 " + maxFiles + "개입니다.");
+        }
+
+        List<Future<UploadResult>> futures = new ArrayList<>(targets.size());
+        for (MultipartFile file : targets) {
+            String name = Objects.requireNonNullElse(file.getOriginalFilename(), "file");
+            if (file.getSize() > maxFileBytes) {
+                futures.add(CompletableFuture.completedFuture(UploadResult.failed(name, tooLargeMessage())));
+                continue;
+            }
+            try {
+                futures.add(uploadExecutor.submit(() -> {
+                    try {
+                        return UploadResult.ok(name, uploadFile(file), file.getSize());
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("파일 업로드 실패. file={}", name, e);
+                        return UploadResult.failed(name, e.getMessage());
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(
+                        UploadResult.failed(name, "업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.")));
+            }
+        }
 
-            PutObjectRequest req = new PutObjectRequest(
-                    bucketName, objectKey, file.getInputStream(), metadata
-            ).withCannedAcl(CannedAccessControlList.PublicRead);
+        List<UploadResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            String name = Objects.requireNonNullElse(targets.get(i).getOriginalFilename(), "file");
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(UploadResult.failed(name, "업로드가 중단되었습니다."));
+            } catch (ExecutionException e) {
+                results.add(UploadResult.failed(name, e.getCause().getMessage()));
+            }
+        }
+        return results;
+    }
 
-            s3Client.putObject(req);
+    public List<String> uploadFiles(List<MultipartFile> files) throws IOException {
+        List<String> urls = new ArrayList<>();
+        for (UploadResult result : uploadAll(files)) {
+            if (!result.success()) {
+                throw new IOException("파일 업로드 실패: " + result.fileName() + " (" + result.error() + ")");
+            }
+            urls.add(result.url());
+        }
+        return urls;
+    }
 
-            String region = s3Client.getRegionName();
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, objectKey);
+    @PreDestroy
+    void shutdown() {
+        uploadExecutor.shutdown();
+    }
 
+    private String upload(InputStream in, String contentType, String objectKey) throws IOException {
+        String type = contentType != null ? contentType : "application/octet-stream";
+        try {
+            byte[] first = readPart(in, 0L);
+            if (first.length < PART_SIZE) {
+                // 파트 하나에 다 들어가면 멀티파트 없이 한 번에
+                putSingle(objectKey, type, first);
+            } else {
+                putMultipart(in, objectKey, type, first);
+            }
+            if (type.startsWith("image/")) {
+                // 변형본(thumb/card/full)은 별도 작업 풀에서 생성 (요청 지연에 포함되지 않음)
+                eventPublisher.publishEvent(new ImageUploadedEvent(objectKey));
+            }
+            return objectUrl(objectKey);
         } catch (AmazonServiceException e) {
             throw new IOException("S3 error: " + e.getErrorMessage(), e);
         } catch (SdkClientException e) {
@@ -48,26 +158,85 @@ public class S3Service {
         }
     }
 
-    private ObjectMetadata buildMetadata(MultipartFile file) {
+    private void putSingle(String objectKey, String contentType, byte[] data) {
         ObjectMetadata meta = new ObjectMetadata();
-        String contentType = file.getContentType();
-        meta.setContentType(contentType != null ? contentType : "application/octet-stream");
-        meta.setContentLength(file.getSize());
-        return meta;
+        meta.setContentType(contentType);
+        meta.setContentLength(data.length);
+        s3Client.putObject(new PutObjectRequest(bucketName, objectKey, new ByteArrayInputStream(data), meta)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
     }
 
-    private String generateFileName(MultipartFile file) {
-        String original = Objects.requireNonNullElse(file.getOriginalFilename(), "file");
-        return UUID.randomUUID() + "-" + original;
+    private void putMultipart(InputStream in, String objectKey, String contentType, byte[] first) throws IOException {
+        ObjectMetadata meta = new ObjectMetadata();
+        meta.setContentType(contentType);
+        String uploadId = s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, objectKey, meta)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        try {
+            List<PartETag> etags = new ArrayList<>();
+            long uploaded = 0L;
+            byte[] part = first;
+            int partNumber = 1;
+            while (part.length > 0) {
+                etags.add(s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(objectKey)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(part))
+                        .withPartSize(part.length)).getPartETag());
+                uploaded += part.length;
+                part = part.length < PART_SIZE ? new byte[0] : readPart(in, uploaded);
+            }
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, objectKey, uploadId, etags));
+        } catch (IOException | RuntimeException e) {
+            // 올라간 파트가 버킷에 남지 않도록 정리
+            try {
+                s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, objectKey, uploadId));
+            } catch (RuntimeException abortError) {
+                e.addSuppressed(abortError);
+            }
+            throw e;
+        }
     }
 
-    public List<String> uploadFiles(List<MultipartFile> files) throws IOException {
-        List<String> urls = new ArrayList<>();
-        for (MultipartFile file : files) {
-            if (file != null && !file.isEmpty()) {
-                urls.add(uploadFile(file));
-            }
+    /**
+     * 스트림에서 최대 PART_SIZE 바이트를 읽는다. 이미 읽은 양(alreadyRead)과 합쳐 최대 크기를 넘으면 중단한다.
+     */
+    private byte[] readPart(InputStream in, long alreadyRead) throws IOException {
+        byte[] buffer = in.readNBytes(PART_SIZE);
+        if (alreadyRead + buffer.length > maxFileBytes) {
+            throw new IllegalArgumentException(tooLargeMessage());
         }
-        return urls;
+        return buffer;
+    }
+
+    private void checkSize(long size) {
+        if (size > maxFileBytes) {
+            throw new IllegalArgumentException(tooLargeMessage());
+        }
+    }
+
+    private String tooLargeMessage() {
+        return "파일 크기는 최대 " + (maxFileBytes / (1024 * 1024)) + "MB 까지 업로드할 수 있습니다.";
+    }
+
+    private String objectUrl(String objectKey) {
+        String region = s3Client.getRegionName();
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, objectKey);
+    }
+
+    private String generateFileName(String originalFilename) {
+        String original = Objects.requireNonNullElse(originalFilename, "file");
+        return UUID.randomUUID() + "-" + original;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        ThreadFactory base = Executors.defaultThreadFactory();
+        return r -> {
+            Thread t = base.newThread(r);
+            t.setName("s3-upload-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        };
     }
 }
@@ -0,0 +1,40 @@
+package rebound.backend.tag.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import rebound.backend.post.dto.PostSummary;
+import rebound.backend.post.dto.SliceResponse;
+import rebound.backend.post.ranking.PopularityWindow;
+import rebound.backend.post.service.PostService;
+import rebound.backend.tag.dto.TrendingTagResponse;
+import rebound.backend.tag.stats.TagStatsService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagStatsService tagStatsService;
+    private final PostService postService;
+
+    @Operation(summary = "인기 태그 조회", description = "window: DAY(최근 24시간), WEEK(최근 7일), ALL(전체) 동안 공개 글에 많이 붙은 태그 순")
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingTagResponse>> getTrendingTags(
+            @RequestParam(value = "window", defaultValue = "DAY") PopularityWindow window,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(tagStatsService.trending(window, size));
+    }
+
+    @Operation(summary = "태그별 게시글 목록 조회 (커서)", description = "최신 글 순. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @GetMapping("/{name}/posts")
+    public ResponseEntity<SliceResponse<PostSummary>> getPostsByTag(
+            @PathVariable String name,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getPostsByTagCursor(name, cursor, size));
+    }
+}
@@ -0,0 +1,14 @@
+package rebound.backend.tag.dto;
+
+import rebound.backend.tag.stats.TagStatsIndex;
+
+/**
+ * @param windowCount 요청한 구간(24시간/7일) 동안 이 태그가 붙은 공개 글 수 (ALL 이면 totalCount 와 같음)
+ * @param totalCount  이 태그가 붙은 전체 공개 글 수
+ */
+public record TrendingTagResponse(Long tagId, String name, long windowCount, long totalCount) {
+
+    public static TrendingTagResponse from(TagStatsIndex.TagCount count) {
+        return new TrendingTagResponse(count.tagId(), count.name(), count.windowCount(), count.totalCount());
+    }
+}
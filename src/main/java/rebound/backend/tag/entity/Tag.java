@@ -2,10 +2,18 @@ package rebound.backend.tag.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import rebound.backend.config.HibernateCacheConfig;
 import rebound.backend.post.entity.Post;
 
 @Entity
 @Table(name = "tag")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.TAG)
+@NaturalIdCache(region = HibernateCacheConfig.TAG_NATURAL_ID)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @EqualsAndHashCode(of = "tagId")
@@ -16,6 +24,7 @@ public class Tag {
     @Column(name = "tag_id")
     private Long tagId;
 
+    @NaturalId
     @Column(name = "name", nullable = false, length = 50,unique=true)
     private String name;
 
@@ -1,11 +1,32 @@
 package rebound.backend.tag.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import rebound.backend.tag.entity.Tag;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
-}
 
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    // 태그 통계 적재 전 폴백: 공개 글 기준 사용 수 상위
+    @Query("""
+    SELECT t.tagId AS tagId, t.name AS name, COUNT(p) AS cnt
+    FROM Tag t JOIN t.posts p
+    WHERE p.status = 'PUBLIC'
+    GROUP BY t.tagId, t.name
+    ORDER BY COUNT(p) DESC, t.tagId
+    """)
+    List<TagUsageRow> findMostUsed(Pageable pageable);
+
+    interface TagUsageRow {
+        Long getTagId();
+        String getName();
+        Long getCnt();
+    }
+}
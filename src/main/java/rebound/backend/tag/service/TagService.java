@@ -1,47 +1,99 @@
 package rebound.backend.tag.service;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import rebound.backend.post.entity.Post;
 import rebound.backend.tag.entity.Tag;
 import rebound.backend.tag.repository.TagRepository;
 
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class TagService {
     private final TagRepository tagRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 태그 이름 목록을 한 번에 Tag 엔티티로 바꾼다. (입력 순서 유지, 중복 제거)
+     * 1) 기존 태그 일괄 조회 (natural-id 캐시 + IN 쿼리 1회)
+     * 2) 없는 태그는 INSERT ... ON DUPLICATE KEY 한 문장으로 생성 (동시 생성 경합에도 실패하지 않음)
+     * 3) 새로 만든 태그만 한 번 다시 조회
+     * 태그 개수와 관계없이 최대 3개의 SQL 로 끝난다.
+     */
     @Transactional
-    public Tag getOrCreate(String name) {
-        String n = normalize(name);                // 트림/소문자화 등 정책
-        return tagRepository.findByName(n).orElseGet(() -> {
-            try {
-                return tagRepository.save(Tag.builder().name(n).build());
-            } catch (org.springframework.dao.DataIntegrityViolationException e) {
-                // 동시 생성 경합에서 한쪽이 UNIQUE로 막히면 재조회
-                return tagRepository.findByName(n).orElseThrow(() -> e);
+    public List<Tag> resolveAll(List<String> raw) {
+        List<String> names = normalizeAll(raw);
+        if (names.isEmpty()) return List.of();
+
+        // MySQL 기본 collation 과 같이 대소문자를 구분하지 않고 매칭
+        Map<String, Tag> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        List<Tag> loaded = entityManager.unwrap(Session.class)
+                .byMultipleNaturalId(Tag.class)
+                .multiLoad(names);
+        for (Tag tag : loaded) {
+            if (tag != null) byName.put(tag.getName(), tag);
+        }
+
+        List<String> missing = names.stream().filter(n -> !byName.containsKey(n)).toList();
+        if (!missing.isEmpty()) {
+            jdbcTemplate.update(insertSql(missing.size()), missing.toArray());
+            for (Tag tag : tagRepository.findAllByNameIn(missing)) {
+                byName.put(tag.getName(), tag);
             }
-        });
+        }
+
+        List<Tag> result = new ArrayList<>(names.size());
+        Set<Long> seen = new HashSet<>();
+        for (String name : names) {
+            Tag tag = byName.get(name);
+            if (tag == null) {
+                throw new IllegalStateException("태그를 생성하지 못했습니다: " + name);
+            }
+            if (seen.add(tag.getTagId())) result.add(tag);
+        }
+        return result;
+    }
+
+    /**
+     * 이름으로 태그 조회. natural-id 캐시(이름 -> id) + 엔티티 캐시를 거치므로 자주 쓰는 태그는 SQL 없이 찾는다.
+     */
+    public Optional<Tag> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Tag.class)
+                .loadOptional(name);
     }
 
+    /**
+     * 게시글 태그를 raw 목록으로 맞춘다. 그대로인 태그는 건드리지 않고 빠진 것만 지우고 새 것만 붙여
+     * post_tag 에 바뀐 행만 DELETE/INSERT 된다 (clear 후 다시 넣으면 컬렉션 전체가 다시 써진다).
+     * @return 바뀐 것이 있으면 true
+     */
     @Transactional
-    public void applyTags(Post post, List<String> raw) {
-        if (raw == null) { post.getTags().clear(); return; }
-        Set<Tag> tags = raw.stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(this::getOrCreate)           // ← 여기서 기존 tagId 재사용
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-        post.getTags().clear();
+    public boolean applyTags(Post post, List<String> raw) {
+        List<Tag> tags = raw == null ? List.of() : resolveAll(raw);        // ← 여기서 기존 tagId 재사용
+        Set<Tag> target = new HashSet<>(tags);
+        if (post.getTags().equals(target)) return false;
+        post.getTags().retainAll(target);
         post.getTags().addAll(tags);
+        return true;
+    }
+
+    private List<String> normalizeAll(List<String> raw) {
+        if (raw == null) return List.of();
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        List<String> ordered = new ArrayList<>();
+        for (String s : raw) {
+            if (s == null) continue;
+            String n = normalize(s);
+            if (!n.isEmpty() && names.add(n)) ordered.add(n);
+        }
+        return ordered;
     }
 
     private String normalize(String s) {
@@ -49,4 +101,9 @@ public class TagService {
         if (t.length() > 50) t = t.substring(0, 50);
         return t;
     }
-}
\ No newline at end of file
+
+    private static String insertSql(int rows) {
+        return "INSERT INTO tag (name) VALUES " + String.join(", ", Collections.nCopies(rows, "(?)"))
+                + " ON DUPLICATE KEY UPDATE name = name";
+    }
+}
@@ -0,0 +1,146 @@
+package rebound.backend.tag.stats;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 태그별 사용 횟수 인덱스 (메모리).
+ * 전체 사용 수와 함께, 태그가 글에 붙은 시각을 1시간 버킷 링(최근 RING_HOURS 시간)에 기록해 구간별 사용 수를 센다.
+ * 게시글마다 붙은 태그와 붙은 시각을 기억해 두어 수정/삭제 시 증감을 정확히 되돌린다.
+ */
+public class TagStatsIndex {
+
+    static final int RING_HOURS = 24 * 7;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, TagCounter> tags = new HashMap<>();
+    // postId -> (tagId -> 태그가 붙은 epoch hour)
+    private final Map<Long, Map<Long, Long>> postTags = new HashMap<>();
+
+    public record TagCount(long tagId, String name, long windowCount, long totalCount) {}
+
+    /**
+     * 게시글의 현재 태그 목록으로 교체한다. 새로 붙은 태그는 taggedAtHour 버킷에, 빠진 태그는 붙었던 버킷에서 뺀다.
+     * tagNames 가 비어 있으면 removePost 와 같다.
+     */
+    public void putPost(long postId, Map<Long, String> tagNames, long taggedAtHour) {
+        lock.lock();
+        try {
+            Map<Long, Long> previous = postTags.getOrDefault(postId, Map.of());
+            Map<Long, Long> current = new HashMap<>();
+            for (Map.Entry<Long, String> tag : tagNames.entrySet()) {
+                Long hour = previous.get(tag.getKey());
+                if (hour == null) {
+                    hour = taggedAtHour;
+                    tags.computeIfAbsent(tag.getKey(), id -> new TagCounter()).add(hour, +1);
+                }
+                tags.get(tag.getKey()).name = tag.getValue();
+                current.put(tag.getKey(), hour);
+            }
+            previous.forEach((tagId, hour) -> {
+                if (!current.containsKey(tagId)) decrement(tagId, hour);
+            });
+            if (current.isEmpty()) {
+                postTags.remove(postId);
+            } else {
+                postTags.put(postId, current);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void removePost(long postId) {
+        lock.lock();
+        try {
+            Map<Long, Long> previous = postTags.remove(postId);
+            if (previous != null) previous.forEach(this::decrement);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 windowHours 시간 동안 많이 붙은 태그 상위 limit 개 (동률이면 전체 사용 수, tagId 순).
+     * windowHours 가 0 이하이면 전체 사용 수 기준.
+     */
+    public List<TagCount> top(int windowHours, long nowHour, int limit) {
+        Comparator<TagCount> order = Comparator.comparingLong(TagCount::windowCount)
+                .thenComparingLong(TagCount::totalCount)
+                .thenComparing(Comparator.comparingLong(TagCount::tagId).reversed());
+        PriorityQueue<TagCount> heap = new PriorityQueue<>(limit + 1, order);
+        lock.lock();
+        try {
+            for (Map.Entry<Long, TagCounter> e : tags.entrySet()) {
+                TagCounter counter = e.getValue();
+                long window = windowHours > 0 ? counter.sum(nowHour, windowHours) : counter.total;
+                if (window <= 0) continue;
+                heap.offer(new TagCount(e.getKey(), counter.name, window, counter.total));
+                if (heap.size() > limit) heap.poll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        List<TagCount> result = new ArrayList<>(heap);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    public long totalCount(long tagId) {
+        lock.lock();
+        try {
+            TagCounter counter = tags.get(tagId);
+            return counter == null ? 0L : counter.total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int tagCount() {
+        lock.lock();
+        try {
+            return tags.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrement(long tagId, long hour) {
+        TagCounter counter = tags.get(tagId);
+        if (counter == null) return;
+        counter.add(hour, -1);
+        if (counter.total <= 0) tags.remove(tagId);
+    }
+
+    /** 전체 사용 수 + 시간 버킷 링. 버킷마다 어느 시각의 값인지 기록해 두고 읽을 때 오래된 버킷은 무시한다. */
+    private static final class TagCounter {
+        String name;
+        long total;
+        final int[] counts = new int[RING_HOURS];
+        final long[] hours = new long[RING_HOURS];
+
+        void add(long hour, int delta) {
+            total += delta;
+            int slot = (int) Math.floorMod(hour, (long) RING_HOURS);
+            if (hours[slot] == hour) {
+                counts[slot] += delta;
+            } else if (delta > 0 && hour > hours[slot]) {
+                // 링을 한 바퀴 돈 버킷은 새 시각으로 재사용
+                hours[slot] = hour;
+                counts[slot] = delta;
+            }
+            // 이미 링 밖으로 밀려난 시각의 감소는 구간 집계에 영향이 없으므로 total 만 반영
+        }
+
+        long sum(long nowHour, int windowHours) {
+            int span = Math.min(windowHours, RING_HOURS);
+            long sum = 0;
+            for (int i = 0; i < span; i++) {
+                long hour = nowHour - i;
+                int slot = (int) Math.floorMod(hour, (long) RING_HOURS);
+                if (hours[slot] == hour) sum += counts[slot];
+            }
+            return sum;
+        }
+    }
+}
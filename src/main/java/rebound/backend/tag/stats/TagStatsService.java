@@ -0,0 +1,94 @@
+package rebound.backend.tag.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rebound.backend.post.event.PostLifecycleEvent;
+import rebound.backend.post.ranking.PopularityWindow;
+import rebound.backend.post.repository.PostRepository;
+import rebound.backend.tag.dto.TrendingTagResponse;
+import rebound.backend.tag.repository.TagRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태그 사용 통계 (전체 / 최근 24시간 / 최근 7일).
+ * 기동 시 post_tag 를 한 번 읽어 적재하고, 이후에는 게시글 생성/수정/삭제 이벤트로 해당 글의 태그만 다시 읽어 증분 갱신한다.
+ * 적재 전에는 ready() 가 false 이며 인기 태그 조회는 DB 집계로 폴백한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagStatsService {
+
+    private final PostRepository postRepository;
+    private final TagRepository tagRepository;
+    private final TagStatsIndex index = new TagStatsIndex();
+    private volatile boolean ready = false;
+
+    public boolean ready() {
+        return ready;
+    }
+
+    @Order(30)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Map<Long, Map<Long, String>> tagsByPost = new HashMap<>();
+        Map<Long, Long> hourByPost = new HashMap<>();
+        for (PostRepository.TagSeedRow row : postRepository.findTagSeeds()) {
+            tagsByPost.computeIfAbsent(row.getPostId(), id -> new HashMap<>()).put(row.getTagId(), row.getTagName());
+            hourByPost.putIfAbsent(row.getPostId(), toHour(row.getCreatedAt()));
+        }
+        tagsByPost.forEach((postId, tags) -> index.putPost(postId, tags, hourByPost.get(postId)));
+        ready = true;
+        log.info("태그 통계 적재 완료. posts={}, tags={}", tagsByPost.size(), index.tagCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLifecycle(PostLifecycleEvent event) {
+        if (!ready) return;
+        if (event.type() == PostLifecycleEvent.Type.DELETED) {
+            index.removePost(event.postId());
+            return;
+        }
+        // 비공개로 바뀐 글은 조회 결과가 비어 있으므로 통계에서 빠진다.
+        Map<Long, String> tags = new HashMap<>();
+        for (PostRepository.TagSeedRow row : postRepository.findTagSeedsOfPost(event.postId())) {
+            tags.put(row.getTagId(), row.getTagName());
+        }
+        index.putPost(event.postId(), tags, currentHour());
+    }
+
+    /**
+     * 구간 내에 많이 붙은 태그 순. ALL 은 전체 사용 수 기준.
+     */
+    public List<TrendingTagResponse> trending(PopularityWindow window, int size) {
+        int limit = Math.max(1, Math.min(size, 50));
+        if (!ready) {
+            return tagRepository.findMostUsed(PageRequest.of(0, limit)).stream()
+                    .map(row -> new TrendingTagResponse(row.getTagId(), row.getName(), row.getCnt(), row.getCnt()))
+                    .toList();
+        }
+        int windowHours = window.getSpan() == null ? 0 : (int) window.getSpan().toHours();
+        return index.top(windowHours, currentHour(), limit).stream()
+                .map(TrendingTagResponse::from)
+                .toList();
+    }
+
+    private static long currentHour() {
+        return TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+    }
+
+    private static long toHour(LocalDateTime time) {
+        if (time == null) return currentHour();
+        return TimeUnit.MILLISECONDS.toHours(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
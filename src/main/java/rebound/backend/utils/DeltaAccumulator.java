@@ -0,0 +1,99 @@
+package rebound.backend.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * id 별 증감값(delta)을 메모리에 모아두는 스트라이프 누산기.
+ * 같은 스트라이프에 걸린 id 끼리만 락을 공유하므로 서로 다른 게시글/댓글의 증감은 경합하지 않는다.
+ * 각 id 는 slots 개의 카운터(예: 좋아요/북마크/댓글)를 가진다.
+ */
+public class DeltaAccumulator {
+
+    private final int slots;
+    private final Stripe[] stripes;
+
+    public DeltaAccumulator(int slots, int stripeCount) {
+        if (slots <= 0 || stripeCount <= 0) {
+            throw new IllegalArgumentException("slots, stripeCount 는 1 이상이어야 합니다.");
+        }
+        this.slots = slots;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void add(long id, int slot, long delta) {
+        if (delta == 0) return;
+        Stripe stripe = stripeOf(id);
+        stripe.lock.lock();
+        try {
+            stripe.deltas.computeIfAbsent(id, k -> new long[slots])[slot] += delta;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** 아직 반영되지 않은 증감값 */
+    public long pending(long id, int slot) {
+        Stripe stripe = stripeOf(id);
+        stripe.lock.lock();
+        try {
+            long[] d = stripe.deltas.get(id);
+            return d == null ? 0L : d[slot];
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 모아둔 증감값을 모두 꺼내고 비운다. 0 으로 상쇄된 항목은 제외한다.
+     */
+    public Map<Long, long[]> drain() {
+        Map<Long, long[]> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, long[]> taken;
+            stripe.lock.lock();
+            try {
+                if (stripe.deltas.isEmpty()) continue;
+                taken = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            } finally {
+                stripe.lock.unlock();
+            }
+            taken.forEach((id, d) -> {
+                if (!isZero(d)) drained.put(id, d);
+            });
+        }
+        return drained;
+    }
+
+    /** 반영에 실패한 증감값을 다시 넣어 다음 flush 때 재시도한다. */
+    public void restore(Map<Long, long[]> deltas) {
+        deltas.forEach((id, d) -> {
+            for (int slot = 0; slot < d.length; slot++) {
+                add(id, slot, d[slot]);
+            }
+        });
+    }
+
+    private Stripe stripeOf(long id) {
+        int h = Long.hashCode(id);
+        h ^= (h >>> 16);
+        return stripes[(h & 0x7fffffff) % stripes.length];
+    }
+
+    private static boolean isZero(long[] d) {
+        for (long v : d) {
+            if (v != 0) return false;
+        }
+        return true;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private HashMap<Long, long[]> deltas = new HashMap<>();
+    }
+}
@@ -1,5 +1,6 @@
 package rebound.backend.utils;
 
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +12,17 @@ public final class InteractionAuth {
 
     private InteractionAuth() {}
 
+    /** 비로그인(익명) 요청이면 null */
+    public static Long currentMemberIdOrNull() {
+        Authentication a = SecurityContextHolder.getContext().getAuthentication();
+        if (a == null || !a.isAuthenticated() || a instanceof AnonymousAuthenticationToken) return null;
+        try {
+            return currentMemberId();
+        } catch (IllegalStateException | NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static Long currentMemberId() {
         Authentication a = SecurityContextHolder.getContext().getAuthentication();
         if (a == null || !a.isAuthenticated()) {
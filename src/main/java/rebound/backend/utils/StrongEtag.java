@@ -0,0 +1,40 @@
+package rebound.backend.utils;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 응답 본문을 만들지 않고 버전 값(updated_at, 카운터 등)만으로 만드는 강한 ETag.
+ * 같은 값들이면 같은 본문이 나온다는 것이 보장되는 값만 넘겨야 한다.
+ */
+public class StrongEtag {
+
+    private static final Pattern VERSIONED = Pattern.compile("^(?:W/)?\"v(\\d+)-[0-9a-f]+\"$");
+
+    public static String of(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            sb.append(part).append('|');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 엔티티 버전을 앞에 드러낸 ETag ("v{version}-{hash}").
+     * If-Match 는 버전만 비교하므로 좋아요 수처럼 버전과 무관한 값이 바뀌어도 수정이 거절되지 않는다.
+     */
+    public static String versioned(long version, Object... parts) {
+        String hash = of(parts);
+        return "\"v" + version + "-" + hash.substring(1);
+    }
+
+    /** versioned() 로 만든 ETag 에서 버전을 꺼낸다. 형식이 다르면 null */
+    public static Long versionOf(String etag) {
+        if (etag == null) return null;
+        Matcher matcher = VERSIONED.matcher(etag.trim());
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
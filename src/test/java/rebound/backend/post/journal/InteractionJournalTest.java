@@ -0,0 +1,64 @@
+package rebound.backend.post.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널을 다시 열면 반영되지 않은 기록만, 쓰다 만 칸 앞까지 돌아오는지 확인
+ */
+class InteractionJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopenReturnsOnlyUnappliedEntries() throws IOException {
+        Path file = dir.resolve("journal.dat");
+        try (InteractionJournal journal = new InteractionJournal(file, 8, false)) {
+            journal.append(InteractionKind.POST_HEART, 1L, 10L, true);
+            journal.append(InteractionKind.POST_BOOKMARK, 1L, 10L, true);
+            journal.append(InteractionKind.COMMENT_HEART, 7L, 11L, false);
+            journal.markApplied(1L);
+        }
+
+        try (InteractionJournal journal = new InteractionJournal(file, 8, false)) {
+            assertThat(journal.recovered()).containsExactly(
+                    new InteractionJournal.Entry(2L, InteractionKind.POST_BOOKMARK, 1L, 10L, true),
+                    new InteractionJournal.Entry(3L, InteractionKind.COMMENT_HEART, 7L, 11L, false));
+            assertThat(journal.append(InteractionKind.POST_HEART, 2L, 10L, true)).isEqualTo(4L);
+        }
+    }
+
+    @Test
+    void stopsAtTornRecordAndRefusesToOverwriteUnapplied() throws IOException {
+        Path file = dir.resolve("journal.dat");
+        try (InteractionJournal journal = new InteractionJournal(file, 4, false)) {
+            for (long member = 1; member <= 4; member++) {
+                assertThat(journal.append(InteractionKind.POST_HEART, 1L, member, true)).isEqualTo(member);
+            }
+            // 반영 안 된 칸을 덮어쓰지 않는다
+            assertThat(journal.append(InteractionKind.POST_HEART, 1L, 5L, true)).isEqualTo(-1L);
+            journal.markApplied(2L);
+            assertThat(journal.append(InteractionKind.POST_HEART, 1L, 5L, true)).isEqualTo(5L);
+        }
+
+        // seq 4 칸의 대상 id 를 깨뜨린다 (CRC 불일치)
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long offset = InteractionJournal.HEADER_SIZE + (4 % 4) * InteractionJournal.RECORD_SIZE + 8;
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), offset);
+        }
+
+        try (InteractionJournal journal = new InteractionJournal(file, 4, false)) {
+            assertThat(journal.recovered()).extracting(InteractionJournal.Entry::seq).containsExactly(3L);
+            assertThat(journal.backlog()).isEqualTo(1L);
+        }
+    }
+}
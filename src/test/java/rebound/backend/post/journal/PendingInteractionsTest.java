@@ -0,0 +1,243 @@
+package rebound.backend.post.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import rebound.backend.post.event.CommentReactionEvent;
+import rebound.backend.post.event.PostInteractionEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 반영 전에는 overlay 로 상태/카운트가 보이고, 반영 시 실제로 바뀐 행만 증감 이벤트가 나가는지 확인
+ */
+class PendingInteractionsTest {
+
+    private static final long POST = 1L;
+    private static final long MEMBER = 10L;
+
+    @TempDir
+    Path dir;
+
+    private final FakeJdbc jdbc = new FakeJdbc();
+    private final FakeTransactions transactions = new FakeTransactions();
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void overlayShowsStateAndCountUntilApplied() {
+        PendingInteractions pending = open(8);
+
+        PendingInteractions.Change change = pending.record(InteractionKind.POST_HEART, POST, MEMBER, null, () -> false);
+
+        assertThat(change).isEqualTo(new PendingInteractions.Change(true, 1));
+        assertThat(pending.stateOr(InteractionKind.POST_HEART, POST, MEMBER, false)).isTrue();
+        assertThat(pending.pendingDelta(InteractionKind.POST_HEART, POST)).isEqualTo(1L);
+        assertThat(jdbc.rows).isEmpty();
+        assertThat(events).isEmpty();
+
+        pending.apply();
+
+        assertThat(jdbc.rows).containsExactly("post_reaction:1:10");
+        assertThat(events).containsExactly(new PostInteractionEvent(POST, MEMBER, PostInteractionEvent.Kind.HEART, 1));
+        assertThat(pending.hasPending()).isFalse();
+        assertThat(pending.pendingDelta(InteractionKind.POST_HEART, POST)).isZero();
+    }
+
+    @Test
+    void prefersJustAppliedStateOverStaleSnapshot() {
+        PendingInteractions pending = open(8);
+        pending.record(InteractionKind.POST_BOOKMARK, POST, MEMBER, true, () -> false);
+        pending.apply();
+
+        // 반영 커밋 전에 잡힌 요청 트랜잭션 스냅샷은 아직 북마크가 없다고 본다
+        PendingInteractions.Change change = pending.record(InteractionKind.POST_BOOKMARK, POST, MEMBER, null, () -> false);
+
+        assertThat(change).isEqualTo(new PendingInteractions.Change(false, -1));
+        pending.apply();
+        assertThat(jdbc.rows).isEmpty();
+        assertThat(events).containsExactly(
+                new PostInteractionEvent(POST, MEMBER, PostInteractionEvent.Kind.BOOKMARK, 1),
+                new PostInteractionEvent(POST, MEMBER, PostInteractionEvent.Kind.BOOKMARK, -1));
+    }
+
+    @Test
+    void coalescesTogglesAndPublishesOnlyRealChanges() {
+        PendingInteractions pending = open(8);
+        jdbc.rows.add("comment_reaction:7:10");
+        jdbc.postIdByComment.put(7L, POST);
+
+        // 켜고-끄고-켜기: 마지막 상태 하나만 반영되고 카운트 차이는 +1
+        pending.record(InteractionKind.POST_HEART, POST, MEMBER, null, () -> false);
+        pending.record(InteractionKind.POST_HEART, POST, MEMBER, null, () -> false);
+        pending.record(InteractionKind.POST_HEART, POST, MEMBER, null, () -> false);
+        // 끄고-켜기: DB 상태 그대로라 카운트 차이 0
+        pending.record(InteractionKind.COMMENT_HEART, 7L, MEMBER, false, () -> true);
+        pending.record(InteractionKind.COMMENT_HEART, 7L, MEMBER, true, () -> true);
+        // 이미 켜져 있는 것을 켜면 기록하지 않는다
+        assertThat(pending.record(InteractionKind.POST_BOOKMARK, POST, MEMBER, false, () -> false).delta()).isZero();
+
+        assertThat(pending.pendingDelta(InteractionKind.POST_HEART, POST)).isEqualTo(1L);
+        assertThat(pending.pendingDelta(InteractionKind.COMMENT_HEART, 7L)).isZero();
+
+        pending.apply();
+
+        assertThat(jdbc.updates).isEqualTo(2);
+        assertThat(jdbc.rows).containsExactlyInAnyOrder("post_reaction:1:10", "comment_reaction:7:10");
+        assertThat(events).containsExactly(new PostInteractionEvent(POST, MEMBER, PostInteractionEvent.Kind.HEART, 1));
+        assertThat(pending.hasPending()).isFalse();
+    }
+
+    @Test
+    void recordAfterAppliedBatchRebasesCount() {
+        PendingInteractions pending = open(8);
+        jdbc.postIdByComment.put(7L, POST);
+
+        pending.record(InteractionKind.COMMENT_HEART, 7L, MEMBER, true, () -> false);
+        pending.apply();
+        assertThat(events).containsExactly(new CommentReactionEvent(7L, POST, MEMBER, 1));
+
+        // 반영 뒤에는 DB 가 켜진 상태이므로 끄면 -1
+        pending.record(InteractionKind.COMMENT_HEART, 7L, MEMBER, null, () -> jdbc.rows.contains("comment_reaction:7:10"));
+        assertThat(pending.stateOr(InteractionKind.COMMENT_HEART, 7L, MEMBER, true)).isFalse();
+        assertThat(pending.pendingDelta(InteractionKind.COMMENT_HEART, 7L)).isEqualTo(-1L);
+
+        pending.apply();
+        assertThat(jdbc.rows).isEmpty();
+        assertThat(events).last().isEqualTo(new CommentReactionEvent(7L, POST, MEMBER, -1));
+        assertThat(pending.pendingDelta(InteractionKind.COMMENT_HEART, 7L)).isZero();
+    }
+
+    @Test
+    void drainsInlineWhenJournalIsFull() {
+        PendingInteractions pending = open(2);
+
+        pending.record(InteractionKind.POST_HEART, POST, 1L, true, () -> false);
+        pending.record(InteractionKind.POST_HEART, POST, 2L, true, () -> false);
+        // 세 번째는 저널이 가득 차 직접 비운 뒤 기록된다
+        pending.record(InteractionKind.POST_HEART, POST, 3L, true, () -> false);
+
+        assertThat(jdbc.rows).containsExactlyInAnyOrder("post_reaction:1:1", "post_reaction:1:2");
+        assertThat(pending.stateOr(InteractionKind.POST_HEART, POST, 1L, false)).isFalse(); // 반영돼 overlay 에서 빠졌다
+        assertThat(pending.stateOr(InteractionKind.POST_HEART, POST, 3L, false)).isTrue();
+        assertThat(pending.pendingDelta(InteractionKind.POST_HEART, POST)).isEqualTo(1L);
+    }
+
+    @Test
+    void dropsRowsForDeletedTargetsWithoutDelta() {
+        PendingInteractions pending = open(8);
+        jdbc.deletedPosts.add(99L);
+
+        pending.record(InteractionKind.POST_HEART, POST, MEMBER, true, () -> false);
+        pending.record(InteractionKind.POST_HEART, 99L, MEMBER, true, () -> false);
+        pending.apply();
+
+        assertThat(jdbc.rows).containsExactly("post_reaction:1:10");
+        assertThat(events).containsExactly(new PostInteractionEvent(POST, MEMBER, PostInteractionEvent.Kind.HEART, 1));
+        assertThat(pending.hasPending()).isFalse();
+        assertThat(pending.pendingDelta(InteractionKind.POST_HEART, 99L)).isZero();
+    }
+
+    @Test
+    void replaysUnappliedEntriesAfterRestart() throws IOException {
+        Path file = dir.resolve("journal.dat");
+        try (InteractionJournal journal = new InteractionJournal(file, 8, false)) {
+            journal.append(InteractionKind.POST_HEART, POST, 1L, true);
+            journal.append(InteractionKind.POST_BOOKMARK, POST, 2L, true);
+        }
+        // 반영 트랜잭션은 커밋됐지만 applied 표시 전에 죽은 경우: 같은 행을 다시 써도 증감이 두 번 나가지 않는다
+        jdbc.rows.add("post_reaction:1:1");
+
+        PendingInteractions pending = open(8);
+        assertThat(pending.stateOr(InteractionKind.POST_BOOKMARK, POST, 2L, false)).isTrue();
+
+        pending.apply();
+
+        assertThat(jdbc.rows).containsExactlyInAnyOrder("post_reaction:1:1", "post_bookmark:1:2");
+        assertThat(events).containsExactly(new PostInteractionEvent(POST, 2L, PostInteractionEvent.Kind.BOOKMARK, 1));
+        assertThat(pending.hasPending()).isFalse();
+    }
+
+    private PendingInteractions open(int capacity) {
+        PendingInteractions pending = new PendingInteractions(jdbc, transactions, events::add,
+                true, dir.resolve("journal.dat").toString(), capacity, false, 1000, 60_000L);
+        pending.open();
+        return pending;
+    }
+
+    /** post_reaction / post_bookmark / comment_reaction 행을 "테이블:대상:회원" 으로 들고 영향 행 수를 돌려준다 */
+    private static class FakeJdbc extends JdbcTemplate {
+
+        final Set<String> rows = new HashSet<>();
+        final Set<Long> deletedPosts = new HashSet<>();
+        final Map<Long, Long> postIdByComment = new HashMap<>();
+        int updates;
+
+        @Override
+        public int update(String sql, Object... args) {
+            updates++;
+            String table = sql.contains("comment_reaction") ? "comment_reaction"
+                    : sql.contains("post_bookmark") ? "post_bookmark" : "post_reaction";
+            // 인자는 (회원, 대상) 순
+            String row = table + ":" + args[1] + ":" + args[0];
+            if (sql.startsWith("INSERT")) {
+                // INSERT ... SELECT FROM post: 지워진 게시글이면 고를 행이 없어 영향 행 0
+                if (!table.startsWith("comment") && deletedPosts.contains((Long) args[1])) return 0;
+                return rows.add(row) ? 1 : 0;
+            }
+            return rows.remove(row) ? 1 : 0;
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            // 댓글 → 게시글 id 조회만 쓰인다
+            for (Object id : args) {
+                Long postId = postIdByComment.get((Long) id);
+                if (postId == null) continue;
+                try {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong(1)).thenReturn((Long) id);
+                    when(rs.getLong(2)).thenReturn(postId);
+                    rch.processRow(rs);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    /** 롤백하면 FakeJdbc 의 행을 트랜잭션 시작 시점으로 되돌린다 */
+    private class FakeTransactions implements PlatformTransactionManager {
+
+        private final Deque<Set<String>> snapshots = new ArrayDeque<>();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            snapshots.push(new HashSet<>(jdbc.rows));
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            snapshots.pop();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            jdbc.rows.clear();
+            jdbc.rows.addAll(snapshots.pop());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package rebound.backend.post.recommend;
+
+import org.junit.jupiter.api.Test;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.event.PostInteractionEvent;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 관심사/반응 기록으로 만든 선호도가 정규화되고, 최근 반응일수록 크게 반영되는지 확인
+ */
+class AffinityProfileTest {
+
+    private static final long DAY = 24L * 60 * 60 * 1000;
+    private static final long NOW = 1_000L * DAY;
+
+    private static RecommendationCandidate post(long postId, SubCategory sub, long... tagIds) {
+        return new RecommendationCandidate(postId, 99L, sub.getMainCategory(), sub, tagIds, NOW, 0L);
+    }
+
+    @Test
+    void interestsOnlyGiveEqualMainWeights() {
+        AffinityProfile profile = AffinityProfile.build(
+                List.of(MainCategory.JOB_PREP, MainCategory.HEALTH), List.of(), Map.of(), NOW);
+
+        assertThat(profile.main(MainCategory.JOB_PREP)).isEqualTo(1.0);
+        assertThat(profile.main(MainCategory.HEALTH)).isEqualTo(1.0);
+        assertThat(profile.main(MainCategory.FINANCE)).isZero();
+        assertThat(profile.preferredCategories()).containsExactly(MainCategory.JOB_PREP, MainCategory.HEALTH);
+        assertThat(profile.tags(new long[]{1L})).isZero();
+    }
+
+    @Test
+    void recentInteractionsWeighMoreAndSeenPostsAreRecorded() {
+        Map<Long, RecommendationCandidate> posts = Map.of(
+                1L, post(1L, SubCategory.JOB_SELF_INTRO, 10L),
+                2L, post(2L, SubCategory.BURNOUT, 20L));
+        List<AffinityProfile.Interaction> interactions = List.of(
+                new AffinityProfile.Interaction(1L, PostInteractionEvent.Kind.HEART, NOW),
+                // 반감기(30일) 한 번 지난 같은 종류 반응은 절반만
+                new AffinityProfile.Interaction(2L, PostInteractionEvent.Kind.HEART, NOW - 30 * DAY),
+                // 사라진 글: 학습에서는 빠지고 본 글 목록에는 남는다
+                new AffinityProfile.Interaction(3L, PostInteractionEvent.Kind.BOOKMARK, NOW));
+
+        AffinityProfile profile = AffinityProfile.build(List.of(), interactions, posts, NOW);
+
+        assertThat(profile.main(MainCategory.JOB_PREP)).isEqualTo(1.0);
+        assertThat(profile.main(MainCategory.HEALTH)).isCloseTo(0.5, within(1e-9));
+        assertThat(profile.sub(SubCategory.BURNOUT)).isCloseTo(0.5, within(1e-9));
+        assertThat(profile.tags(new long[]{10L, 20L})).isCloseTo(0.75, within(1e-9));
+        assertThat(profile.seen(1L)).isTrue();
+        assertThat(profile.seen(3L)).isTrue();
+        assertThat(profile.seen(4L)).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package rebound.backend.post.recommend;
+
+import org.junit.jupiter.api.Test;
+import rebound.backend.category.entity.MainCategory;
+import rebound.backend.category.entity.SubCategory;
+import rebound.backend.post.event.PostInteractionEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선호 분류 우선 정렬, 본인/이미 반응한 글 제외, (score, postId) 커서로 이어 읽을 때 빠짐/중복이 없는지 확인
+ */
+class RecommendationScorerTest {
+
+    private static final long MEMBER_ID = 1L;
+    private static final long NOW = 1_000_000_000L;
+
+    private static RecommendationCandidate post(long postId, long authorId, SubCategory sub) {
+        return new RecommendationCandidate(postId, authorId, sub.getMainCategory(), sub, new long[0], NOW, 0L);
+    }
+
+    @Test
+    void prefersAffinityAndSkipsOwnAndSeenPosts() {
+        Map<MainCategory, List<RecommendationCandidate>> pools = Map.of(
+                MainCategory.JOB_PREP, List.of(
+                        post(10L, 2L, SubCategory.JOB_SELF_INTRO),
+                        post(11L, 2L, SubCategory.JOB_PORTFOLIO),
+                        post(12L, MEMBER_ID, SubCategory.JOB_SELF_INTRO)),
+                MainCategory.HEALTH, List.of(post(20L, 2L, SubCategory.BURNOUT)));
+        AffinityProfile profile = AffinityProfile.build(List.of(MainCategory.JOB_PREP, MainCategory.HEALTH),
+                List.of(new AffinityProfile.Interaction(11L, PostInteractionEvent.Kind.HEART, NOW)),
+                Map.of(11L, pools.get(MainCategory.JOB_PREP).get(1)), NOW);
+
+        RecommendationScorer.Ranking ranking = RecommendationScorer.rank(
+                pools, profile, MEMBER_ID, NOW, 0.0, null, null, 10);
+
+        assertThat(ranking.items()).extracting(RecommendationScorer.Scored::postId).containsExactly(10L, 20L);
+        assertThat(ranking.eligible()).isEqualTo(2);
+    }
+
+    @Test
+    void cursorPagesCoverEveryCandidateOnce() {
+        List<RecommendationCandidate> candidates = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            // 같은 점수가 섞이도록 작성 시각을 세 묶음으로
+            candidates.add(new RecommendationCandidate(id, 2L, MainCategory.WORK, SubCategory.values()[0],
+                    new long[0], NOW - (id % 3) * 3_600_000L, id % 5));
+        }
+        Map<MainCategory, List<RecommendationCandidate>> pools = Map.of(MainCategory.WORK, candidates);
+        AffinityProfile profile = AffinityProfile.build(List.of(MainCategory.WORK), List.of(), Map.of(), NOW);
+        double maxLogPopularity = Math.log1p(4);
+
+        List<Long> seen = new ArrayList<>();
+        Double afterScore = null;
+        Long afterPostId = null;
+        while (true) {
+            List<RecommendationScorer.Scored> page = RecommendationScorer.rank(
+                    pools, profile, MEMBER_ID, NOW, maxLogPopularity, afterScore, afterPostId, 7).items();
+            if (page.isEmpty()) break;
+            page.forEach(s -> seen.add(s.postId()));
+            afterScore = page.get(page.size() - 1).score();
+            afterPostId = page.get(page.size() - 1).postId();
+        }
+
+        List<Long> all = RecommendationScorer.rank(pools, profile, MEMBER_ID, NOW, maxLogPopularity, null, null, 100)
+                .items().stream().map(RecommendationScorer.Scored::postId).toList();
+        assertThat(seen).hasSize(25).containsExactlyElementsOf(all);
+    }
+}
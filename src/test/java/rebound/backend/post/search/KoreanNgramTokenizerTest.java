@@ -0,0 +1,40 @@
+package rebound.backend.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 질의 토큰이 항상 색인 토큰 안에 들어 있어, 짧은 한글/영단어 앞부분 질의도 걸리는지 확인
+ */
+class KoreanNgramTokenizerTest {
+
+    @Test
+    void queryUsesBigramsOrSingleSyllable() {
+        assertThat(KoreanNgramTokenizer.tokenize("취업 실패")).containsExactly("취업", "실패");
+        assertThat(KoreanNgramTokenizer.tokenize("재수생")).containsExactly("재수", "수생");
+        assertThat(KoreanNgramTokenizer.tokenize("꿈")).containsExactly("꿈");
+    }
+
+    @Test
+    void indexAddsUnigramsAndEdgeGrams() {
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("재수생"))
+                .containsExactly("재", "수", "생", "재수", "수생");
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex("Java21"))
+                .containsExactly("j", "ja", "jav", "java", "java2", "java21");
+    }
+
+    @Test
+    void normalizesCaseAndWidthAndSplitsMixedScripts() {
+        assertThat(KoreanNgramTokenizer.tokenize("ＳＰＲＩＮＧ부트!")).containsExactly("spring", "부트");
+        assertThat(KoreanNgramTokenizer.tokenize("  ...  ")).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void longWordsAreCutAtMaxEdge() {
+        String word = "a".repeat(KoreanNgramTokenizer.MAX_EDGE + 5);
+        assertThat(KoreanNgramTokenizer.tokenize(word)).containsExactly("a".repeat(KoreanNgramTokenizer.MAX_EDGE));
+        assertThat(KoreanNgramTokenizer.tokenizeForIndex(word)).hasSize(KoreanNgramTokenizer.MAX_EDGE);
+    }
+}
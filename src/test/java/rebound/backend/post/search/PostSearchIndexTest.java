@@ -0,0 +1,71 @@
+package rebound.backend.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BM25 색인의 AND 매칭, 필드 가중치, 부분 질의, 갱신/삭제, 페이지 구간 확인
+ */
+class PostSearchIndexTest {
+
+    private static PostSearchIndex.IndexedDoc doc(long postId, String title, String body, String... tags) {
+        return PostSearchIndex.analyze(postId, title, List.of(body), List.of(tags));
+    }
+
+    @Test
+    void matchesAllTermsAndRanksTitleAboveBody() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.upsert(doc(1L, "면접 탈락 후기", "다시 준비합니다"));
+        index.upsert(doc(2L, "오늘 하루", "면접에서 탈락했다"));
+        index.upsert(doc(3L, "면접 준비", "합격했다"));
+
+        PostSearchIndex.SearchHits hits = index.search("면접 탈락", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.postIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shortHangulAndWordPrefixQueriesMatch() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.upsert(doc(1L, "꿈을 잃었다", "", "spring"));
+        index.upsert(doc(2L, "개발자 취업", "Kotlin 으로 이직"));
+
+        assertThat(index.search("꿈", 0, 10).postIds()).containsExactly(1L);
+        assertThat(index.search("spr", 0, 10).postIds()).containsExactly(1L);
+        assertThat(index.search("KOT", 0, 10).postIds()).containsExactly(2L);
+        assertThat(index.search("lin", 0, 10).postIds()).isEmpty();
+    }
+
+    @Test
+    void upsertReplacesAndRemoveDropsPostings() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.upsert(doc(1L, "퇴사 결심", ""));
+        index.upsert(doc(1L, "이직 성공", ""));
+
+        assertThat(index.search("퇴사", 0, 10).total()).isZero();
+        assertThat(index.search("이직", 0, 10).postIds()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.size()).isZero();
+        assertThat(index.search("이직", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void pagesByOffsetAndLimitWhileCountingAllHits() {
+        PostSearchIndex index = new PostSearchIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.upsert(doc(id, "실패 " + "극복 ".repeat((int) id), ""));
+        }
+
+        PostSearchIndex.SearchHits first = index.search("실패", 0, 2);
+        PostSearchIndex.SearchHits rest = index.search("실패", 2, 10);
+
+        assertThat(first.total()).isEqualTo(5);
+        assertThat(first.postIds()).hasSize(2).doesNotContainAnyElementsOf(rest.postIds());
+        assertThat(rest.postIds()).hasSize(3);
+    }
+}
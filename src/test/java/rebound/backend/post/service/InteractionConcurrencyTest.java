@@ -0,0 +1,198 @@
+package rebound.backend.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import rebound.backend.post.journal.PendingInteractions;
+import rebound.backend.post.repository.CommentRepository;
+import rebound.backend.post.repository.PostRepository;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 게시글/댓글에 여러 스레드가 동시에 하트/북마크를 켜고 끄고 토글해도
+ * 예외 없이 끝나고, 카운터(컬럼 + 미반영 증감)가 실제 반응 행 수와 같은지 확인한다.
+ * 저널 모드(interaction.journal.enabled=true)는 JournaledInteractionConcurrencyTest 가 같은 시나리오로 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interaction;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "jwt.secret=interaction-test-secret-key-which-is-long-enough-for-hs256",
+        "cloud.aws.credentials.access-key=test",
+        "cloud.aws.credentials.secret-key=test",
+        "cloud.aws.region.static=ap-northeast-2",
+        "cloud.aws.region.auto=false",
+        "cloud.aws.stack.auto=false",
+        "cloud.aws.s3.bucket=test-bucket",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.scope=profile",
+        "post.counter.reconcile-on-startup=false",
+        "post.counter.flush-interval-ms=3600000",
+        "comment.like-count.flush-interval-ms=3600000",
+        "comment.like-count.verify-interval-ms=3600000",
+        "search.index.dir=${java.io.tmpdir}/rebound-test-search-index"
+})
+class InteractionConcurrencyTest {
+
+    private static final long POST_ID = 1L;
+    private static final long IDEMPOTENT_POST_ID = 2L; // 테스트끼리 미반영 증감이 섞이지 않도록 따로
+    private static final long COMMENT_ID = 1L;
+    private static final int MEMBERS = 20;
+    private static final int THREADS = 32;
+    private static final int OPS_PER_THREAD = 200;
+
+    @Autowired InteractionService interactionService;
+    @Autowired CommentService commentService;
+    @Autowired PostCounterService postCounterService;
+    @Autowired CommentLikeCounter commentLikeCounter;
+    @Autowired PendingInteractions pendingInteractions;
+    @Autowired PostRepository postRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        for (long id = 1; id <= MEMBERS; id++) {
+            jdbc.update("INSERT INTO member (member_id, nickname, login_id, age, provider) VALUES (?, ?, ?, 20, 'LOCAL_LOGIN')",
+                    id, "회원" + id, "test" + id);
+        }
+        for (long postId : List.of(POST_ID, IDEMPOTENT_POST_ID)) {
+            jdbc.update("""
+                INSERT INTO post (post_id, member_id, main_category, sub_category, title, is_anonymous,
+                                  created_at, updated_at, status, like_count, bookmark_count, comment_count, popularity_score)
+                VALUES (?, 1, 'ADMISSION', 'ADMISSION_STRATEGY_ERROR', '동시성', FALSE,
+                        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PUBLIC', 0, 0, 0, 0)
+                """, postId);
+        }
+        jdbc.update("""
+                INSERT INTO comment (comment_id, post_id, member_id, content, is_anonymous, like_count, status, created_at, updated_at)
+                VALUES (?, ?, 1, '댓글', FALSE, 0, 'PUBLIC', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, COMMENT_ID, POST_ID);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        pendingInteractions.apply();
+        postCounterService.flush();
+        commentLikeCounter.flush();
+        for (String table : List.of("comment_reaction", "comment", "post_reaction", "post_bookmark", "post", "member")) {
+            jdbc.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void mixedOperationsFromManyThreadsKeepCountersConsistent() throws Exception {
+        Queue<Throwable> errors = hammer(THREADS, OPS_PER_THREAD, random -> {
+            long member = 1 + random.nextInt(MEMBERS);
+            login(member);
+            switch (random.nextInt(9)) {
+                case 0 -> interactionService.setHeart(POST_ID);
+                case 1 -> interactionService.unsetHeart(POST_ID);
+                case 2 -> interactionService.toggleHeart(POST_ID);
+                case 3 -> interactionService.setBookmark(POST_ID);
+                case 4 -> interactionService.unsetBookmark(POST_ID);
+                case 5 -> interactionService.toggleBookmark(POST_ID);
+                case 6 -> commentService.setHeart(COMMENT_ID);
+                case 7 -> commentService.unsetHeart(COMMENT_ID);
+                default -> commentService.toggleHeart(COMMENT_ID);
+            }
+        });
+        pendingInteractions.apply(); // 저널 모드면 쌓인 기록을 반영 (꺼져 있으면 아무 일도 없다)
+
+        assertThat(errors).isEmpty();
+        assertThat(likeCount(POST_ID)).isEqualTo(rows("SELECT COUNT(*) FROM post_reaction WHERE post_id = ?", POST_ID));
+        assertThat(bookmarkCount()).isEqualTo(rows("SELECT COUNT(*) FROM post_bookmark WHERE post_id = ?", POST_ID));
+        long commentHearts = rows("SELECT COUNT(*) FROM comment_reaction WHERE comment_id = ?", COMMENT_ID);
+        assertThat(commentLikeCount()).isEqualTo(commentHearts);
+
+        // 모아 둔 증감을 반영한 뒤에도, 보정기가 돌아도 값이 그대로여야 한다
+        commentLikeCounter.flush();
+        assertThat(commentLikeCounter.pending(COMMENT_ID)).isZero();
+        assertThat(commentLikeCounter.verifySample()).isZero();
+        assertThat(commentLikeCount()).isEqualTo(commentHearts);
+    }
+
+    @Test
+    void repeatedSetAndUnsetFromOneMemberAreIdempotent() throws Exception {
+        Queue<Throwable> errors = hammer(THREADS, 20, random -> {
+            login(1L);
+            assertThat(interactionService.setHeart(IDEMPOTENT_POST_ID).state()).isTrue();
+        });
+        pendingInteractions.apply();
+        assertThat(errors).isEmpty();
+        assertThat(rows("SELECT COUNT(*) FROM post_reaction WHERE post_id = ?", IDEMPOTENT_POST_ID)).isEqualTo(1L);
+        assertThat(likeCount(IDEMPOTENT_POST_ID)).isEqualTo(1L);
+
+        errors = hammer(THREADS, 20, random -> {
+            login(1L);
+            assertThat(interactionService.unsetHeart(IDEMPOTENT_POST_ID).state()).isFalse();
+        });
+        pendingInteractions.apply();
+        assertThat(errors).isEmpty();
+        assertThat(rows("SELECT COUNT(*) FROM post_reaction WHERE post_id = ?", IDEMPOTENT_POST_ID)).isZero();
+        assertThat(likeCount(IDEMPOTENT_POST_ID)).isZero();
+    }
+
+    private interface Op {
+        void run(ThreadLocalRandom random);
+    }
+
+    private static Queue<Throwable> hammer(int threads, int opsPerThread, Op op) throws InterruptedException {
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        op.run(ThreadLocalRandom.current());
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        return errors;
+    }
+
+    private static void login(long memberId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                String.valueOf(memberId), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private long likeCount(long postId) {
+        return postRepository.findLikeCount(postId).orElse(0L) + postCounterService.pendingLikes(postId);
+    }
+
+    private long bookmarkCount() {
+        return postRepository.findBookmarkCount(POST_ID).orElse(0L) + postCounterService.pendingBookmarks(POST_ID);
+    }
+
+    private long commentLikeCount() {
+        return commentRepository.findLikeRow(COMMENT_ID).orElseThrow().getLikeCount()
+                + commentLikeCounter.pending(COMMENT_ID);
+    }
+
+    private long rows(String sql, long id) {
+        return jdbc.queryForObject(sql, Long.class, id);
+    }
+}
@@ -0,0 +1,16 @@
+package rebound.backend.post.service;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * InteractionConcurrencyTest 와 같은 시나리오를 저널 모드로 돌린다.
+ * 요청은 저널에만 기록되고, 테스트가 apply() 로 반영한 뒤 카운터와 반응 행 수를 비교한다.
+ */
+@TestPropertySource(properties = {
+        "interaction.journal.enabled=true",
+        "interaction.journal.file=${java.io.tmpdir}/rebound-test-journal-${random.uuid}.dat",
+        "interaction.journal.capacity=1024",
+        "interaction.journal.flush-interval-ms=3600000"
+})
+class JournaledInteractionConcurrencyTest extends InteractionConcurrencyTest {
+}
@@ -0,0 +1,128 @@
+package rebound.backend.post.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import rebound.backend.member.service.MemberReputationService;
+import rebound.backend.post.dto.PostSummary;
+import rebound.backend.post.journal.PendingInteractions;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 한 페이지를 만드는 데 실제로 나가는 SQL 수가 페이지 크기와 무관하게 고정인지
+ * Hibernate Statistics 의 prepared statement 수로 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hydrator;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostResponseHydrator.class, MemberReputationService.class})
+class PostResponseHydratorTest {
+
+    private static final int POSTS = 30;
+    private static final long VIEWER = 1L;
+    // 카드, 이미지, 태그, 작성자(+프로필 이미지), 내 좋아요, 내 북마크, 랭크 배지
+    private static final long STATEMENTS_PER_PAGE = 7;
+
+    // 미반영 증감은 메모리에만 있으므로 SQL 수와 무관
+    @MockitoBean PostCounterService postCounterService;
+    @MockitoBean PendingInteractions pendingInteractions;
+
+    @Autowired PostResponseHydrator hydrator;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    @BeforeEach
+    void seed() {
+        jdbc.update("INSERT INTO tag (tag_id, name) VALUES (1, '번아웃'), (2, '재도전')");
+        for (long id = 1; id <= POSTS; id++) {
+            // 글마다 작성자가 달라 작성자/배지 조회도 페이지 크기만큼 늘어날 수 있는 상황
+            jdbc.update("INSERT INTO member (member_id, nickname, login_id, age, provider) VALUES (?, ?, ?, 20, 'LOCAL_LOGIN')",
+                    id, "회원" + id, "hydrate" + id);
+            jdbc.update("INSERT INTO member_image (member_image_id, image_url, variants_ready, member_id) VALUES (?, ?, FALSE, ?)",
+                    id, "https://img/member-" + id + ".jpg", id);
+            jdbc.update("""
+                INSERT INTO member_reputation (member_id, hearts_received, bookmarks_received, comments_received, best_post_likes)
+                VALUES (?, ?, 0, 0, 0)
+                """, id, id * 100);
+            jdbc.update("""
+                INSERT INTO post (post_id, member_id, main_category, sub_category, title, is_anonymous,
+                                  created_at, updated_at, status, like_count, bookmark_count, comment_count, popularity_score)
+                VALUES (?, ?, 'ADMISSION', 'ADMISSION_STRATEGY_ERROR', ?, FALSE,
+                        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'PUBLIC', 0, 0, 0, 0)
+                """, id, id, "제목" + id);
+            jdbc.update("INSERT INTO post_content (content_id, post_id, situation_content) VALUES (?, ?, ?)",
+                    id, id, "상황 ".repeat(100));
+            for (int order = 0; order < 2; order++) {
+                jdbc.update("INSERT INTO post_image (post_image_id, image_url, image_order, variants_ready, post_id) VALUES (?, ?, ?, TRUE, ?)",
+                        id * 10 + order, "https://img/post-" + id + "-" + order + ".jpg", order, id);
+            }
+            jdbc.update("INSERT INTO post_tag (post_id, tag_id) VALUES (?, 1), (?, 2)", id, id);
+            jdbc.update("INSERT INTO post_reaction (post_id, member_id, type, created_at) VALUES (?, ?, 'HEART', CURRENT_TIMESTAMP)", id, VIEWER);
+            jdbc.update("INSERT INTO post_bookmark (post_id, member_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)", id, VIEWER);
+        }
+    }
+
+    @Test
+    void statementCountStaysConstantAsPageGrows() {
+        List<Long> all = LongStream.rangeClosed(1, POSTS).boxed().toList();
+
+        long single = statementsFor(List.of(1L));
+        long page = statementsFor(all);
+
+        assertThat(single).isEqualTo(STATEMENTS_PER_PAGE);
+        assertThat(page).isEqualTo(single);
+    }
+
+    @Test
+    void hydratesEveryPartOfTheCard() {
+        List<PostSummary> result = hydrator.hydrate(List.of(3L, 1L), VIEWER);
+
+        assertThat(result).extracting(PostSummary::getPostId).containsExactly(3L, 1L);
+        PostSummary first = result.get(0);
+        assertThat(first.getTags()).containsExactly("번아웃", "재도전");
+        assertThat(first.getImageCount()).isEqualTo(2);
+        assertThat(first.getLiked()).isTrue();
+        assertThat(first.getBookmarked()).isTrue();
+        assertThat(first.getAuthor().isHasRankBadge()).isTrue();
+        assertThat(first.getExcerpt()).hasSize(PostSummary.EXCERPT_LENGTH + 1).endsWith("…");
+    }
+
+    @Test
+    void keepsIdOrderAndSkipsInvisiblePosts() {
+        jdbc.update("UPDATE post SET status = 'HIDDEN' WHERE post_id IN (1, 2)");
+
+        // 31 은 없는 글, 2 는 다른 사람의 비공개 글, 1 은 내(VIEWER) 비공개 글이라 포함
+        List<PostSummary> result = hydrator.hydrate(List.of(3L, 31L, 2L, 1L), VIEWER);
+
+        assertThat(result).extracting(PostSummary::getPostId).containsExactly(3L, 1L);
+    }
+
+    private long statementsFor(List<Long> postIds) {
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<PostSummary> result = hydrator.hydrate(postIds, VIEWER);
+        assertThat(result).hasSize(postIds.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
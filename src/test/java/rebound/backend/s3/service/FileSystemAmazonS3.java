@@ -0,0 +1,133 @@
+package rebound.backend.s3.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 테스트용 AmazonS3: 객체를 로컬 디렉터리에 파일로 저장한다.
+ * putObject 와 멀티파트 업로드(initiate/uploadPart/complete/abort)만 지원한다.
+ */
+class FileSystemAmazonS3 extends AbstractAmazonS3 {
+
+    private final Path root;
+    private final Path uploads;
+    final AtomicInteger putCount = new AtomicInteger();
+    final AtomicInteger partCount = new AtomicInteger();
+    final AtomicInteger abortCount = new AtomicInteger();
+    volatile int failOnPartNumber = -1; // 해당 번호의 파트 업로드를 실패시킨다
+
+    FileSystemAmazonS3(Path root) throws IOException {
+        this.root = root;
+        this.uploads = Files.createDirectories(root.resolve(".uploads"));
+    }
+
+    Path objectPath(String bucket, String key) {
+        return root.resolve(bucket).resolve(key);
+    }
+
+    /** 완료되지 않은(중단되지 않은) 멀티파트 업로드 수 */
+    long pendingUploads() throws IOException {
+        try (Stream<Path> dirs = Files.list(uploads)) {
+            return dirs.count();
+        }
+    }
+
+    @Override
+    public String getRegionName() {
+        return "local";
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        putCount.incrementAndGet();
+        write(request.getInputStream(), objectPath(request.getBucketName(), request.getKey()));
+        return new PutObjectResult();
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createDirectories(uploads.resolve(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        if (request.getPartNumber() == failOnPartNumber) {
+            throw new SdkClientException("파트 업로드 실패 (테스트)");
+        }
+        partCount.incrementAndGet();
+        write(request.getInputStream(),
+                uploads.resolve(request.getUploadId()).resolve(String.format("%05d", request.getPartNumber())));
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Path dir = uploads.resolve(request.getUploadId());
+        Path target = objectPath(request.getBucketName(), request.getKey());
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(target)) {
+                for (PartETag etag : request.getPartETags()) {
+                    Files.copy(dir.resolve(String.format("%05d", etag.getPartNumber())), out);
+                }
+            }
+            deleteRecursively(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CompleteMultipartUploadResult();
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        abortCount.incrementAndGet();
+        try {
+            deleteRecursively(uploads.resolve(request.getUploadId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(InputStream in, Path target) {
+        try (InputStream source = in) {
+            Files.createDirectories(target.getParent());
+            Files.copy(source, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) return;
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+}
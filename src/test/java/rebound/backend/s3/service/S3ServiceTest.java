@@ -0,0 +1,131 @@
+package rebound.backend.s3.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import rebound.backend.s3.dto.UploadResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파일시스템 기반 AmazonS3 로 업로드 경로(단건/멀티파트/동시 업로드/크기 제한) 확인
+ */
+class S3ServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final long MAX_BYTES = 16L * 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private FileSystemAmazonS3 s3;
+    private S3Service service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FileSystemAmazonS3(tempDir);
+        service = new S3Service(s3, event -> {}, BUCKET, MAX_BYTES, 3, 2, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void smallFileIsUploadedWithSinglePut() throws IOException {
+        byte[] data = randomBytes(1024);
+
+        String url = service.uploadFile(new MockMultipartFile("file", "a.jpg", "image/jpeg", data));
+
+        assertThat(s3.putCount.get()).isEqualTo(1);
+        assertThat(s3.partCount.get()).isZero();
+        assertThat(Files.readAllBytes(stored(url))).isEqualTo(data);
+    }
+
+    @Test
+    void largeFileIsUploadedInParts() throws IOException {
+        byte[] data = randomBytes(S3Service.PART_SIZE * 2 + 1234);
+
+        String url = service.uploadFile(new MockMultipartFile("file", "big.jpg", "image/jpeg", data));
+
+        assertThat(s3.putCount.get()).isZero();
+        assertThat(s3.partCount.get()).isEqualTo(3);
+        assertThat(Files.readAllBytes(stored(url))).isEqualTo(data);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() throws IOException {
+        s3.failOnPartNumber = 2;
+        byte[] data = randomBytes(S3Service.PART_SIZE * 2);
+
+        assertThatThrownBy(() -> service.uploadFile(new MockMultipartFile("file", "big.jpg", "image/jpeg", data)))
+                .isInstanceOf(IOException.class);
+        assertThat(s3.abortCount.get()).isEqualTo(1);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void streamLongerThanLimitIsStoppedAndAborted() throws IOException {
+        byte[] data = randomBytes((int) MAX_BYTES + 1);
+
+        assertThatThrownBy(() -> service.uploadStream(new ByteArrayInputStream(data), "image/jpeg", "huge.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(s3.abortCount.get()).isEqualTo(1);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void uploadAllReturnsPerFileResultsInInputOrder() throws IOException {
+        List<MultipartFile> files = new ArrayList<>();
+        files.add(new MockMultipartFile("files", "1.jpg", "image/jpeg", randomBytes(100)));
+        files.add(new MockMultipartFile("files", "2.jpg", "image/jpeg", randomBytes((int) MAX_BYTES + 1)));
+        files.add(new MockMultipartFile("files", "3.jpg", "image/jpeg", randomBytes(S3Service.PART_SIZE + 1)));
+
+        List<UploadResult> results = service.uploadAll(files);
+
+        assertThat(results).extracting(UploadResult::fileName).containsExactly("1.jpg", "2.jpg", "3.jpg");
+        assertThat(results).extracting(UploadResult::success).containsExactly(true, false, true);
+        // 크기 초과 파일은 S3 호출 없이 바로 실패
+        assertThat(s3.putCount.get()).isEqualTo(1);
+        assertThat(s3.partCount.get()).isEqualTo(2);
+        assertThat(Files.readAllBytes(stored(results.get(2).url()))).isEqualTo(files.get(2).getBytes());
+    }
+
+    @Test
+    void tooManyFilesAreRejectedUpFront() {
+        S3Service limited = new S3Service(s3, event -> {}, BUCKET, MAX_BYTES, 2, 2, 4);
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            files.add(new MockMultipartFile("files", i + ".jpg", "image/jpeg", randomBytes(10)));
+        }
+
+        assertThatThrownBy(() -> limited.uploadAll(files)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(s3.putCount.get()).isZero();
+        limited.shutdown();
+    }
+
+    private Path stored(String url) {
+        String key = url.substring(url.indexOf(".amazonaws.com/") + ".amazonaws.com/".length());
+        return s3.objectPath(BUCKET, key);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}